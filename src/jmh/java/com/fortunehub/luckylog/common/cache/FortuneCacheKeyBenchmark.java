@@ -0,0 +1,105 @@
+package com.fortunehub.luckylog.common.cache;
+
+import com.fortunehub.luckylog.domain.fortune.CalendarType;
+import com.fortunehub.luckylog.domain.fortune.CityType;
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.domain.fortune.GenderType;
+import com.fortunehub.luckylog.domain.fortune.PeriodType;
+import com.fortunehub.luckylog.domain.fortune.TimeType;
+import com.fortunehub.luckylog.dto.request.fortune.FortuneRequest;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 기존 문자열 key와 FortuneCacheKey의 생성 + 조회 비용 비교 (./gradlew jmh, -prof gc로 할당량 확인)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FortuneCacheKeyBenchmark {
+
+  private FortuneRequest request;
+  private Map<String, Object> stringKeyed;
+  private Map<FortuneCacheKey, Object> packedKeyed;
+
+  @Setup
+  public void setUp() {
+    request = new FortuneRequest(
+        GenderType.FEMALE, CalendarType.SOLAR, 1995, 2, 16,
+        TimeType.TIME_11_30, CityType.SEOUL,
+        List.of(FortuneType.LOVE, FortuneType.MONEY, FortuneType.HEALTH),
+        PeriodType.MONTHLY, 2025, null);
+
+    stringKeyed = new HashMap<>();
+    packedKeyed = new HashMap<>();
+    for (FortuneType fortune : request.getFortunes()) {
+      stringKeyed.put(stringKey(request, List.of(fortune)), fortune);
+      packedKeyed.put(request.cacheKey(fortune), fortune);
+    }
+  }
+
+  @Benchmark
+  public Object stringKeyLookup() {
+    Object found = null;
+    for (FortuneType fortune : request.getFortunes()) {
+      found = stringKeyed.get(stringKey(request, List.of(fortune)));
+    }
+    return found;
+  }
+
+  @Benchmark
+  public Object packedKeyLookup() {
+    Object found = null;
+    for (FortuneType fortune : request.getFortunes()) {
+      found = packedKeyed.get(request.cacheKey(fortune));
+    }
+    return found;
+  }
+
+  @Benchmark
+  public String stringKeyToRedisKey() {
+    return stringKey(request, request.getFortunes());
+  }
+
+  @Benchmark
+  public String packedKeyToRedisKey() {
+    return request.cacheKey().toHex();
+  }
+
+  // 변경 전 FortuneRequest.cacheKey 구현
+  private static String stringKey(FortuneRequest request, List<FortuneType> fortunes) {
+    String fortuneKeys = fortunes.stream()
+                                 .map(Enum::name)
+                                 .sorted()
+                                 .collect(Collectors.joining(","));
+    String timeKey = request.getTime() == null ? TimeType.UNKNOWN.name() : request.getTime().name();
+    String cityKey = request.getCity() == null ? CityType.UNKNOWN.name() : request.getCity().name();
+
+    return String.join(":",
+        request.getGender().name(),
+        request.getCalendar().name(),
+        request.getYear().toString(),
+        request.getMonth().toString(),
+        request.getDay().toString(),
+        timeKey,
+        cityKey,
+        fortuneKeys,
+        request.getPeriod().name(),
+        request.getFortuneResultYear().toString()
+    );
+  }
+}
@@ -0,0 +1,10 @@
+package com.fortunehub.luckylog.client;
+
+import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import java.util.List;
+
+// LLM 호출 한 번의 생성 결과
+// 출력 토큰 한도에 걸려 JSON 배열이 닫히지 않았으면 truncated, 이때 responses는 완성된 객체까지만 포함
+public record FortuneGeneration(List<FortuneResponse> responses, boolean truncated) {
+
+}
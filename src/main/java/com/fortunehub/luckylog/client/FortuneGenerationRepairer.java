@@ -0,0 +1,98 @@
+package com.fortunehub.luckylog.client;
+
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.domain.fortune.PeriodValue;
+import com.fortunehub.luckylog.dto.request.fortune.FortuneRequest;
+import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+// 출력이 잘리면(배열이 닫히지 않음) 모든 기간이 완성된 운세 종류만 사용하고,
+// 완성되지 않은 운세 종류나 응답에서 빠진 운세 종류만 한 번 더 생성
+// 다시 생성해도 빠진 운세 종류가 있으면 일부만 응답하지 않고 GEMINI_EMPTY_RESPONSE
+@Slf4j
+@Component
+public class FortuneGenerationRepairer {
+
+  public List<FortuneResponse> generate(
+      FortuneRequest request, Function<FortuneRequest, FortuneGeneration> generate) {
+    FortuneGeneration generation = generate.apply(request);
+    List<FortuneType> incomplete = generation.truncated()
+        ? incompleteTypes(request, generation.responses())
+        : missingTypes(request, generation.responses());
+    if (incomplete.isEmpty()) {
+      return generation.responses();
+    }
+
+    List<FortuneResponse> responses = withoutTypes(generation.responses(), incomplete);
+    FortuneRequest missingRequest = request.withFortunes(incomplete);
+    log.warn("[API 응답 {}] - [완성되지 않은 운세 종류만 다시 생성] | key={} | fortuneTypes={}",
+        generation.truncated() ? "잘림" : "누락",
+        request.cacheKey(), missingRequest.getFortuneTypesAsString());
+
+    FortuneGeneration repaired = generate.apply(missingRequest);
+    List<FortuneType> stillIncomplete = repaired.truncated()
+        ? incompleteTypes(missingRequest, repaired.responses())
+        : List.of();
+    responses.addAll(withoutTypes(repaired.responses(), stillIncomplete));
+
+    if (responses.isEmpty()) {
+      throw new CustomException(ErrorCode.GEMINI_RESPONSE_PARSE_ERROR);
+    }
+
+    List<FortuneType> stillMissing = missingTypes(request, responses);
+    if (!stillMissing.isEmpty()) {
+      log.warn("[API 응답 누락] - [다시 생성해도 운세 종류 없음] | key={} | fortuneTypes={}",
+          request.cacheKey(), stillMissing);
+      throw new CustomException(ErrorCode.GEMINI_EMPTY_RESPONSE);
+    }
+    return responses;
+  }
+
+  // 응답에 결과가 하나도 없는 운세 종류
+  private List<FortuneType> missingTypes(
+      FortuneRequest request, List<FortuneResponse> responses) {
+    Set<FortuneType> answered = responses.stream()
+                                         .map(FortuneResponse::getFortune)
+                                         .filter(Objects::nonNull)
+                                         .collect(Collectors.toCollection(
+                                             () -> EnumSet.noneOf(FortuneType.class)));
+    return request.getFortunes().stream()
+                  .filter(fortune -> !answered.contains(fortune))
+                  .toList();
+  }
+
+  private List<FortuneType> incompleteTypes(
+      FortuneRequest request, List<FortuneResponse> responses) {
+    Map<FortuneType, Set<PeriodValue>> periods = new EnumMap<>(FortuneType.class);
+    responses.forEach(response -> {
+      if (response.getFortune() != null && response.getPeriodValue() != null) {
+        periods.computeIfAbsent(response.getFortune(), f -> EnumSet.noneOf(PeriodValue.class))
+               .add(response.getPeriodValue());
+      }
+    });
+
+    int periodCount = request.getPeriod().getPeriodCount();
+    return request.getFortunes().stream()
+                  .filter(fortune -> periods.getOrDefault(fortune, Set.of()).size() < periodCount)
+                  .toList();
+  }
+
+  private List<FortuneResponse> withoutTypes(
+      List<FortuneResponse> responses, List<FortuneType> excluded) {
+    return responses.stream()
+                    .filter(response -> !excluded.contains(response.getFortune()))
+                    .collect(Collectors.toCollection(ArrayList::new));
+  }
+}
@@ -0,0 +1,467 @@
+package com.fortunehub.luckylog.client;
+
+import com.fortunehub.luckylog.client.gemini.FortuneShardPlanner;
+import com.fortunehub.luckylog.common.cache.DistributedSingleFlight;
+import com.fortunehub.luckylog.common.cache.FortuneCacheKey;
+import com.fortunehub.luckylog.common.cache.FortuneFailureCache;
+import com.fortunehub.luckylog.common.cache.FortuneResultLocalCache;
+import com.fortunehub.luckylog.common.cache.FortuneResultRefresher;
+import com.fortunehub.luckylog.common.cache.FortuneResultRedisCache;
+import com.fortunehub.luckylog.common.limit.RequestPriority;
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.domain.fortune.PeriodValue;
+import com.fortunehub.luckylog.dto.request.fortune.FortuneRequest;
+import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+// 운세 생성 흐름(로컬/Redis 캐시, single-flight, 분할 호출, 캐시 갱신)을 담당하고,
+// 잘리거나 빠진 운세 종류의 재생성은 FortuneGenerationRepairer에 맡기며,
+// 실제 생성 호출은 FortuneModelRouter가 고른 LLM provider로 보냄 (캐시된 결과는 provider와 무관하게 공유)
+@Slf4j
+@Service
+public class FortuneGenerationService implements FortuneResultRefresher {
+
+  private final FortuneResultLocalCache fortuneResultCache;
+  private final FortuneResultRedisCache fortuneResultRedisCache;
+  private final DistributedSingleFlight singleFlight;
+  private final FortuneFailureCache failureCache;
+  private final FortuneShardPlanner shardPlanner;
+  private final FortuneGenerationRepairer repairer;
+  private final FortuneModelRouter modelRouter;
+  private final Executor geminiCallExecutor;
+  private final int shardParallelism;
+
+  public FortuneGenerationService(
+      FortuneResultLocalCache fortuneResultCache,
+      FortuneResultRedisCache fortuneResultRedisCache,
+      DistributedSingleFlight singleFlight,
+      FortuneFailureCache failureCache,
+      FortuneShardPlanner shardPlanner,
+      FortuneGenerationRepairer repairer,
+      FortuneModelRouter modelRouter,
+      @Qualifier("geminiCallExecutor") Executor geminiCallExecutor,
+      @Value("${gemini.shard.parallelism:4}") int shardParallelism
+  ) {
+    this.fortuneResultCache = fortuneResultCache;
+    this.fortuneResultRedisCache = fortuneResultRedisCache;
+    this.singleFlight = singleFlight;
+    this.failureCache = failureCache;
+    this.shardPlanner = shardPlanner;
+    this.repairer = repairer;
+    this.modelRouter = modelRouter;
+    this.geminiCallExecutor = geminiCallExecutor;
+    this.shardParallelism = shardParallelism;
+  }
+
+  public List<FortuneResponse> generateFortune(FortuneRequest request, RequestPriority priority) {
+    return generateFortune(request, priority, response -> {
+    });
+  }
+
+  // 준비된 운세 종류(캐시 적중, 먼저 끝난 분할 요청)의 결과는 onProgress로 먼저 전달하고,
+  // 모두 준비되면 요청한 운세 순서로 정렬한 전체 결과를 반환
+  public List<FortuneResponse> generateFortune(
+      FortuneRequest request, RequestPriority priority, Consumer<FortuneResponse> onProgress) {
+
+    long start = System.currentTimeMillis();
+    FortuneCacheKey key = request.cacheKey();
+
+    try {
+      Map<FortuneType, FortuneCacheKey> typeKeys = typeKeys(request);
+      Consumer<List<FortuneResponse>> onTypeLoaded = oncePerType(onProgress);
+
+      // 운세 종류별로 캐시하고, 없는 종류만 모아서 한 번에 생성
+      Map<FortuneCacheKey, List<FortuneResponse>> cached = fortuneResultCache.getAll(
+          typeKeys.values(),
+          missingKeys -> loadMissing(request, priority, typeKeys, missingKeys, onTypeLoaded)
+      );
+
+      return inRequestedOrder(typeKeys, cached);
+    } finally {
+      long end = System.currentTimeMillis();
+      log.info("[Fortune] 처리 완료 - key={}, elapsed={}ms",
+          key,
+          end - start);
+    }
+  }
+
+  private Map<FortuneType, FortuneCacheKey> typeKeys(FortuneRequest request) {
+    Map<FortuneType, FortuneCacheKey> typeKeys = new LinkedHashMap<>(); // 요청한 운세 순서 유지
+    request.getFortunes()
+           .forEach(fortune -> typeKeys.put(fortune, request.cacheKey(fortune)));
+    return typeKeys;
+  }
+
+  private List<FortuneResponse> inRequestedOrder(
+      Map<FortuneType, FortuneCacheKey> typeKeys,
+      Map<FortuneCacheKey, List<FortuneResponse>> results) {
+    return typeKeys.values().stream()
+                   .map(results::get)
+                   .filter(Objects::nonNull)
+                   .flatMap(List::stream)
+                   .toList();
+  }
+
+  private Map<FortuneCacheKey, List<FortuneResponse>> loadMissing(
+      FortuneRequest request,
+      RequestPriority priority,
+      Map<FortuneType, FortuneCacheKey> typeKeys,
+      Set<? extends FortuneCacheKey> missingKeys,
+      Consumer<List<FortuneResponse>> onTypeLoaded
+  ) {
+    Map<FortuneCacheKey, List<FortuneResponse>> loaded = new HashMap<>();
+    List<FortuneType> missingTypes = new ArrayList<>();
+
+    typeKeys.forEach((fortune, typeKey) -> {
+      if (!missingKeys.contains(typeKey)) {
+        // 로컬 캐시에 있는 종류는 생성을 기다리지 않고 먼저 전달
+        Optional.ofNullable(fortuneResultCache.getIfPresent(typeKey)).ifPresent(onTypeLoaded);
+        return;
+      }
+
+      fortuneResultRedisCache.get(typeKey)
+                             .ifPresentOrElse(
+                                 responses -> {
+                                   loaded.put(typeKey, responses);
+                                   onTypeLoaded.accept(responses);
+                                 },
+                                 () -> missingTypes.add(fortune));
+    });
+
+    if (!missingTypes.isEmpty()) {
+      FortuneRequest missingRequest = request.withFortunes(missingTypes);
+      Map<FortuneCacheKey, List<FortuneResponse>> generated = singleFlight.execute(
+          missingRequest.cacheKey().toHex(),
+          () -> findAllInRedis(missingRequest),
+          () -> loadFromGemini(missingRequest, priority, onTypeLoaded));
+      // 다른 노드가 생성한 결과는 받은 뒤 한 번에 전달 (직접 생성한 종류는 이미 전달됨)
+      generated.values().forEach(onTypeLoaded);
+      loaded.putAll(generated);
+    }
+
+    return loaded;
+  }
+
+  // 운세 종류별 결과를 종류마다 한 번만 전달 (분할 요청은 여러 스레드에서 동시에 완료됨)
+  private Consumer<List<FortuneResponse>> oncePerType(Consumer<FortuneResponse> onProgress) {
+    Set<FortuneType> published = ConcurrentHashMap.newKeySet();
+    return responses -> {
+      if (responses.isEmpty() || !published.add(responses.get(0).getFortune())) {
+        return;
+      }
+      synchronized (published) {
+        responses.forEach(onProgress);
+      }
+    };
+  }
+
+  private Optional<Map<FortuneCacheKey, List<FortuneResponse>>> findAllInRedis(FortuneRequest request) {
+    Map<FortuneCacheKey, List<FortuneResponse>> found = new HashMap<>();
+
+    for (FortuneType fortune : request.getFortunes()) {
+      FortuneCacheKey typeKey = request.cacheKey(fortune);
+      Optional<List<FortuneResponse>> responses = fortuneResultRedisCache.get(typeKey);
+      if (responses.isEmpty()) {
+        return Optional.empty();
+      }
+      found.put(typeKey, responses.get());
+    }
+
+    return Optional.of(found);
+  }
+
+  private Map<FortuneCacheKey, List<FortuneResponse>> loadFromGemini(
+      FortuneRequest request, RequestPriority priority,
+      Consumer<List<FortuneResponse>> onTypeLoaded) {
+    List<FortuneRequest> shards = shardPlanner.plan(request);
+    if (shards.size() == 1) {
+      return loadShard(request, priority, onTypeLoaded);
+    }
+
+    log.info("[Cache MISS] Gemini 분할 호출 - key={}, shards={}", request.cacheKey(), shards.size());
+    return loadShards(shards, priority, onTypeLoaded);
+  }
+
+  // 분할 요청을 최대 shardParallelism개까지 동시에 실행 (호출 스레드도 작업자로 참여)
+  // 하나라도 실패하면 남은 분할 요청은 시작하지 않고 예외를 전달 (이미 성공한 결과는 Redis에 저장됨)
+  private Map<FortuneCacheKey, List<FortuneResponse>> loadShards(
+      List<FortuneRequest> shards, RequestPriority priority,
+      Consumer<List<FortuneResponse>> onTypeLoaded) {
+    Queue<FortuneRequest> remaining = new ConcurrentLinkedQueue<>(shards);
+    Map<FortuneCacheKey, List<FortuneResponse>> loaded = new ConcurrentHashMap<>();
+
+    Runnable worker = () -> {
+      try {
+        FortuneRequest shard;
+        while ((shard = remaining.poll()) != null) {
+          loaded.putAll(loadShard(shard, priority, onTypeLoaded));
+        }
+      } catch (RuntimeException e) {
+        remaining.clear();
+        throw e;
+      }
+    };
+
+    List<CompletableFuture<Void>> helpers = new ArrayList<>();
+    for (int i = 1; i < Math.min(shardParallelism, shards.size()); i++) {
+      try {
+        helpers.add(CompletableFuture.runAsync(worker, geminiCallExecutor));
+      } catch (RejectedExecutionException e) {
+        break; // 스레드가 부족하면 있는 작업자로만 처리
+      }
+    }
+
+    worker.run();
+
+    try {
+      CompletableFuture.allOf(helpers.toArray(CompletableFuture[]::new)).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+
+    return loaded;
+  }
+
+  private Map<FortuneCacheKey, List<FortuneResponse>> loadShard(
+      FortuneRequest request, RequestPriority priority,
+      Consumer<List<FortuneResponse>> onTypeLoaded) {
+    log.info("[Cache MISS] Gemini 호출 - key={}", request.cacheKey());
+
+    Map<FortuneCacheKey, List<FortuneResponse>> loaded;
+    try {
+      loaded = storeByType(request,
+          repairer.generate(request, target -> callModel(target, priority)));
+    } catch (CallNotPermittedException e) {
+      loaded = findStale(request);
+    }
+    loaded.values().forEach(onTypeLoaded);
+    return loaded;
+  }
+
+  // 최근 빈 응답/파싱 오류가 난 요청은 호출하지 않고 같은 오류로 즉시 실패
+  private FortuneGeneration callModel(FortuneRequest request, RequestPriority priority) {
+    FortuneCacheKey key = request.cacheKey();
+    failureCache.throwIfRecentlyFailed(key);
+
+    try {
+      return modelRouter.generate(request, priority);
+    } catch (CustomException e) {
+      failureCache.record(key, e);
+      throw e;
+    }
+  }
+
+  // 로컬 캐시 refresh-ahead 시 백그라운드에서 호출 (FortuneResultCacheLoader)
+  // 결과 연도 안에서는 사용자에게 보여준 운세가 바뀌지 않도록 Redis 값을 그대로 사용
+  // (key에 결과 연도가 있고 로컬/Redis 캐시 모두 연도가 끝나면 만료되므로, 갱신 대상은 항상 결과 연도 안의 값)
+  // Redis에 결과가 없을 때(Redis 유실, content-version 변경)만 낮은 우선순위로 다시 생성
+  // 서킷이 열려 있거나 생성에 실패하면 예외를 그대로 던져 기존 값을 유지
+  @Override
+  public List<FortuneResponse> refresh(FortuneCacheKey typeKey) {
+    Optional<List<FortuneResponse>> stored = fortuneResultRedisCache.get(typeKey);
+    if (stored.isPresent()) {
+      return stored.get();
+    }
+
+    return singleFlight.execute(
+        typeKey.toHex(),
+        () -> fortuneResultRedisCache.get(typeKey),
+        () -> regenerate(typeKey));
+  }
+
+  private List<FortuneResponse> regenerate(FortuneCacheKey typeKey) {
+    FortuneRequest request = FortuneRequest.from(typeKey);
+    log.info("[Cache 갱신] Gemini 호출 - key={}", typeKey);
+
+    List<FortuneResponse> generated = repairer.generate(
+        request, target -> callModel(target, RequestPriority.BACKGROUND_REFRESH));
+    List<FortuneResponse> responses = storeByType(request, generated).get(typeKey);
+    if (responses == null) {
+      throw new CustomException(ErrorCode.GEMINI_EMPTY_RESPONSE);
+    }
+    return responses;
+  }
+
+  // 다시 생성한 운세 종류는 이미 전달한 기간을 건너뛰고 나머지만 전달
+  private Consumer<FortuneResponse> skipDelivered(Consumer<FortuneResponse> onResponse) {
+    Map<FortuneType, Set<PeriodValue>> delivered = new EnumMap<>(FortuneType.class);
+    return response -> {
+      FortuneType fortune = response.getFortune();
+      PeriodValue periodValue = response.getPeriodValue();
+      if (fortune == null || periodValue == null) {
+        onResponse.accept(response);
+        return;
+      }
+
+      if (delivered.computeIfAbsent(fortune, f -> EnumSet.noneOf(PeriodValue.class))
+                   .add(periodValue)) {
+        onResponse.accept(response);
+      }
+    };
+  }
+
+  // 서킷이 열려 있는 동안에는 Gemini를 호출하지 않고, 만료된 결과라도 있으면 대체 응답으로 사용
+  private Map<FortuneCacheKey, List<FortuneResponse>> findStale(FortuneRequest request) {
+    Map<FortuneCacheKey, List<FortuneResponse>> stale = new HashMap<>();
+
+    for (FortuneType fortune : request.getFortunes()) {
+      FortuneCacheKey typeKey = request.cacheKey(fortune);
+      Optional<List<FortuneResponse>> responses = fortuneResultRedisCache.getStale(typeKey);
+      if (responses.isEmpty()) {
+        log.warn("[Gemini 서킷 OPEN] - [대체 응답 없음] | key={}", request.cacheKey());
+        throw new CustomException(ErrorCode.GEMINI_CIRCUIT_OPEN);
+      }
+      stale.put(typeKey, responses.get());
+    }
+
+    log.warn("[Gemini 서킷 OPEN] - [만료된 캐시로 대체 응답] | key={}", request.cacheKey());
+    return stale;
+  }
+
+  // 생성 결과를 운세 종류별로 나누어 Redis에 저장하고, 로컬 캐시에 넣을 Map으로 반환
+  private Map<FortuneCacheKey, List<FortuneResponse>> storeByType(
+      FortuneRequest request, List<FortuneResponse> generated) {
+
+    Map<FortuneType, List<FortuneResponse>> responsesByType =
+        generated.stream()
+                 .filter(response -> response.getFortune() != null)
+                 .collect(Collectors.groupingBy(FortuneResponse::getFortune));
+
+    Map<FortuneCacheKey, List<FortuneResponse>> loaded = new HashMap<>();
+    request.getFortunes().forEach(fortune -> {
+      List<FortuneResponse> responses = responsesByType.get(fortune);
+      if (responses == null) {
+        log.warn("[API 응답 누락] - [요청한 운세 종류 없음] | fortuneType={}", fortune);
+        return;
+      }
+
+      FortuneCacheKey typeKey = request.cacheKey(fortune);
+      fortuneResultRedisCache.put(typeKey, responses);
+      loaded.put(typeKey, responses);
+    });
+
+    return loaded;
+  }
+
+  // 받은 결과는 onResponse로 바로 전달하고, 모두 받으면 요청한 운세 순서로 정렬한 전체 결과를 반환
+  public List<FortuneResponse> streamFortune(
+      FortuneRequest request, RequestPriority priority, Consumer<FortuneResponse> onResponse) {
+
+    long start = System.currentTimeMillis();
+    FortuneCacheKey key = request.cacheKey();
+
+    try {
+      Map<FortuneType, FortuneCacheKey> typeKeys = typeKeys(request);
+      Map<FortuneCacheKey, List<FortuneResponse>> results = new HashMap<>();
+      List<FortuneType> missingTypes = new ArrayList<>();
+
+      // 캐시된 운세 종류는 바로 전달하고, 없는 종류만 스트리밍으로 생성
+      typeKeys.forEach((fortune, typeKey) -> {
+        List<FortuneResponse> cached = findCached(typeKey);
+        if (cached == null) {
+          missingTypes.add(fortune);
+          return;
+        }
+        results.put(typeKey, cached);
+        cached.forEach(onResponse);
+      });
+
+      if (!missingTypes.isEmpty()) {
+        results.putAll(streamMissing(request.withFortunes(missingTypes), priority, onResponse));
+      }
+
+      return inRequestedOrder(typeKeys, results);
+
+    } finally {
+      log.info("[Fortune] 스트리밍 처리 완료 - key={}, elapsed={}ms",
+          key,
+          System.currentTimeMillis() - start);
+    }
+  }
+
+  // 같은 요청을 여러 노드에서 동시에 스트리밍하지 않도록 single-flight로 생성하고,
+  // 분할 계획에 따라 나눈 요청은 요청한 운세 순서대로 전달되도록 하나씩 스트리밍
+  private Map<FortuneCacheKey, List<FortuneResponse>> streamMissing(
+      FortuneRequest missingRequest, RequestPriority priority, Consumer<FortuneResponse> onResponse) {
+    Consumer<FortuneResponse> deliver = skipDelivered(onResponse);
+
+    Map<FortuneCacheKey, List<FortuneResponse>> loaded = singleFlight.execute(
+        missingRequest.cacheKey().toHex(),
+        () -> findAllInRedis(missingRequest),
+        () -> streamFromModel(missingRequest, priority, deliver));
+
+    // 다른 노드가 생성한 결과나 만료된 대체 결과는 받은 뒤 전달 (이미 전달한 기간은 건너뜀)
+    missingRequest.getFortunes().forEach(fortune -> loaded.getOrDefault(
+        missingRequest.cacheKey(fortune), List.of()).forEach(deliver));
+    fortuneResultCache.putAll(loaded);
+    return loaded;
+  }
+
+  private Map<FortuneCacheKey, List<FortuneResponse>> streamFromModel(
+      FortuneRequest request, RequestPriority priority, Consumer<FortuneResponse> deliver) {
+    log.info("[Cache MISS] Gemini 스트리밍 호출 - key={}", request.cacheKey());
+
+    Map<FortuneCacheKey, List<FortuneResponse>> loaded = new HashMap<>();
+    for (FortuneRequest shard : shardPlanner.plan(request)) {
+      try {
+        loaded.putAll(storeByType(shard,
+            repairer.generate(shard, target -> streamModel(target, priority, deliver))));
+      } catch (CallNotPermittedException e) {
+        loaded.putAll(findStale(shard));
+      }
+    }
+    return loaded;
+  }
+
+  private FortuneGeneration streamModel(
+      FortuneRequest request, RequestPriority priority, Consumer<FortuneResponse> deliver) {
+    FortuneCacheKey key = request.cacheKey();
+    failureCache.throwIfRecentlyFailed(key);
+
+    try {
+      return modelRouter.generateStream(request, priority, deliver);
+    } catch (CustomException e) {
+      failureCache.record(key, e);
+      throw e;
+    }
+  }
+
+  private List<FortuneResponse> findCached(FortuneCacheKey typeKey) {
+    List<FortuneResponse> cached = fortuneResultCache.getIfPresent(typeKey);
+    if (cached != null) {
+      return cached;
+    }
+
+    Optional<List<FortuneResponse>> fromRedis = fortuneResultRedisCache.get(typeKey);
+    fromRedis.ifPresent(responses -> fortuneResultCache.put(typeKey, responses));
+    return fromRedis.orElse(null);
+  }
+}
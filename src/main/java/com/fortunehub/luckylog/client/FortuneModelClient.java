@@ -0,0 +1,22 @@
+package com.fortunehub.luckylog.client;
+
+import com.fortunehub.luckylog.common.limit.RequestPriority;
+import com.fortunehub.luckylog.domain.fortune.AIType;
+import com.fortunehub.luckylog.dto.request.fortune.FortuneRequest;
+import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import java.util.function.Consumer;
+
+// 운세를 생성하는 LLM provider (Gemini 등), Bean으로 등록하면 FortuneModelRouter가 라우팅 대상에 포함
+// 캐시, 잘린 응답 재생성 등은 호출하는 쪽(FortuneGenerationService)에서 공통으로 처리하고,
+// 구현체는 한 번의 생성 호출과 provider별 장애 대응(동시 호출 제한, 재시도, 서킷 브레이커 등)만 담당
+// 과부하로 호출하지 못하면 FortuneModelRouter.isOverload에 해당하는 예외를 던져 다른 provider로 전환
+public interface FortuneModelClient {
+
+  AIType type();
+
+  FortuneGeneration generate(FortuneRequest request, RequestPriority priority);
+
+  // 객체가 완성될 때마다 onResponse로 전달, 이미 전달한 결과가 중복될 수 있으므로 재시도하지 않음
+  FortuneGeneration generateStream(
+      FortuneRequest request, RequestPriority priority, Consumer<FortuneResponse> onResponse);
+}
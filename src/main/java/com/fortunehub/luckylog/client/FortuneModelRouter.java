@@ -0,0 +1,249 @@
+package com.fortunehub.luckylog.client;
+
+import com.fortunehub.luckylog.common.limit.RequestPriority;
+import com.fortunehub.luckylog.domain.fortune.AIType;
+import com.fortunehub.luckylog.dto.request.fortune.FortuneRequest;
+import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 등록된 LLM provider 중 최근 응답이 가장 빠르고 오류가 적은 provider로 호출하고,
+// 과부하로 호출하지 못하면 다음 provider로 전환 (한 provider의 과부하가 장애가 아닌 지연 증가로 끝나도록)
+// [선택 기준] 과부하 후 cooldown 중이 아닌 provider 우선, 그다음 사용자가 선택한 AI(FortuneRequest.ai),
+// 그다음 score가 낮은 순 (같으면 등록 순서)
+// - score = 최근 성공 호출 p95 * (1 + errorPenalty * 최근 실패율)
+// - 표본이 부족하거나 staleAfter 동안 호출이 없던 provider는 defaultLatency로 계산 (등록 순서로 선택)
+// 응답 내용의 문제(빈 응답, 파싱 오류)는 다른 provider로 전환하지 않고 그대로 전달
+@Slf4j
+@Component
+public class FortuneModelRouter {
+
+  private final List<Provider> providers;
+  private final MeterRegistry meterRegistry;
+  private final int minSamples;
+  private final long defaultLatencyNanos;
+  private final double errorPenalty;
+  private final long overloadCooldownNanos;
+  private final long staleAfterNanos;
+  private final Ticker ticker;
+
+  @Autowired
+  public FortuneModelRouter(
+      List<FortuneModelClient> clients,
+      MeterRegistry meterRegistry,
+      @Value("${llm.routing.window-size:100}") int windowSize,
+      @Value("${llm.routing.min-samples:10}") int minSamples,
+      @Value("${llm.routing.default-latency:10s}") Duration defaultLatency,
+      @Value("${llm.routing.error-penalty:4.0}") double errorPenalty,
+      @Value("${llm.routing.overload-cooldown:30s}") Duration overloadCooldown,
+      @Value("${llm.routing.stale-after:2m}") Duration staleAfter
+  ) {
+    this(clients, meterRegistry, windowSize, minSamples, defaultLatency, errorPenalty,
+        overloadCooldown, staleAfter, Ticker.systemTicker());
+  }
+
+  FortuneModelRouter(
+      List<FortuneModelClient> clients,
+      MeterRegistry meterRegistry,
+      int windowSize,
+      int minSamples,
+      Duration defaultLatency,
+      double errorPenalty,
+      Duration overloadCooldown,
+      Duration staleAfter,
+      Ticker ticker
+  ) {
+    if (clients.isEmpty()) {
+      throw new IllegalStateException("등록된 LLM provider가 없습니다.");
+    }
+
+    this.providers = clients.stream()
+                            .map(client -> new Provider(client, windowSize))
+                            .toList();
+    this.meterRegistry = meterRegistry;
+    this.minSamples = minSamples;
+    this.defaultLatencyNanos = defaultLatency.toNanos();
+    this.errorPenalty = errorPenalty;
+    this.overloadCooldownNanos = overloadCooldown.toNanos();
+    this.staleAfterNanos = staleAfter.toNanos();
+    this.ticker = ticker;
+
+    providers.forEach(provider ->
+        Gauge.builder("llm.router.score", provider, p -> p.score(ticker.read()) / 1_000_000.0)
+             .tag("provider", provider.name)
+             .baseUnit("milliseconds")
+             .register(meterRegistry));
+  }
+
+  public FortuneGeneration generate(FortuneRequest request, RequestPriority priority) {
+    return route(request, client -> client.generate(request, priority), () -> true);
+  }
+
+  // 일부 결과를 이미 전달했으면 다른 provider의 결과와 섞이지 않도록 전환하지 않음
+  public FortuneGeneration generateStream(
+      FortuneRequest request, RequestPriority priority, Consumer<FortuneResponse> onResponse) {
+    AtomicBoolean delivered = new AtomicBoolean();
+    Consumer<FortuneResponse> tracking = response -> {
+      delivered.set(true);
+      onResponse.accept(response);
+    };
+
+    return route(request,
+        client -> client.generateStream(request, priority, tracking), () -> !delivered.get());
+  }
+
+  // 과부하, 서킷 OPEN, 동시 호출 제한, 사용 한도 초과, 통신 오류는 provider 문제로 보고 전환
+  public static boolean isOverload(Throwable throwable) {
+    if (throwable instanceof CallNotPermittedException) {
+      return true;
+    }
+    if (throwable instanceof CustomException e) {
+      return e.getErrorCode() == ErrorCode.GEMINI_OVERLOAD
+          || e.getErrorCode() == ErrorCode.GEMINI_UNKNOWN_ERROR
+          || e.getErrorCode() == ErrorCode.GEMINI_CIRCUIT_OPEN
+          || e.getErrorCode() == ErrorCode.GEMINI_CONCURRENCY_LIMITED
+          || e.getErrorCode() == ErrorCode.GEMINI_QUOTA_EXHAUSTED;
+    }
+    return false;
+  }
+
+  // 모든 provider가 과부하면 가장 먼저 선택한 provider의 예외를 전달 (서킷 OPEN이면 만료된 캐시로 대체 응답)
+  private FortuneGeneration route(
+      FortuneRequest request,
+      Function<FortuneModelClient, FortuneGeneration> call,
+      BooleanSupplier canFailover) {
+    RuntimeException failure = null;
+    List<Provider> candidates = candidates(request.getAi());
+
+    for (int i = 0; i < candidates.size(); i++) {
+      Provider provider = candidates.get(i);
+      long start = ticker.read();
+      try {
+        FortuneGeneration generation = call.apply(provider.client);
+        long end = ticker.read();
+        provider.recordSuccess(end - start, end);
+        return generation;
+
+      } catch (RuntimeException e) {
+        boolean overload = isOverload(e);
+        provider.recordFailure(ticker.read(), overload ? overloadCooldownNanos : 0);
+        if (!overload || !canFailover.getAsBoolean()) {
+          throw e;
+        }
+
+        if (i + 1 < candidates.size()) {
+          log.warn("[LLM provider 전환] - [과부하] | from={} | to={} | message={}",
+              provider.name, candidates.get(i + 1).name, e.getMessage());
+          meterRegistry.counter("llm.router.failover", "provider", provider.name).increment();
+        }
+
+        if (failure == null) {
+          failure = e;
+        } else {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+
+    throw failure;
+  }
+
+  private List<Provider> candidates(AIType preferred) {
+    if (providers.size() == 1) {
+      return providers;
+    }
+
+    // 정렬 중에 통계가 바뀌지 않도록 먼저 계산
+    long now = ticker.read();
+    return providers.stream()
+                    .map(provider -> new Candidate(
+                        provider, provider.isCoolingDown(now),
+                        provider.client.type() != preferred, provider.score(now)))
+                    .sorted(Comparator.comparing(Candidate::coolingDown)
+                                      .thenComparing(Candidate::notPreferred)
+                                      .thenComparingDouble(Candidate::score))
+                    .map(Candidate::provider)
+                    .toList();
+  }
+
+  private record Candidate(
+      Provider provider, boolean coolingDown, boolean notPreferred, double score) {
+
+  }
+
+  // provider별 최근 호출 결과 (원형 버퍼, 실패한 호출의 지연 시간은 -1)
+  private final class Provider {
+
+    private final FortuneModelClient client;
+    private final String name;
+    private final long[] latencies;
+    private int count;
+    private int index;
+    private long lastCalledAt;
+    private boolean coolingDown;
+    private long cooldownEndsAt;
+
+    private Provider(FortuneModelClient client, int windowSize) {
+      this.client = client;
+      this.name = client.type().name();
+      this.latencies = new long[windowSize];
+    }
+
+    synchronized void recordSuccess(long latencyNanos, long now) {
+      record(latencyNanos, now);
+      coolingDown = false;
+    }
+
+    synchronized void recordFailure(long now, long cooldownNanos) {
+      record(-1, now);
+      if (cooldownNanos > 0) {
+        coolingDown = true;
+        cooldownEndsAt = now + cooldownNanos;
+      }
+    }
+
+    synchronized boolean isCoolingDown(long now) {
+      return coolingDown && now - cooldownEndsAt < 0;
+    }
+
+    synchronized double score(long now) {
+      if (count == 0 || now - lastCalledAt > staleAfterNanos) {
+        return defaultLatencyNanos;
+      }
+
+      long[] succeeded = Arrays.stream(latencies, 0, count)
+                               .filter(latency -> latency >= 0)
+                               .sorted()
+                               .toArray();
+      double errorRate = 1.0 - (double) succeeded.length / count;
+      long p95 = succeeded.length < minSamples
+          ? defaultLatencyNanos
+          : succeeded[(int) Math.ceil(succeeded.length * 0.95) - 1];
+
+      return p95 * (1 + errorPenalty * errorRate);
+    }
+
+    private void record(long latencyNanos, long now) {
+      latencies[index] = latencyNanos;
+      index = (index + 1) % latencies.length;
+      count = Math.min(count + 1, latencies.length);
+      lastCalledAt = now;
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.fortunehub.luckylog.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+// LLM 응답 텍스트를 FortuneResponse 목록으로 변환 (모든 provider가 같은 JSON 배열 형식으로 응답)
+// 응답에 정의되지 않은 필드가 섞여도 생성 결과를 버리지 않음
+@Slf4j
+@Component
+public class FortuneResponseParser {
+
+  private final ObjectReader fortuneListReader;
+  private final ObjectReader fortuneReader;
+
+  public FortuneResponseParser(ObjectMapper objectMapper) {
+    this.fortuneListReader = objectMapper
+        .readerFor(new TypeReference<List<FortuneResponse>>() {
+        })
+        .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    this.fortuneReader = objectMapper
+        .readerFor(FortuneResponse.class)
+        .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+  }
+
+  // 응답 문자열을 복사하지 않고 배열 시작 위치부터 바로 파싱 (배열 뒤의 ``` 등은 읽지 않음)
+  // 배열이 닫히지 않은 채 끝났으면 완성된 객체까지만 사용
+  public FortuneGeneration parse(String jsonResponse) {
+
+    int start = jsonResponse.indexOf('[');
+    if (start < 0) {
+      log.error("[응답 파싱 실패] - [JSON 배열 없음] | length={}", jsonResponse.length());
+      throw new CustomException(ErrorCode.GEMINI_RESPONSE_PARSE_ERROR);
+    }
+
+    try (Reader reader = new StringReader(jsonResponse)) {
+      reader.skip(start);
+      List<FortuneResponse> responses = fortuneListReader.readValue(reader);
+      responses.forEach(FortuneResponseParser::format);
+
+      return new FortuneGeneration(responses, false);
+
+    } catch (Exception e) {
+      List<FortuneResponse> partial = parseTruncated(jsonResponse);
+      if (!partial.isEmpty()) {
+        return new FortuneGeneration(partial, true);
+      }
+
+      log.error("[응답 파싱 실패] - [JSON 변환 오류] | message={}", e.getMessage(), e);
+      throw new CustomException(ErrorCode.GEMINI_RESPONSE_PARSE_ERROR, e);
+    }
+  }
+
+  // 스트리밍 응답용, 객체가 완성될 때마다 변환하여 전달
+  public FortuneStreamParser streamParser(Consumer<FortuneResponse> onResponse)
+      throws IOException {
+    return new FortuneStreamParser(fortuneReader, response -> {
+      format(response);
+      onResponse.accept(response);
+    });
+  }
+
+  private List<FortuneResponse> parseTruncated(String jsonResponse) {
+    List<FortuneResponse> responses = new ArrayList<>();
+    try {
+      FortuneStreamParser parser = streamParser(responses::add);
+      parser.feed(jsonResponse);
+      return parser.isArrayClosed() ? List.of() : responses;
+    } catch (IOException e) {
+      return List.of(); // 잘린 것이 아니라 형식 자체가 잘못된 응답
+    }
+  }
+
+  private static void format(FortuneResponse response) {
+    if (response.getResult() != null) {
+      response.setResult(response.getResult().replace(" | ", "\n"));
+    }
+  }
+}
@@ -0,0 +1,118 @@
+package com.fortunehub.luckylog.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+// 스트리밍 응답 조각을 이어 붙이지 않고 바로 파싱하여, 배열 안의 객체가 닫히는 즉시 전달
+// 한 번의 스트리밍 응답에만 사용 (thread-safe 하지 않음), FortuneResponseParser.streamParser로 생성
+public class FortuneStreamParser {
+
+  private final ObjectReader fortuneReader;
+  private final Consumer<FortuneResponse> onResponse;
+
+  private final JsonParser parser;
+  private final ByteArrayFeeder feeder;
+
+  private boolean arrayStarted;
+  private boolean arrayClosed;
+  private int depth;
+  private TokenBuffer current;
+
+  FortuneStreamParser(ObjectReader fortuneReader, Consumer<FortuneResponse> onResponse)
+      throws IOException {
+    this.fortuneReader = fortuneReader;
+    this.onResponse = onResponse;
+    this.parser = fortuneReader.getFactory().createNonBlockingByteArrayParser();
+    this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+  }
+
+  public void feed(String chunk) throws IOException {
+    if (arrayClosed || chunk == null || chunk.isEmpty()) {
+      return; // 배열이 끝난 뒤의 ``` 등은 무시
+    }
+
+    String text = chunk;
+    if (!arrayStarted) {
+      int start = chunk.indexOf('[');
+      if (start < 0) {
+        return; // 배열 시작 전의 ```json 등은 무시
+      }
+      arrayStarted = true;
+      text = chunk.substring(start);
+    }
+
+    byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+    feeder.feedInput(bytes, 0, bytes.length);
+    drain();
+  }
+
+  public void finish() throws IOException {
+    if (!arrayClosed) {
+      feeder.endOfInput();
+      drain();
+    }
+
+    if (!arrayClosed) {
+      throw new IOException("JSON 배열이 완성되지 않은 채 스트림이 종료되었습니다.");
+    }
+  }
+
+  // 출력 토큰 한도 등으로 잘린 응답인지 확인 (false면 지금까지 전달한 객체까지만 완성됨)
+  public boolean isArrayClosed() {
+    return arrayClosed;
+  }
+
+  private void drain() throws IOException {
+    JsonToken token;
+    while (!arrayClosed
+        && (token = parser.nextToken()) != null
+        && token != JsonToken.NOT_AVAILABLE) {
+      handle(token);
+    }
+  }
+
+  private void handle(JsonToken token) throws IOException {
+    switch (token) {
+      case START_ARRAY, START_OBJECT -> {
+        if (depth == 1 && token == JsonToken.START_OBJECT) {
+          current = new TokenBuffer(parser);
+        }
+        if (current != null) {
+          current.copyCurrentEvent(parser);
+        }
+        depth++;
+      }
+      case END_ARRAY, END_OBJECT -> {
+        depth--;
+        if (current != null) {
+          current.copyCurrentEvent(parser);
+          if (depth == 1) {
+            emit(current);
+            current = null;
+          }
+        }
+        if (depth == 0) {
+          arrayClosed = true;
+        }
+      }
+      default -> {
+        if (current != null) {
+          current.copyCurrentEvent(parser);
+        }
+      }
+    }
+  }
+
+  private void emit(TokenBuffer buffer) throws IOException {
+    try (JsonParser objectParser = buffer.asParser(fortuneReader)) {
+      onResponse.accept(fortuneReader.readValue(objectParser));
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package com.fortunehub.luckylog.client.gemini;
+
+import com.fortunehub.luckylog.domain.fortune.PeriodType;
+import com.fortunehub.luckylog.dto.request.fortune.FortuneRequest;
+import com.google.genai.types.GenerateContentConfig;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 응답 시간은 출력 토큰 수에 비례하므로, 주기와 운세 종류 수로 출력 분량의 상한을 정함
+// - 결과 하나당 글자 수를 프롬프트로 안내 (FortuneResultItem.content 길이 1000자 이내)
+// - maxOutputTokens = 결과 수 * (글자 수 * 글자당 토큰 + JSON 항목 토큰) * 여유분
+// 한도에 걸려 잘린 응답은 FortuneGenerationService에서 완성된 운세 종류만 사용하고 나머지를 다시 생성
+@Component
+public class FortuneOutputBudget {
+
+  private static final int ITEM_OVERHEAD_TOKENS = 24; // fortune, periodValue 등 JSON 구조
+  private static final int ARRAY_OVERHEAD_TOKENS = 16;
+  private static final double HEADROOM = 1.1;
+
+  private final boolean enabled;
+  private final double tokensPerChar;
+  private final int maxOutputTokens;
+  private final Map<PeriodType, Integer> itemChars = new EnumMap<>(PeriodType.class);
+  private final Map<PeriodType, String> guidances = new EnumMap<>(PeriodType.class);
+
+  public FortuneOutputBudget(
+      @Value("${gemini.output.enabled:true}") boolean enabled,
+      @Value("${gemini.output.item-chars.monthly:250}") int monthlyItemChars,
+      @Value("${gemini.output.item-chars.quarterly:500}") int quarterlyItemChars,
+      @Value("${gemini.output.item-chars.yearly:900}") int yearlyItemChars,
+      @Value("${gemini.output.tokens-per-char:1.0}") double tokensPerChar,
+      @Value("${gemini.output.max-output-tokens:16384}") int maxOutputTokens
+  ) {
+    this.enabled = enabled;
+    this.tokensPerChar = tokensPerChar;
+    this.maxOutputTokens = maxOutputTokens;
+
+    itemChars.put(PeriodType.MONTHLY, monthlyItemChars);
+    itemChars.put(PeriodType.QUARTERLY, quarterlyItemChars);
+    itemChars.put(PeriodType.YEARLY, yearlyItemChars);
+    itemChars.forEach((period, chars) -> guidances.put(period,
+        "\n[출력 분량] 각 result는 공백 포함 " + chars + "자 이내로 작성하세요.\n"));
+  }
+
+  public int maxOutputTokens(FortuneRequest request) {
+    PeriodType period = request.getPeriod();
+    int items = request.getFortunes().size() * period.getPeriodCount();
+    double itemTokens = itemChars.get(period) * tokensPerChar + ITEM_OVERHEAD_TOKENS;
+
+    long budget = (long) Math.ceil(items * itemTokens * HEADROOM) + ARRAY_OVERHEAD_TOKENS;
+    return (int) Math.min(maxOutputTokens, budget);
+  }
+
+  // 호출 1회의 토큰 사용량 추정 (입력 프롬프트 + 출력 상한), 전역 사용 한도 예약에 사용
+  public long estimatedTokens(FortuneRequest request, int promptChars) {
+    return (long) Math.ceil(promptChars * tokensPerChar) + maxOutputTokens(request);
+  }
+
+  // 프롬프트 끝에 붙이는 결과 길이 안내
+  public String guidance(FortuneRequest request) {
+    return enabled ? guidances.get(request.getPeriod()) : "";
+  }
+
+  public GenerateContentConfig applyTo(GenerateContentConfig config, FortuneRequest request) {
+    if (!enabled) {
+      return config;
+    }
+    return config.toBuilder()
+                 .maxOutputTokens(maxOutputTokens(request))
+                 .build();
+  }
+}
@@ -0,0 +1,131 @@
+package com.fortunehub.luckylog.client.gemini;
+
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.domain.fortune.PeriodType;
+import com.fortunehub.luckylog.dto.request.fortune.FortuneRequest;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// 운세 분석 프롬프트, 요청한 운세 종류/주기의 지시문만 조합하여 입력 토큰을 줄임
+// [구성] header + 운세 종류별 지시문(요청 순서) + 주기별 출력 형식 + 사용자 정보
+// 각 구간은 기동 시 [ANALYSIS_YEAR], [FORTUNE_TYPES] 위치로 미리 나누어 두고, 호출마다 이어 붙이기만 함
+// 운세 종류/주기 지시문이 없으면 header(기존 fortune.prompt 전체)만 사용
+// header의 첫 치환 위치 전까지는 모든 요청에 같으므로 Gemini context cache에 등록할 수 있음 (staticPrefix)
+public class FortunePrompt {
+
+  private static final String ANALYSIS_YEAR = "[ANALYSIS_YEAR]";
+  private static final String FORTUNE_TYPES = "[FORTUNE_TYPES]";
+  private static final int BIRTH_INFO_CAPACITY = 160;
+
+  private final Segment header;
+  private final Map<FortuneType, Segment> typeInstructions = new EnumMap<>(FortuneType.class);
+  private final Map<PeriodType, Segment> periodInstructions = new EnumMap<>(PeriodType.class);
+
+  public FortunePrompt(
+      String header,
+      Map<FortuneType, String> typeInstructions,
+      Map<PeriodType, String> periodInstructions
+  ) {
+    this.header = Segment.compile(header);
+    typeInstructions.forEach(
+        (type, text) -> this.typeInstructions.put(type, Segment.compile(text)));
+    periodInstructions.forEach(
+        (period, text) -> this.periodInstructions.put(period, Segment.compile(text)));
+  }
+
+  public String build(FortuneRequest request) {
+    return build(request, false);
+  }
+
+  // 고정 앞부분이 context cache에 있을 때 나머지 부분만 조합
+  public String buildWithoutStaticPrefix(FortuneRequest request) {
+    return build(request, true);
+  }
+
+  public String staticPrefix() {
+    return header.literals()[0];
+  }
+
+  private String build(FortuneRequest request, boolean withoutStaticPrefix) {
+    Segment period = periodInstructions.get(request.getPeriod());
+
+    int capacity = header.length() + BIRTH_INFO_CAPACITY;
+    for (FortuneType fortune : request.getFortunes()) {
+      Segment instruction = typeInstructions.get(fortune);
+      capacity += instruction == null ? 0 : instruction.length();
+    }
+    capacity += period == null ? 0 : period.length();
+
+    StringBuilder prompt = new StringBuilder(capacity);
+    header.appendTo(prompt, request, withoutStaticPrefix);
+    for (FortuneType fortune : request.getFortunes()) {
+      Segment instruction = typeInstructions.get(fortune);
+      if (instruction != null) {
+        instruction.appendTo(prompt, request, false);
+      }
+    }
+    if (period != null) {
+      period.appendTo(prompt, request, false);
+    }
+    request.appendBirthInfo(prompt);
+
+    return prompt.toString();
+  }
+
+  // 고정 문자열과 치환 위치를 번갈아 보관 (literals.length == placeholders.length + 1)
+  private record Segment(String[] literals, String[] placeholders, int length) {
+
+    static Segment compile(String text) {
+      List<String> literals = new ArrayList<>();
+      List<String> placeholders = new ArrayList<>();
+
+      int position = 0;
+      while (true) {
+        int year = text.indexOf(ANALYSIS_YEAR, position);
+        int types = text.indexOf(FORTUNE_TYPES, position);
+        int next = year < 0 ? types : (types < 0 ? year : Math.min(year, types));
+        if (next < 0) {
+          break;
+        }
+
+        String placeholder = next == year ? ANALYSIS_YEAR : FORTUNE_TYPES;
+        literals.add(text.substring(position, next));
+        placeholders.add(placeholder);
+        position = next + placeholder.length();
+      }
+      literals.add(text.substring(position));
+
+      int length = literals.stream().mapToInt(String::length).sum();
+      return new Segment(
+          literals.toArray(String[]::new), placeholders.toArray(String[]::new), length);
+    }
+
+    void appendTo(StringBuilder prompt, FortuneRequest request, boolean skipFirstLiteral) {
+      for (int i = 0; i < placeholders.length; i++) {
+        if (i > 0 || !skipFirstLiteral) {
+          prompt.append(literals[i]);
+        }
+        if (placeholders[i].equals(ANALYSIS_YEAR)) {
+          prompt.append(request.getFortuneResultYear());
+        } else {
+          appendFortuneTypes(prompt, request);
+        }
+      }
+      if (placeholders.length > 0 || !skipFirstLiteral) {
+        prompt.append(literals[placeholders.length]);
+      }
+    }
+
+    private static void appendFortuneTypes(StringBuilder prompt, FortuneRequest request) {
+      List<FortuneType> fortunes = request.getFortunes();
+      for (int i = 0; i < fortunes.size(); i++) {
+        if (i > 0) {
+          prompt.append(", ");
+        }
+        prompt.append(fortunes.get(i).getTooltip());
+      }
+    }
+  }
+}
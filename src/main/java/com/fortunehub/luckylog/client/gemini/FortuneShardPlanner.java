@@ -0,0 +1,38 @@
+package com.fortunehub.luckylog.client.gemini;
+
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.dto.request.fortune.FortuneRequest;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 생성할 결과 수가 많은 요청을 운세 종류 단위로 나누어 여러 번의 작은 요청으로 분할
+// 출력 토큰 생성 시간이 응답 시간을 좌우하므로, 분할 후 병렬 호출하면 가장 큰 분할 요청만큼만 걸림
+// 결과는 운세 종류별로 캐시되므로 종류 단위로만 나눔 (한 종류의 기간은 나누지 않음)
+@Component
+public class FortuneShardPlanner {
+
+  private final int maxItemsPerShard;
+
+  public FortuneShardPlanner(
+      @Value("${gemini.shard.max-items-per-shard:24}") int maxItemsPerShard) {
+    this.maxItemsPerShard = maxItemsPerShard;
+  }
+
+  public List<FortuneRequest> plan(FortuneRequest request) {
+    List<FortuneType> fortunes = request.getFortunes();
+    int typesPerShard = Math.max(1, maxItemsPerShard / request.getPeriod().getPeriodCount());
+
+    if (fortunes.size() <= typesPerShard) {
+      return List.of(request);
+    }
+
+    List<FortuneRequest> shards = new ArrayList<>();
+    for (int from = 0; from < fortunes.size(); from += typesPerShard) {
+      int to = Math.min(from + typesPerShard, fortunes.size());
+      shards.add(request.withFortunes(List.copyOf(fortunes.subList(from, to))));
+    }
+    return shards;
+  }
+}
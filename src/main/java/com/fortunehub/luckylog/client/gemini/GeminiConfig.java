@@ -1,22 +1,73 @@
 package com.fortunehub.luckylog.client.gemini;
 
+import com.fortunehub.luckylog.common.limit.AdaptiveConcurrencyLimiter;
+import com.fortunehub.luckylog.common.limit.DistributedTokenBucket;
+import com.fortunehub.luckylog.common.resilience.HedgingExecutor;
+import com.fortunehub.luckylog.common.resilience.RetryExecutor;
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.domain.fortune.PeriodType;
+import com.fortunehub.luckylog.domain.fortune.PeriodValue;
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
 import com.google.genai.Client;
 import com.google.genai.types.GenerateContentConfig;
+import com.google.genai.types.Schema;
+import com.google.genai.types.Type;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig.SlidingWindowType;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
+@Slf4j
 @Configuration
 public class GeminiConfig {
 
-  @Value("${gemini.api.key}")
-  private String apiKey;
+  private static final String CIRCUIT_BREAKER_NAME = "gemini";
 
+  // gemini.api.keys(쉼표로 구분)가 없으면 gemini.api.key 하나만 사용
   @Bean
-  public Client client() {
-    return new Client.Builder()
-        .apiKey(apiKey)
-        .build();
+  public GeminiKeyPool geminiKeyPool(
+      MeterRegistry meterRegistry,
+      @Value("${gemini.api.keys:${gemini.api.key}}") String[] apiKeys,
+      @Value("${gemini.api.requests-per-minute:0}") int requestsPerMinute,
+      @Value("${gemini.api.tokens-per-minute:0}") long tokensPerMinute,
+      @Value("${gemini.api.throttle-cooldown:10s}") Duration throttleCooldown,
+      @Value("${gemini.api.max-throttle-cooldown:2m}") Duration maxThrottleCooldown
+  ) {
+    List<Client> clients = Arrays.stream(apiKeys)
+                                 .map(String::trim)
+                                 .filter(key -> !key.isEmpty())
+                                 .distinct()
+                                 .map(key -> new Client.Builder().apiKey(key).build())
+                                 .toList();
+
+    log.info("[Gemini API key 등록] | keys={} | requestsPerMinute={} | tokensPerMinute={}",
+        clients.size(), requestsPerMinute, tokensPerMinute);
+    return new GeminiKeyPool(clients, meterRegistry, requestsPerMinute, tokensPerMinute,
+        throttleCooldown, maxThrottleCooldown);
+  }
+
+  // context cache 관리용 (첫 번째 key)
+  @Bean
+  public Client client(GeminiKeyPool geminiKeyPool) {
+    return geminiKeyPool.primaryClient();
   }
 
   @Bean
@@ -24,6 +75,195 @@ public class GeminiConfig {
     return GenerateContentConfig.builder()
                                 .temperature(0.2f) // 창의성
                                 .topP(0.9f) // 다양성
+                                .responseMimeType("application/json") // 코드 블록 없이 JSON만 응답
+                                .responseSchema(fortuneResponseSchema())
                                 .build();
   }
+
+  // 기본 프롬프트는 fortune-prompts.yaml(fortune.prompts.header/types/periods)에 있고,
+  // 운세 종류(types)/주기(periods)별 지시문을 요청에 맞게 조합
+  // application-prompts.yaml에 기존 fortune.prompt(전체 템플릿)가 있으면 그 템플릿만 그대로 사용
+  @Bean
+  public FortunePrompt fortunePrompt(Environment environment) {
+    Binder binder = Binder.get(environment);
+
+    String template = binder.bind("fortune.prompt", String.class).orElse(null);
+    if (template != null) {
+      log.info("[프롬프트 설정] - [fortune.prompt 전체 템플릿 사용]");
+      return new FortunePrompt(template, Map.of(), Map.of());
+    }
+
+    return new FortunePrompt(
+        binder.bind("fortune.prompts.header", String.class)
+              .orElseThrow(() -> new IllegalStateException(
+                  "fortune.prompts.header 또는 fortune.prompt 설정이 필요합니다.")),
+        binder.bind("fortune.prompts.types", Bindable.mapOf(FortuneType.class, String.class))
+              .orElse(Map.of()),
+        binder.bind("fortune.prompts.periods", Bindable.mapOf(PeriodType.class, String.class))
+              .orElse(Map.of())
+    );
+  }
+
+  // FortuneResponse 배열 형태로 응답하도록 강제 (운세 종류, 기간 값은 정의된 값만 허용)
+  static Schema fortuneResponseSchema() {
+    Schema item = Schema.builder()
+                        .type(Type.Known.OBJECT)
+                        .properties(Map.of(
+                            "fortune", enumSchema(Arrays.stream(FortuneType.values())
+                                                        .map(FortuneType::getJsonKey)
+                                                        .toList()),
+                            "periodValue", enumSchema(Arrays.stream(PeriodValue.values())
+                                                            .map(PeriodValue::getJsonKey)
+                                                            .toList()),
+                            "result", Schema.builder().type(Type.Known.STRING).build()
+                        ))
+                        .required(List.of("fortune", "periodValue", "result"))
+                        .propertyOrdering(List.of("fortune", "periodValue", "result"))
+                        .build();
+
+    return Schema.builder()
+                 .type(Type.Known.ARRAY)
+                 .items(item)
+                 .build();
+  }
+
+  private static Schema enumSchema(List<String> values) {
+    return Schema.builder()
+                 .type(Type.Known.STRING)
+                 .enum_(values)
+                 .build();
+  }
+
+  @Bean
+  public CircuitBreaker geminiCircuitBreaker(
+      MeterRegistry meterRegistry,
+      @Value("${gemini.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+      @Value("${gemini.circuit-breaker.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+      @Value("${gemini.circuit-breaker.slow-call-duration:20s}") Duration slowCallDuration,
+      @Value("${gemini.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+      @Value("${gemini.circuit-breaker.minimum-calls:10}") int minimumCalls,
+      @Value("${gemini.circuit-breaker.open-duration:30s}") Duration openDuration,
+      @Value("${gemini.circuit-breaker.half-open-calls:3}") int halfOpenCalls
+  ) {
+    CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                                                      .slidingWindowType(SlidingWindowType.COUNT_BASED)
+                                                      .slidingWindowSize(slidingWindowSize)
+                                                      .minimumNumberOfCalls(minimumCalls)
+                                                      .failureRateThreshold(failureRateThreshold)
+                                                      .slowCallRateThreshold(slowCallRateThreshold)
+                                                      .slowCallDurationThreshold(slowCallDuration)
+                                                      .waitDurationInOpenState(openDuration)
+                                                      .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                                                      .recordException(GeminiConfig::isUpstreamFailure)
+                                                      .build();
+
+    CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+    // resilience4j.circuitbreaker.state, resilience4j.circuitbreaker.calls 등 상태 지표
+    TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+
+    CircuitBreaker circuitBreaker = registry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+    circuitBreaker.getEventPublisher().onStateTransition(event -> {
+      log.warn("[Gemini 서킷 상태 변경] | transition={}", event.getStateTransition());
+      meterRegistry.counter("gemini.circuitbreaker.transitions",
+                       "from", event.getStateTransition().getFromState().name(),
+                       "to", event.getStateTransition().getToState().name())
+                   .increment();
+    });
+
+    return circuitBreaker;
+  }
+
+  @Bean
+  public AdaptiveConcurrencyLimiter geminiConcurrencyLimiter(
+      MeterRegistry meterRegistry,
+      @Value("${gemini.limiter.initial-limit:10}") int initialLimit,
+      @Value("${gemini.limiter.min-limit:2}") int minLimit,
+      @Value("${gemini.limiter.max-limit:50}") int maxLimit,
+      @Value("${gemini.limiter.backoff-ratio:0.7}") double backoffRatio,
+      @Value("${gemini.limiter.latency-tolerance:2.0}") double latencyTolerance,
+      @Value("${gemini.limiter.baseline-window:500}") int baselineWindow
+  ) {
+    return new AdaptiveConcurrencyLimiter(
+        "gemini.limiter",
+        meterRegistry,
+        // 서킷 OPEN으로 차단된 호출은 Gemini 응답이 아니므로 과부하로 보지 않음
+        e -> !(e instanceof CallNotPermittedException) && isUpstreamFailure(e),
+        initialLimit,
+        minLimit,
+        maxLimit,
+        backoffRatio,
+        latencyTolerance,
+        baselineWindow
+    );
+  }
+
+  // 모든 노드의 모델별 분당 토큰 사용량 합계를 한도 아래로 유지 (tokens-per-minute가 0이면 사용 안 함)
+  @Bean
+  public DistributedTokenBucket geminiQuotaBucket(
+      StringRedisTemplate redisTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${gemini.model}") String modelName,
+      @Value("${gemini.quota.tokens-per-minute:0}") long tokensPerMinute,
+      @Value("${gemini.quota.target-utilization:0.9}") double targetUtilization,
+      @Value("${gemini.quota.burst:10s}") Duration burst,
+      @Value("${gemini.quota.max-wait:5s}") Duration maxWait
+  ) {
+    return new DistributedTokenBucket(
+        "gemini.quota",
+        "gemini:quota:" + modelName,
+        redisTemplate,
+        meterRegistry,
+        tokensPerMinute,
+        targetUtilization,
+        burst,
+        maxWait
+    );
+  }
+
+  @Bean
+  public RetryExecutor geminiRetryExecutor(
+      MeterRegistry meterRegistry,
+      @Value("${gemini.retry.max-attempts:3}") int maxAttempts,
+      @Value("${gemini.retry.base-delay:500ms}") Duration baseDelay,
+      @Value("${gemini.retry.max-delay:4s}") Duration maxDelay
+  ) {
+    return new RetryExecutor(
+        "gemini.retry",
+        meterRegistry,
+        // 서버 과부하(5xx)만 재시도, 요청 자체의 문제나 응답 형식 오류는 재시도해도 같은 결과
+        e -> e instanceof CustomException ce && ce.getErrorCode() == ErrorCode.GEMINI_OVERLOAD,
+        maxAttempts,
+        baseDelay,
+        maxDelay
+    );
+  }
+
+  @Bean
+  public HedgingExecutor geminiHedgingExecutor(
+      @Qualifier("geminiCallExecutor") Executor geminiCallExecutor,
+      MeterRegistry meterRegistry,
+      @Value("${gemini.hedge.max-ratio:0.05}") double maxHedgeRatio,
+      @Value("${gemini.hedge.window-size:200}") int windowSize,
+      @Value("${gemini.hedge.min-samples:20}") int minSamples,
+      @Value("${gemini.hedge.min-delay:3s}") Duration minDelay
+  ) {
+    return new HedgingExecutor(
+        "gemini.hedge",
+        geminiCallExecutor,
+        meterRegistry,
+        maxHedgeRatio,
+        windowSize,
+        minSamples,
+        minDelay
+    );
+  }
+
+  // 과부하/통신 오류만 장애로 집계 (빈 응답, 파싱 오류는 Gemini 장애로 보지 않음)
+  private static boolean isUpstreamFailure(Throwable throwable) {
+    if (throwable instanceof CustomException e) {
+      return e.getErrorCode() == ErrorCode.GEMINI_OVERLOAD
+          || e.getErrorCode() == ErrorCode.GEMINI_UNKNOWN_ERROR;
+    }
+    return true;
+  }
 }
@@ -0,0 +1,281 @@
+package com.fortunehub.luckylog.client.gemini;
+
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.google.genai.Client;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+// Gemini API key 여러 개에 호출을 나누어 한 key의 분당 한도에 묶이지 않도록 함 (key마다 Client 사용)
+// - key별 최근 1분 요청 수/토큰 수를 초 단위로 집계하고, 남은 여유(요청, 토큰 중 작은 비율)가 가장 큰 key 선택
+//   여유가 같으면 최근 1분 요청 수가 적은 key (한도를 설정하지 않아 여유가 항상 같아도 key마다 고르게 분산)
+// - 토큰은 호출 전에 최근 평균 사용량만큼 예약하고, 응답의 실제 사용량으로 보정
+// - 429(rate limit)를 받은 key는 throttle-cooldown 동안 제외 (연속으로 받으면 2배씩 늘려 max-throttle-cooldown까지)
+// - 사용 가능한 key가 없으면 호출하지 않고 GEMINI_QUOTA_EXHAUSTED
+// 한도(requests-per-minute, tokens-per-minute)가 0이면 해당 기준은 제한하지 않음
+// 지표의 key 태그는 설정 순번 (key 값은 노출하지 않음)
+@Slf4j
+public class GeminiKeyPool {
+
+  private static final int WINDOW_SECONDS = 60;
+  private static final double TOKEN_AVERAGE_WEIGHT = 0.2;
+
+  private final List<ApiKey> keys = new ArrayList<>();
+  private final MeterRegistry meterRegistry;
+  private final int requestsPerMinute;
+  private final long tokensPerMinute;
+  private final long throttleCooldownNanos;
+  private final long maxThrottleCooldownNanos;
+  private final Ticker ticker;
+
+  // 호출 1회 평균 토큰 수 (첫 응답 전에는 예약하지 않음)
+  private double averageTokens;
+
+  public GeminiKeyPool(
+      List<Client> clients,
+      MeterRegistry meterRegistry,
+      int requestsPerMinute,
+      long tokensPerMinute,
+      Duration throttleCooldown,
+      Duration maxThrottleCooldown
+  ) {
+    this(clients, meterRegistry, requestsPerMinute, tokensPerMinute, throttleCooldown,
+        maxThrottleCooldown, Ticker.systemTicker());
+  }
+
+  GeminiKeyPool(
+      List<Client> clients,
+      MeterRegistry meterRegistry,
+      int requestsPerMinute,
+      long tokensPerMinute,
+      Duration throttleCooldown,
+      Duration maxThrottleCooldown,
+      Ticker ticker
+  ) {
+    if (clients.isEmpty()) {
+      throw new IllegalStateException("gemini.api.keys 설정이 필요합니다.");
+    }
+
+    this.meterRegistry = meterRegistry;
+    this.requestsPerMinute = requestsPerMinute;
+    this.tokensPerMinute = tokensPerMinute;
+    this.throttleCooldownNanos = throttleCooldown.toNanos();
+    this.maxThrottleCooldownNanos = maxThrottleCooldown.toNanos();
+    this.ticker = ticker;
+
+    for (int i = 0; i < clients.size(); i++) {
+      ApiKey key = new ApiKey(String.valueOf(i), clients.get(i));
+      keys.add(key);
+
+      Gauge.builder("gemini.key.requests.utilization", key,
+               k -> utilization(k.usedRequests(), requestsPerMinute))
+           .tag("key", key.name)
+           .register(meterRegistry);
+      Gauge.builder("gemini.key.tokens.utilization", key,
+               k -> utilization(k.usedTokens(), tokensPerMinute))
+           .tag("key", key.name)
+           .register(meterRegistry);
+      Gauge.builder("gemini.key.throttled", key, k -> k.isThrottled() ? 1 : 0)
+           .tag("key", key.name)
+           .register(meterRegistry);
+    }
+  }
+
+  // context cache 등 key 하나에 묶이는 작업에 사용하는 첫 번째 key의 Client
+  public Client primaryClient() {
+    return keys.get(0).client;
+  }
+
+  public Lease acquire() {
+    synchronized (this) {
+      long now = ticker.read();
+      long reserve = Math.round(averageTokens);
+
+      long second = toSecond(now);
+
+      ApiKey selected = null;
+      double maxHeadroom = 0;
+      long minRequests = 0;
+      for (ApiKey key : keys) {
+        double headroom = key.headroom(now);
+        if (headroom <= 0) {
+          continue;
+        }
+
+        long requests = key.requestCount(second);
+        if (headroom > maxHeadroom || (headroom == maxHeadroom && requests < minRequests)) {
+          selected = key;
+          maxHeadroom = headroom;
+          minRequests = requests;
+        }
+      }
+
+      if (selected != null) {
+        selected.add(second, 1, reserve);
+        return new Lease(selected, second, reserve);
+      }
+    }
+
+    meterRegistry.counter("gemini.key.exhausted").increment();
+    log.warn("[Gemini API key 한도 초과] - [사용 가능한 key 없음] | keys={}", keys.size());
+    throw new CustomException(ErrorCode.GEMINI_QUOTA_EXHAUSTED);
+  }
+
+  private synchronized void complete(Lease lease, long usedTokens) {
+    if (usedTokens > 0) {
+      lease.key.add(lease.second, 0, usedTokens - lease.reservedTokens);
+      averageTokens = averageTokens == 0
+          ? usedTokens
+          : averageTokens + TOKEN_AVERAGE_WEIGHT * (usedTokens - averageTokens);
+    }
+    lease.key.consecutiveThrottles = 0;
+  }
+
+  private void rateLimited(Lease lease) {
+    ApiKey key = lease.key;
+    long cooldownNanos;
+    synchronized (this) {
+      key.consecutiveThrottles++;
+      cooldownNanos = Math.min(maxThrottleCooldownNanos,
+          throttleCooldownNanos << Math.min(key.consecutiveThrottles - 1, 20));
+      key.throttledUntil = ticker.read() + cooldownNanos;
+      key.throttled = true;
+    }
+
+    meterRegistry.counter("gemini.key.throttles", "key", key.name).increment();
+    log.warn("[Gemini API key 제외] - [rate limit 응답] | key={} | cooldownMs={}",
+        key.name, cooldownNanos / 1_000_000);
+  }
+
+  private static double utilization(long used, long limit) {
+    return limit > 0 ? (double) used / limit : 0;
+  }
+
+  private static long toSecond(long nanos) {
+    return Math.floorDiv(nanos, 1_000_000_000L);
+  }
+
+  // 호출 1회에 사용한 key, 응답을 받으면 complete 또는 rateLimited로 결과를 알려줌
+  public final class Lease {
+
+    private final ApiKey key;
+    private final long second;
+    private final long reservedTokens;
+
+    private Lease(ApiKey key, long second, long reservedTokens) {
+      this.key = key;
+      this.second = second;
+      this.reservedTokens = reservedTokens;
+    }
+
+    public Client client() {
+      return key.client;
+    }
+
+    public String keyName() {
+      return key.name;
+    }
+
+    public boolean primary() {
+      return key == keys.get(0);
+    }
+
+    // 응답의 실제 토큰 사용량으로 예약한 토큰 수를 보정 (사용량을 모르면 예약한 값 유지)
+    public void complete(long usedTokens) {
+      GeminiKeyPool.this.complete(this, usedTokens);
+    }
+
+    public void rateLimited() {
+      GeminiKeyPool.this.rateLimited(this);
+    }
+  }
+
+  // key별 최근 1분 사용량 (초 단위 원형 버퍼), GeminiKeyPool의 lock으로 보호
+  private final class ApiKey {
+
+    private final String name;
+    private final Client client;
+    private final long[] seconds = new long[WINDOW_SECONDS];
+    private final long[] requests = new long[WINDOW_SECONDS];
+    private final long[] tokens = new long[WINDOW_SECONDS];
+    private int consecutiveThrottles;
+    private boolean throttled;
+    private long throttledUntil;
+
+    private ApiKey(String name, Client client) {
+      this.name = name;
+      this.client = client;
+      Arrays.fill(seconds, Long.MIN_VALUE);
+    }
+
+    // 0이면 사용 불가
+    double headroom(long now) {
+      if (throttled && now - throttledUntil < 0) {
+        return 0;
+      }
+      throttled = false;
+
+      long second = toSecond(now);
+      double requestHeadroom = requestsPerMinute > 0
+          ? 1.0 - (double) sum(requests, second) / requestsPerMinute
+          : 1.0;
+      double tokenHeadroom = tokensPerMinute > 0
+          ? 1.0 - (double) sum(tokens, second) / tokensPerMinute
+          : 1.0;
+      return Math.max(0, Math.min(requestHeadroom, tokenHeadroom));
+    }
+
+    long requestCount(long second) {
+      return sum(requests, second);
+    }
+
+    void add(long second, long requestCount, long tokenCount) {
+      int index = (int) Math.floorMod(second, (long) WINDOW_SECONDS);
+      if (seconds[index] != second) {
+        // 이미 1분이 지나 다른 초로 바뀐 칸이면 보정하지 않음
+        if (seconds[index] > second) {
+          return;
+        }
+        seconds[index] = second;
+        requests[index] = 0;
+        tokens[index] = 0;
+      }
+      requests[index] += requestCount;
+      tokens[index] += tokenCount;
+    }
+
+    long usedRequests() {
+      synchronized (GeminiKeyPool.this) {
+        return sum(requests, toSecond(ticker.read()));
+      }
+    }
+
+    long usedTokens() {
+      synchronized (GeminiKeyPool.this) {
+        return sum(tokens, toSecond(ticker.read()));
+      }
+    }
+
+    boolean isThrottled() {
+      synchronized (GeminiKeyPool.this) {
+        return throttled && ticker.read() - throttledUntil < 0;
+      }
+    }
+
+    private long sum(long[] values, long second) {
+      long total = 0;
+      for (int i = 0; i < WINDOW_SECONDS; i++) {
+        if (seconds[i] > second - WINDOW_SECONDS) {
+          total += values[i];
+        }
+      }
+      return total;
+    }
+  }
+}
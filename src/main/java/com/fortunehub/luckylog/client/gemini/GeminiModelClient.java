@@ -0,0 +1,277 @@
+package com.fortunehub.luckylog.client.gemini;
+
+import com.fortunehub.luckylog.client.FortuneGeneration;
+import com.fortunehub.luckylog.client.FortuneModelClient;
+import com.fortunehub.luckylog.client.FortuneResponseParser;
+import com.fortunehub.luckylog.client.FortuneStreamParser;
+import com.fortunehub.luckylog.common.limit.AdaptiveConcurrencyLimiter;
+import com.fortunehub.luckylog.common.limit.DistributedTokenBucket;
+import com.fortunehub.luckylog.common.limit.RequestPriority;
+import com.fortunehub.luckylog.common.resilience.HedgingExecutor;
+import com.fortunehub.luckylog.common.resilience.RetryExecutor;
+import com.fortunehub.luckylog.domain.fortune.AIType;
+import com.fortunehub.luckylog.dto.request.fortune.FortuneRequest;
+import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import com.google.genai.ResponseStream;
+import com.google.genai.errors.ClientException;
+import com.google.genai.errors.ServerException;
+import com.google.genai.types.GenerateContentResponse;
+import com.google.genai.types.GenerateContentResponseUsageMetadata;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Gemini provider, 호출마다 context cache가 적용된 프롬프트와 출력 분량 상한을 사용
+// 호출마다 GeminiKeyPool에서 여유가 가장 큰 API key를 골라 사용
+@Slf4j
+@Component
+public class GeminiModelClient implements FortuneModelClient {
+
+  private static final int TOO_MANY_REQUESTS = 429;
+
+  private final GeminiKeyPool keyPool;
+  private final GeminiPromptCache promptCache;
+  private final GeminiUsageRecorder usageRecorder;
+  private final FortuneResponseParser responseParser;
+  private final FortuneOutputBudget outputBudget;
+  private final DistributedTokenBucket quotaBucket;
+  private final CircuitBreaker circuitBreaker;
+  private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+  private final RetryExecutor retryExecutor;
+  private final HedgingExecutor hedgingExecutor;
+  private final String modelName;
+
+  public GeminiModelClient(
+      GeminiKeyPool keyPool,
+      GeminiPromptCache promptCache,
+      GeminiUsageRecorder usageRecorder,
+      FortuneResponseParser responseParser,
+      FortuneOutputBudget outputBudget,
+      @Qualifier("geminiQuotaBucket") DistributedTokenBucket quotaBucket,
+      @Qualifier("geminiCircuitBreaker") CircuitBreaker circuitBreaker,
+      @Qualifier("geminiConcurrencyLimiter") AdaptiveConcurrencyLimiter concurrencyLimiter,
+      @Qualifier("geminiRetryExecutor") RetryExecutor retryExecutor,
+      @Qualifier("geminiHedgingExecutor") HedgingExecutor hedgingExecutor,
+      @Value("${gemini.model}") String modelName
+  ) {
+    this.keyPool = keyPool;
+    this.promptCache = promptCache;
+    this.usageRecorder = usageRecorder;
+    this.responseParser = responseParser;
+    this.outputBudget = outputBudget;
+    this.quotaBucket = quotaBucket;
+    this.circuitBreaker = circuitBreaker;
+    this.concurrencyLimiter = concurrencyLimiter;
+    this.retryExecutor = retryExecutor;
+    this.hedgingExecutor = hedgingExecutor;
+    this.modelName = modelName;
+  }
+
+  @Override
+  public AIType type() {
+    return AIType.GEMINI;
+  }
+
+  // 동시 호출 제한 → 재시도 → 사용 한도 → 서킷 브레이커 → 헤징 순으로 감싸서 호출
+  // 재시도는 시도마다 서킷 브레이커에 집계되고, 헤징은 하나의 시도 안에서만 이루어짐
+  // 사용 한도는 실제로 보내는 호출마다 차감
+  // - 동시 호출 슬롯을 차지한 뒤 시도마다 기다림 (슬롯이 없어 거절된 요청은 한도를 차감하지 않음)
+  // - 헤징 요청은 기다리지 않고 잔량이 있을 때만 차감하여 보냄 (부족하면 헤징 생략)
+  // 헤징 요청도 동시 호출 슬롯을 하나 더 차지하며, 한도에 여유가 없으면 헤징 생략
+  @Override
+  public FortuneGeneration generate(FortuneRequest request, RequestPriority priority) {
+    GeminiPrompt prompt = promptCache.prepare(request);
+    long estimatedTokens = estimatedTokens(prompt, request);
+
+    return concurrencyLimiter.execute(priority, () -> retryExecutor.execute(() -> {
+      quotaBucket.acquire(estimatedTokens);
+      return circuitBreaker.executeSupplier(() -> hedgingExecutor.execute(
+          () -> generateContent(prompt, request),
+          () -> concurrencyLimiter.tryExecute(priority, () ->
+              quotaBucket.tryAcquire(estimatedTokens)
+                  ? Optional.of(generateContent(prompt, request))
+                  : Optional.empty())));
+    }));
+  }
+
+  // 이미 전달한 결과가 중복될 수 있으므로 스트리밍은 재시도/헤징하지 않음
+  @Override
+  public FortuneGeneration generateStream(
+      FortuneRequest request, RequestPriority priority, Consumer<FortuneResponse> onResponse) {
+    GeminiPrompt prompt = promptCache.prepare(request);
+    long estimatedTokens = estimatedTokens(prompt, request);
+
+    return concurrencyLimiter.execute(priority, () -> {
+      quotaBucket.acquire(estimatedTokens);
+      return circuitBreaker.executeSupplier(
+          () -> generateContentStream(prompt, request, onResponse));
+    });
+  }
+
+  private long estimatedTokens(GeminiPrompt prompt, FortuneRequest request) {
+    return outputBudget.estimatedTokens(request, prompt.text().length());
+  }
+
+  private FortuneGeneration generateContent(GeminiPrompt prompt, FortuneRequest request) {
+    log.info("[운세 분석 요청] | model={} | fortuneTypes={} | birthInfo={}",
+        modelName, request.getFortuneTypesAsString(), request.toBirthInfo().replace("\n", " "));
+
+    GeminiKeyPool.Lease lease = keyPool.acquire();
+    long startTime = System.currentTimeMillis();
+
+    try {
+      GenerateContentResponse response = withPromptCacheFallback(
+          forKey(prompt, request, lease), request,
+          target -> lease.client().models.generateContent(
+              modelName, target.text(), target.config()));
+      usageRecorder.record(modelName, request, response.usageMetadata(),
+          System.currentTimeMillis() - startTime);
+      lease.complete(totalTokens(response.usageMetadata()));
+
+      String responseText = response.text();
+      if (responseText == null || responseText.trim().isEmpty()) {
+        log.warn("[API 응답 실패] - [빈 응답 수신] | model={} | fortuneTypes={}",
+            modelName, request.getFortuneTypesAsString());
+
+        throw new CustomException(ErrorCode.GEMINI_EMPTY_RESPONSE);
+      }
+
+      FortuneGeneration generation = responseParser.parse(responseText);
+
+      log.info("[API 응답 성공] | resultCount={} | truncated={}",
+          generation.responses().size(), generation.truncated());
+
+      return generation;
+
+    } catch (ClientException e) {
+      throw toCustomException(e, lease);
+    } catch (ServerException e) {
+      log.error("[API 호출 실패] - [서버 과부하] | message={}", e.getMessage(), e);
+      throw new CustomException(ErrorCode.GEMINI_OVERLOAD);
+    } catch (CustomException e) {
+      throw e;
+    } catch (Exception e) {
+      log.error("[API 호출 실패] - [알 수 없는 오류] | message={}", e.getMessage(), e);
+      throw new CustomException(ErrorCode.GEMINI_UNKNOWN_ERROR, e);
+    } finally {
+      log.info("[API 응답 완료] | durationMs={}",
+          System.currentTimeMillis() - startTime);
+    }
+  }
+
+  private FortuneGeneration generateContentStream(
+      GeminiPrompt prompt, FortuneRequest request, Consumer<FortuneResponse> onResponse) {
+    log.info("[운세 분석 스트리밍 요청] | model={} | fortuneTypes={} | birthInfo={}",
+        modelName, request.getFortuneTypesAsString(), request.toBirthInfo().replace("\n", " "));
+
+    GeminiKeyPool.Lease lease = keyPool.acquire();
+    long startTime = System.currentTimeMillis();
+    List<FortuneResponse> responses = new ArrayList<>();
+
+    try (ResponseStream<GenerateContentResponse> stream = withPromptCacheFallback(
+        forKey(prompt, request, lease), request,
+        target -> lease.client().models.generateContentStream(
+            modelName, target.text(), target.config()))) {
+      FortuneStreamParser parser = responseParser.streamParser(response -> {
+        if (responses.isEmpty()) {
+          log.info("[API 첫 응답 수신] | firstItemMs={}", System.currentTimeMillis() - startTime);
+        }
+        responses.add(response);
+        onResponse.accept(response);
+      });
+
+      // 토큰 사용량은 마지막 chunk에 누적되어 옴
+      Optional<GenerateContentResponseUsageMetadata> usage = Optional.empty();
+      for (GenerateContentResponse chunk : stream) {
+        parser.feed(chunk.text());
+        if (chunk.usageMetadata().isPresent()) {
+          usage = chunk.usageMetadata();
+        }
+      }
+
+      // 출력 토큰 한도로 잘렸으면 완성된 객체까지만 사용
+      boolean truncated = !parser.isArrayClosed() && !responses.isEmpty();
+      if (!truncated) {
+        parser.finish();
+      }
+      usageRecorder.record(modelName, request, usage, System.currentTimeMillis() - startTime);
+      lease.complete(totalTokens(usage));
+
+      if (responses.isEmpty()) {
+        log.warn("[API 응답 실패] - [빈 응답 수신] | model={} | fortuneTypes={}",
+            modelName, request.getFortuneTypesAsString());
+
+        throw new CustomException(ErrorCode.GEMINI_EMPTY_RESPONSE);
+      }
+
+      log.info("[API 응답 성공] | resultCount={} | truncated={}", responses.size(), truncated);
+
+      return new FortuneGeneration(responses, truncated);
+
+    } catch (ClientException e) {
+      throw toCustomException(e, lease);
+    } catch (ServerException e) {
+      log.error("[API 호출 실패] - [서버 과부하] | message={}", e.getMessage(), e);
+      throw new CustomException(ErrorCode.GEMINI_OVERLOAD);
+    } catch (CustomException e) {
+      throw e;
+    } catch (IOException e) {
+      log.error("[응답 파싱 실패] - [JSON 스트림 변환 오류] | message={}", e.getMessage(), e);
+      throw new CustomException(ErrorCode.GEMINI_RESPONSE_PARSE_ERROR, e);
+    } catch (Exception e) {
+      log.error("[API 호출 실패] - [알 수 없는 오류] | message={}", e.getMessage(), e);
+      throw new CustomException(ErrorCode.GEMINI_UNKNOWN_ERROR, e);
+    } finally {
+      log.info("[API 응답 완료] | durationMs={}",
+          System.currentTimeMillis() - startTime);
+    }
+  }
+
+  // context cache는 첫 번째 key의 프로젝트에만 등록되므로 다른 key로 호출할 때는 전체 프롬프트 사용
+  private GeminiPrompt forKey(
+      GeminiPrompt prompt, FortuneRequest request, GeminiKeyPool.Lease lease) {
+    return prompt.cached() && !lease.primary() ? promptCache.uncached(request) : prompt;
+  }
+
+  // 429는 해당 key만 잠시 제외하고 과부하로 처리 (재시도 시 다른 key 사용)
+  private CustomException toCustomException(ClientException e, GeminiKeyPool.Lease lease) {
+    if (e.code() == TOO_MANY_REQUESTS) {
+      lease.rateLimited();
+      log.warn("[API 호출 실패] - [rate limit] | key={} | message={}",
+          lease.keyName(), e.getMessage());
+      return new CustomException(ErrorCode.GEMINI_OVERLOAD);
+    }
+
+    log.error("[API 호출 실패] - [알 수 없는 오류] | message={}", e.getMessage(), e);
+    return new CustomException(ErrorCode.GEMINI_UNKNOWN_ERROR, e);
+  }
+
+  private static long totalTokens(Optional<GenerateContentResponseUsageMetadata> usage) {
+    return usage.flatMap(GenerateContentResponseUsageMetadata::totalTokenCount).orElse(0);
+  }
+
+  // 프롬프트 캐시가 만료/삭제되어 요청이 거절되면 캐시를 비우고 전체 프롬프트로 한 번 더 호출
+  private <T> T withPromptCacheFallback(
+      GeminiPrompt prompt, FortuneRequest request, Function<GeminiPrompt, T> call) {
+    try {
+      return call.apply(prompt);
+    } catch (ClientException e) {
+      if (!prompt.cached() || e.code() == TOO_MANY_REQUESTS) {
+        throw e;
+      }
+      log.warn("[프롬프트 캐시 사용 실패] - [전체 프롬프트로 재호출] | message={}", e.getMessage());
+      promptCache.invalidate();
+      return call.apply(promptCache.uncached(request));
+    }
+  }
+}
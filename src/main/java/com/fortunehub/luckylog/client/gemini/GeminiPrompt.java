@@ -0,0 +1,8 @@
+package com.fortunehub.luckylog.client.gemini;
+
+import com.google.genai.types.GenerateContentConfig;
+
+// Gemini에 보낼 프롬프트와 설정, cached가 true면 고정 앞부분은 캐시(cachedContent)에 있고 text는 나머지 부분
+record GeminiPrompt(String text, GenerateContentConfig config, boolean cached) {
+
+}
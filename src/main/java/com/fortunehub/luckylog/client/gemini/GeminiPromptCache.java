@@ -0,0 +1,220 @@
+package com.fortunehub.luckylog.client.gemini;
+
+import com.fortunehub.luckylog.dto.request.fortune.FortuneRequest;
+import com.google.genai.Client;
+import com.google.genai.types.CachedContent;
+import com.google.genai.types.Content;
+import com.google.genai.types.CreateCachedContentConfig;
+import com.google.genai.types.GenerateContentConfig;
+import com.google.genai.types.ListCachedContentsConfig;
+import com.google.genai.types.Part;
+import com.google.genai.types.UpdateCachedContentConfig;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 모든 사용자에게 같은 프롬프트 앞부분(첫 치환 위치 전까지)을 Gemini context cache(cachedContent)에 등록하고,
+// 호출 시에는 나머지 부분만 보내 입력 토큰 처리 비용과 지연을 줄임
+// - 캐시 이름(displayName)에 content-version, 모델, 앞부분 hash를 넣어 프롬프트가 바뀌면 새로 등록
+// - 같은 이름의 캐시가 있으면 재사용 (노드 간, 재시작 후)
+// - 만료가 refresh-before 이내로 다가오면 호출 시점에 백그라운드에서 TTL 연장 (요청이 없으면 그대로 만료)
+// - 등록 전이거나 실패하면 전체 프롬프트로 호출
+// 요청마다 출력 분량 안내와 maxOutputTokens를 적용 (FortuneOutputBudget)
+@Slf4j
+@Component
+public class GeminiPromptCache {
+
+  private static final Duration EXPIRY_MARGIN = Duration.ofSeconds(30);
+
+  private final Client client;
+  private final GenerateContentConfig baseConfig;
+  private final FortunePrompt fortunePrompt;
+  private final FortuneOutputBudget outputBudget;
+  private final Executor executor;
+  private final String modelName;
+  private final String displayName;
+  private final boolean enabled;
+  private final Duration ttl;
+  private final Duration refreshBefore;
+  private final Duration failureBackoff;
+  private final Clock clock;
+
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+  private volatile CachedPrefix current;
+  private volatile Instant nextAttemptAt = Instant.MIN;
+
+  @Autowired
+  public GeminiPromptCache(
+      Client client,
+      GenerateContentConfig generateContentConfig,
+      FortunePrompt fortunePrompt,
+      FortuneOutputBudget outputBudget,
+      @Qualifier("fortuneRefreshExecutor") Executor executor,
+      @Value("${gemini.model}") String modelName,
+      @Value("${fortune.cache.content-version:v1}") String contentVersion,
+      @Value("${gemini.context-cache.enabled:true}") boolean enabled,
+      @Value("${gemini.context-cache.ttl:1h}") Duration ttl,
+      @Value("${gemini.context-cache.refresh-before:10m}") Duration refreshBefore,
+      @Value("${gemini.context-cache.failure-backoff:5m}") Duration failureBackoff,
+      @Value("${gemini.context-cache.min-prefix-chars:4000}") int minPrefixChars
+  ) {
+    this(client, generateContentConfig, fortunePrompt, outputBudget, executor, modelName,
+        contentVersion, enabled, ttl, refreshBefore, failureBackoff, minPrefixChars,
+        Clock.systemDefaultZone());
+  }
+
+  GeminiPromptCache(
+      Client client,
+      GenerateContentConfig generateContentConfig,
+      FortunePrompt fortunePrompt,
+      FortuneOutputBudget outputBudget,
+      Executor executor,
+      String modelName,
+      String contentVersion,
+      boolean enabled,
+      Duration ttl,
+      Duration refreshBefore,
+      Duration failureBackoff,
+      int minPrefixChars,
+      Clock clock
+  ) {
+    this.client = client;
+    this.baseConfig = generateContentConfig;
+    this.fortunePrompt = fortunePrompt;
+    this.outputBudget = outputBudget;
+    this.executor = executor;
+    this.modelName = modelName;
+    this.displayName = "luckylog-prompt-" + contentVersion + "-" + modelName + "-"
+        + Integer.toHexString(fortunePrompt.staticPrefix().hashCode());
+    // Gemini는 일정 토큰 수 이상만 캐시할 수 있으므로 앞부분이 짧으면 사용하지 않음
+    this.enabled = enabled && fortunePrompt.staticPrefix().length() >= minPrefixChars;
+    this.ttl = ttl;
+    this.refreshBefore = refreshBefore;
+    this.failureBackoff = failureBackoff;
+    this.clock = clock;
+
+    if (enabled && !this.enabled) {
+      log.info("[Gemini 프롬프트 캐시 미사용] - [고정 앞부분이 짧음] | prefixChars={} "
+          + "| minPrefixChars={}", fortunePrompt.staticPrefix().length(), minPrefixChars);
+    }
+  }
+
+  public GeminiPrompt prepare(FortuneRequest request) {
+    CachedPrefix cached = current;
+    Instant now = clock.instant();
+
+    if (cached == null || !cached.expireTime().isAfter(now.plus(EXPIRY_MARGIN))) {
+      refreshAsync(now);
+      return uncached(request);
+    }
+
+    if (cached.expireTime().isBefore(now.plus(refreshBefore))) {
+      refreshAsync(now);
+    }
+    return budgeted(fortunePrompt.buildWithoutStaticPrefix(request), cached.config(), true,
+        request);
+  }
+
+  public GeminiPrompt uncached(FortuneRequest request) {
+    return budgeted(fortunePrompt.build(request), baseConfig, false, request);
+  }
+
+  private GeminiPrompt budgeted(
+      String text, GenerateContentConfig config, boolean cached, FortuneRequest request) {
+    return new GeminiPrompt(
+        text + outputBudget.guidance(request), outputBudget.applyTo(config, request), cached);
+  }
+
+  // Gemini에서 캐시를 찾을 수 없다는 응답을 받으면 다음 호출부터 전체 프롬프트 사용 후 다시 등록
+  public void invalidate() {
+    current = null;
+  }
+
+  private void refreshAsync(Instant now) {
+    if (!enabled || now.isBefore(nextAttemptAt) || !refreshing.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      executor.execute(() -> {
+        try {
+          refresh();
+        } finally {
+          refreshing.set(false);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      refreshing.set(false);
+    }
+  }
+
+  void refresh() {
+    try {
+      CachedPrefix cached = current;
+      CachedContent content = cached == null
+          ? findExisting().orElseGet(this::create)
+          : client.caches.update(
+              cached.name(), UpdateCachedContentConfig.builder().ttl(ttl).build());
+
+      current = toCachedPrefix(content);
+      log.info("[Gemini 프롬프트 캐시 갱신] | name={} | expireTime={}",
+          current.name(), current.expireTime());
+
+    } catch (Exception e) {
+      nextAttemptAt = clock.instant().plus(failureBackoff);
+      log.warn("[Gemini 프롬프트 캐시 갱신 실패] - [전체 프롬프트로 호출] | displayName={} "
+          + "| message={}", displayName, e.getMessage());
+    }
+  }
+
+  private Optional<CachedContent> findExisting() {
+    Instant minExpireTime = clock.instant().plus(refreshBefore);
+
+    for (CachedContent content : client.caches.list(ListCachedContentsConfig.builder().build())) {
+      boolean sameName = content.displayName().filter(displayName::equals).isPresent();
+      boolean usable = content.expireTime().filter(minExpireTime::isBefore).isPresent();
+      if (sameName && usable) {
+        return Optional.of(content);
+      }
+    }
+    return Optional.empty();
+  }
+
+  private CachedContent create() {
+    return client.caches.create(
+        modelName,
+        CreateCachedContentConfig.builder()
+                                 .displayName(displayName)
+                                 .contents(List.of(Content.builder()
+                                                          .role("user")
+                                                          .parts(List.of(Part.fromText(
+                                                              fortunePrompt.staticPrefix())))
+                                                          .build()))
+                                 .ttl(ttl)
+                                 .build()
+    );
+  }
+
+  private CachedPrefix toCachedPrefix(CachedContent content) {
+    String name = content.name().orElseThrow();
+    return new CachedPrefix(
+        name,
+        content.expireTime().orElseGet(() -> clock.instant().plus(ttl)),
+        baseConfig.toBuilder().cachedContent(name).build()
+    );
+  }
+
+  private record CachedPrefix(String name, Instant expireTime, GenerateContentConfig config) {
+
+  }
+}
@@ -0,0 +1,23 @@
+package com.fortunehub.luckylog.client.gemini;
+
+import java.time.LocalDate;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+// 날짜별 Gemini 토큰 사용량 합계 조회 (/actuator/geminiusage/{yyyy-MM-dd}), 노출 여부는 management 설정을 따름
+@Component
+@Endpoint(id = "geminiusage")
+@RequiredArgsConstructor
+public class GeminiUsageEndpoint {
+
+  private final GeminiUsageRecorder usageRecorder;
+
+  @ReadOperation
+  public Map<String, Map<String, Long>> usage(@Selector String date) {
+    return usageRecorder.dailyUsage(LocalDate.parse(date));
+  }
+}
@@ -0,0 +1,146 @@
+package com.fortunehub.luckylog.client.gemini;
+
+import com.fortunehub.luckylog.dto.request.fortune.FortuneRequest;
+import com.google.genai.types.GenerateContentResponseUsageMetadata;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+// Gemini 생성 1회마다 토큰 사용량과 지연 시간을 기록 (헤징/재시도로 추가 발송된 호출도 각각 기록)
+// - Micrometer: 모델, 주기, 운세 종류 수별 분포 (gemini.tokens.*, gemini.generation.latency)
+// - Redis: 날짜별 합계, 모든 노드의 사용량을 합산하여 /actuator/geminiusage 에서 조회
+@Slf4j
+@Component
+public class GeminiUsageRecorder {
+
+  private static final String KEY_PREFIX = "gemini:usage:";
+
+  // ARGV[1]: 보관 기간(초), 이후 (field, 증가량) 쌍
+  private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+      "for i = 2, #ARGV, 2 do "
+          + "redis.call('hincrby', KEYS[1], ARGV[i], ARGV[i + 1]) "
+          + "end "
+          + "redis.call('expire', KEYS[1], ARGV[1]) "
+          + "return 1",
+      Long.class
+  );
+
+  private final MeterRegistry meterRegistry;
+  private final StringRedisTemplate redisTemplate;
+  private final Duration retention;
+  private final Clock clock;
+
+  @Autowired
+  public GeminiUsageRecorder(
+      MeterRegistry meterRegistry,
+      StringRedisTemplate redisTemplate,
+      @Value("${gemini.usage.retention:35d}") Duration retention
+  ) {
+    this(meterRegistry, redisTemplate, retention, Clock.systemDefaultZone());
+  }
+
+  GeminiUsageRecorder(
+      MeterRegistry meterRegistry,
+      StringRedisTemplate redisTemplate,
+      Duration retention,
+      Clock clock
+  ) {
+    this.meterRegistry = meterRegistry;
+    this.redisTemplate = redisTemplate;
+    this.retention = retention;
+    this.clock = clock;
+  }
+
+  public void record(
+      String model,
+      FortuneRequest request,
+      Optional<GenerateContentResponseUsageMetadata> usage,
+      long durationMs
+  ) {
+    int promptTokens = usage.flatMap(GenerateContentResponseUsageMetadata::promptTokenCount)
+                            .orElse(0);
+    int candidatesTokens = usage.flatMap(
+                                    GenerateContentResponseUsageMetadata::candidatesTokenCount)
+                                .orElse(0);
+    int totalTokens = usage.flatMap(GenerateContentResponseUsageMetadata::totalTokenCount)
+                           .orElse(promptTokens + candidatesTokens);
+
+    String period = request.getPeriod().name();
+    String typeCount = String.valueOf(request.getFortunes().size());
+    Tags tags = Tags.of("model", model, "period", period, "types", typeCount);
+
+    summary("gemini.tokens.prompt", tags).record(promptTokens);
+    summary("gemini.tokens.candidates", tags).record(candidatesTokens);
+    summary("gemini.tokens.total", tags).record(totalTokens);
+    Timer.builder("gemini.generation.latency")
+         .tags(tags)
+         .register(meterRegistry)
+         .record(durationMs, TimeUnit.MILLISECONDS);
+
+    log.info("[API 토큰 사용량] | period={} | types={} | promptTokens={} | candidatesTokens={} "
+            + "| totalTokens={} | durationMs={}",
+        period, typeCount, promptTokens, candidatesTokens, totalTokens, durationMs);
+
+    String field = period + ":" + typeCount + ":";
+    incrementDaily(List.of(
+        field + "calls", "1",
+        field + "promptTokens", String.valueOf(promptTokens),
+        field + "candidatesTokens", String.valueOf(candidatesTokens),
+        field + "totalTokens", String.valueOf(totalTokens),
+        field + "latencyMs", String.valueOf(durationMs)
+    ));
+  }
+
+  // 주기:운세 종류 수 → (calls, promptTokens, candidatesTokens, totalTokens, latencyMs) 합계
+  public Map<String, Map<String, Long>> dailyUsage(LocalDate date) {
+    Map<String, Map<String, Long>> usage = new TreeMap<>();
+
+    Map<String, String> entries =
+        redisTemplate.<String, String>opsForHash().entries(KEY_PREFIX + date);
+    entries.forEach((field, value) -> {
+      int split = field.lastIndexOf(':');
+      usage.computeIfAbsent(field.substring(0, split), group -> new TreeMap<>())
+           .put(field.substring(split + 1), Long.parseLong(value));
+    });
+
+    return usage;
+  }
+
+  private void incrementDaily(List<String> fieldIncrements) {
+    String key = KEY_PREFIX + LocalDate.now(clock);
+    Object[] args = new Object[fieldIncrements.size() + 1];
+    args[0] = String.valueOf(retention.toSeconds());
+    for (int i = 0; i < fieldIncrements.size(); i++) {
+      args[i + 1] = fieldIncrements.get(i);
+    }
+
+    try {
+      redisTemplate.execute(INCREMENT_SCRIPT, List.of(key), args);
+    } catch (Exception e) {
+      log.warn("[API 토큰 사용량 저장 실패] | key={} | message={}", key, e.getMessage());
+    }
+  }
+
+  private DistributionSummary summary(String name, Tags tags) {
+    return DistributionSummary.builder(name)
+                              .baseUnit("tokens")
+                              .tags(tags)
+                              .register(meterRegistry);
+  }
+}
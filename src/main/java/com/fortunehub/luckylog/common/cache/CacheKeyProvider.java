@@ -3,5 +3,5 @@ package com.fortunehub.luckylog.common.cache;
 
 public interface CacheKeyProvider {
 
-  String cacheKey();
+  FortuneCacheKey cacheKey();
 }
@@ -0,0 +1,182 @@
+package com.fortunehub.luckylog.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+// 여러 노드에서 같은 key를 동시에 생성하지 않도록 Redis lease로 리더 1개만 upstream 호출
+// 팔로워는 리더가 L2에 저장한 결과를 제한 시간 동안 기다리고, 시간 초과 시 직접 생성(fallback)
+// 리더가 생성하는 동안 lease-ttl의 1/3마다 lease를 연장하여, 재시도/헤징/대기로 생성이 길어져도
+// lease가 만료되어 팔로워가 두 번째 리더가 되지 않도록 함 (리더 노드가 죽으면 lease-ttl 후 만료)
+@Slf4j
+@Component
+public class DistributedSingleFlight {
+
+  private static final String LEASE_PREFIX = "fortune:inflight:";
+
+  // 본인이 획득한 lease일 때만 삭제 (lease 만료 후 다른 리더의 lease를 지우지 않도록)
+  private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('get', KEYS[1]) == ARGV[1] then "
+          + "return redis.call('del', KEYS[1]) "
+          + "else return 0 end",
+      Long.class
+  );
+
+  // 본인이 획득한 lease일 때만 만료 시간 연장
+  private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('get', KEYS[1]) == ARGV[1] then "
+          + "return redis.call('pexpire', KEYS[1], ARGV[2]) "
+          + "else return 0 end",
+      Long.class
+  );
+
+  private final StringRedisTemplate redisTemplate;
+  private final ScheduledExecutorService renewScheduler;
+  private final Duration leaseTtl;
+  private final Duration maxWait;
+  private final Duration pollInterval;
+
+  private final Counter deduplicatedCounter;
+  private final Counter fallbackCounter;
+
+  public DistributedSingleFlight(
+      StringRedisTemplate redisTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${fortune.single-flight.lease-ttl:30s}") Duration leaseTtl,
+      @Value("${fortune.single-flight.max-wait:15s}") Duration maxWait,
+      @Value("${fortune.single-flight.poll-interval:200ms}") Duration pollInterval
+  ) {
+    this.redisTemplate = redisTemplate;
+    this.leaseTtl = leaseTtl;
+    this.maxWait = maxWait;
+    this.pollInterval = pollInterval;
+    this.renewScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "singleflight-renew");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.deduplicatedCounter = Counter.builder("fortune.singleflight.deduplicated")
+                                      .description("리더의 결과를 재사용하여 생략된 upstream 호출 수")
+                                      .register(meterRegistry);
+    this.fallbackCounter = Counter.builder("fortune.singleflight.fallback")
+                                  .description("대기 시간 초과 등으로 팔로워가 직접 생성한 횟수")
+                                  .register(meterRegistry);
+  }
+
+  public <T> T execute(String key, Supplier<Optional<T>> resultLookup, Supplier<T> loader) {
+    String token = UUID.randomUUID().toString();
+
+    if (tryAcquire(key, token)) {
+      ScheduledFuture<?> renewal = scheduleRenewal(key, token);
+      try {
+        return resultLookup.get().orElseGet(loader); // lease 획득 직전에 끝난 리더가 있을 수 있음
+      } finally {
+        renewal.cancel(false);
+        release(key, token);
+      }
+    }
+
+    Optional<T> leaderResult = awaitLeader(key, resultLookup);
+    if (leaderResult.isPresent()) {
+      deduplicatedCounter.increment();
+      log.info("[Single Flight] 리더 결과 재사용 - key={}", key);
+      return leaderResult.get();
+    }
+
+    fallbackCounter.increment();
+    log.warn("[Single Flight] 리더 결과 대기 실패, 직접 생성 - key={}", key);
+    return loader.get();
+  }
+
+  private boolean tryAcquire(String key, String token) {
+    try {
+      Boolean acquired = redisTemplate.opsForValue()
+                                      .setIfAbsent(LEASE_PREFIX + key, token, leaseTtl);
+      return Boolean.TRUE.equals(acquired);
+    } catch (Exception e) {
+      // Redis 장애 시 노드 내 캐시만으로 동작
+      log.warn("[Single Flight] lease 획득 실패 | key={} | message={}", key, e.getMessage());
+      return true;
+    }
+  }
+
+  private ScheduledFuture<?> scheduleRenewal(String key, String token) {
+    long intervalMillis = Math.max(1, leaseTtl.toMillis() / 3);
+    return renewScheduler.scheduleAtFixedRate(
+        () -> renew(key, token), intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private void renew(String key, String token) {
+    try {
+      Long renewed = redisTemplate.execute(
+          RENEW_SCRIPT, List.of(LEASE_PREFIX + key), token, String.valueOf(leaseTtl.toMillis()));
+      if (Long.valueOf(0).equals(renewed)) {
+        // Redis 재시작 등으로 lease를 잃은 경우, 다음 주기에 다시 확인
+        log.warn("[Single Flight] lease 연장 실패 - lease 없음 | key={}", key);
+      }
+    } catch (Exception e) {
+      log.warn("[Single Flight] lease 연장 실패 | key={} | message={}", key, e.getMessage());
+    }
+  }
+
+  private void release(String key, String token) {
+    try {
+      redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_PREFIX + key), token);
+    } catch (Exception e) {
+      log.warn("[Single Flight] lease 반납 실패 | key={} | message={}", key, e.getMessage());
+    }
+  }
+
+  private <T> Optional<T> awaitLeader(String key, Supplier<Optional<T>> resultLookup) {
+    long deadline = System.nanoTime() + maxWait.toNanos();
+
+    while (System.nanoTime() < deadline) {
+      try {
+        Thread.sleep(pollInterval.toMillis());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return Optional.empty();
+      }
+
+      Optional<T> result = resultLookup.get();
+      if (result.isPresent()) {
+        return result;
+      }
+
+      if (!isLeaseAlive(key)) {
+        // 리더가 결과 없이 종료(실패)한 경우 더 기다리지 않음
+        return resultLookup.get();
+      }
+    }
+
+    return Optional.empty();
+  }
+
+  @PreDestroy
+  void shutdown() {
+    renewScheduler.shutdownNow();
+  }
+
+  private boolean isLeaseAlive(String key) {
+    try {
+      return Boolean.TRUE.equals(redisTemplate.hasKey(LEASE_PREFIX + key));
+    } catch (Exception e) {
+      return false;
+    }
+  }
+}
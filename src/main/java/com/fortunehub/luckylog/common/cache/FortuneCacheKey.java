@@ -0,0 +1,172 @@
+package com.fortunehub.luckylog.common.cache;
+
+import com.fortunehub.luckylog.domain.fortune.CalendarType;
+import com.fortunehub.luckylog.domain.fortune.CityType;
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.domain.fortune.GenderType;
+import com.fortunehub.luckylog.domain.fortune.PeriodType;
+import com.fortunehub.luckylog.domain.fortune.TimeType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// 운세 결과 cache key, 요청 정보를 하나의 long에 bit 단위로 담음 (문자열 조합 없이 비교/해시)
+// [구성] 상위 bit부터 결과 연도(12) | 성별(2) | 달력(2) | 출생 연도(12) | 월(4) | 일(5)
+//        | 출생 시간(4) | 출생 장소(4) | 운세 종류 bitmask(16) | 주기(2) = 63 bit
+// Redis key와 로그에는 16자리 hex 문자열을 사용 (enum 순서를 바꾸면 content-version도 올려야 함)
+public record FortuneCacheKey(long value) {
+
+  private static final int PERIOD_BITS = 2;
+  private static final int FORTUNES_BITS = 16;
+  private static final int CITY_BITS = 4;
+  private static final int TIME_BITS = 4;
+  private static final int DAY_BITS = 5;
+  private static final int MONTH_BITS = 4;
+  private static final int BIRTH_YEAR_BITS = 12;
+  private static final int CALENDAR_BITS = 2;
+  private static final int GENDER_BITS = 2;
+  private static final int RESULT_YEAR_BITS = 12;
+
+  private static final int FORTUNES_SHIFT = PERIOD_BITS;
+  private static final int CITY_SHIFT = FORTUNES_SHIFT + FORTUNES_BITS;
+  private static final int TIME_SHIFT = CITY_SHIFT + CITY_BITS;
+  private static final int DAY_SHIFT = TIME_SHIFT + TIME_BITS;
+  private static final int MONTH_SHIFT = DAY_SHIFT + DAY_BITS;
+  private static final int BIRTH_YEAR_SHIFT = MONTH_SHIFT + MONTH_BITS;
+  private static final int CALENDAR_SHIFT = BIRTH_YEAR_SHIFT + BIRTH_YEAR_BITS;
+  private static final int GENDER_SHIFT = CALENDAR_SHIFT + CALENDAR_BITS;
+  private static final int RESULT_YEAR_SHIFT = GENDER_SHIFT + GENDER_BITS;
+
+  static {
+    // enum 값이 늘어나 할당된 bit를 넘으면 key가 겹치므로 기동 시점에 실패
+    requireFits(PeriodType.values().length, PERIOD_BITS);
+    requireFits(CityType.values().length, CITY_BITS);
+    requireFits(TimeType.values().length, TIME_BITS);
+    requireFits(CalendarType.values().length, CALENDAR_BITS);
+    requireFits(GenderType.values().length, GENDER_BITS);
+    if (FortuneType.values().length > FORTUNES_BITS) {
+      throw new IllegalStateException("FortuneType이 cache key bitmask 크기를 넘었습니다.");
+    }
+  }
+
+  public static FortuneCacheKey of(
+      GenderType gender,
+      CalendarType calendar,
+      int birthYear,
+      int month,
+      int day,
+      TimeType time,
+      CityType city,
+      Collection<FortuneType> fortunes,
+      PeriodType period,
+      int resultYear
+  ) {
+    int fortuneMask = 0;
+    for (FortuneType fortune : fortunes) {
+      fortuneMask |= 1 << fortune.ordinal(); // 순서와 상관없이 같은 key
+    }
+
+    return new FortuneCacheKey(
+        field(resultYear, RESULT_YEAR_BITS, RESULT_YEAR_SHIFT)
+            | field(gender.ordinal(), GENDER_BITS, GENDER_SHIFT)
+            | field(calendar.ordinal(), CALENDAR_BITS, CALENDAR_SHIFT)
+            | field(birthYear, BIRTH_YEAR_BITS, BIRTH_YEAR_SHIFT)
+            | field(month, MONTH_BITS, MONTH_SHIFT)
+            | field(day, DAY_BITS, DAY_SHIFT)
+            | field((time == null ? TimeType.UNKNOWN : time).ordinal(), TIME_BITS, TIME_SHIFT)
+            | field((city == null ? CityType.UNKNOWN : city).ordinal(), CITY_BITS, CITY_SHIFT)
+            | field(fortuneMask, FORTUNES_BITS, FORTUNES_SHIFT)
+            | field(period.ordinal(), PERIOD_BITS, 0)
+    );
+  }
+
+  public static FortuneCacheKey fromHex(String hex) {
+    return new FortuneCacheKey(Long.parseUnsignedLong(hex, 16));
+  }
+
+  // 같은 요청 정보에서 운세 종류만 하나로 바꾼 key
+  public FortuneCacheKey withFortune(FortuneType fortune) {
+    long fortunesMask = mask(FORTUNES_BITS) << FORTUNES_SHIFT;
+    return new FortuneCacheKey(
+        (value & ~fortunesMask) | field(1 << fortune.ordinal(), FORTUNES_BITS, FORTUNES_SHIFT));
+  }
+
+  public int resultYear() {
+    return (int) read(RESULT_YEAR_BITS, RESULT_YEAR_SHIFT);
+  }
+
+  public GenderType gender() {
+    return GenderType.values()[(int) read(GENDER_BITS, GENDER_SHIFT)];
+  }
+
+  public CalendarType calendar() {
+    return CalendarType.values()[(int) read(CALENDAR_BITS, CALENDAR_SHIFT)];
+  }
+
+  public int birthYear() {
+    return (int) read(BIRTH_YEAR_BITS, BIRTH_YEAR_SHIFT);
+  }
+
+  public int month() {
+    return (int) read(MONTH_BITS, MONTH_SHIFT);
+  }
+
+  public int day() {
+    return (int) read(DAY_BITS, DAY_SHIFT);
+  }
+
+  public TimeType time() {
+    return TimeType.values()[(int) read(TIME_BITS, TIME_SHIFT)];
+  }
+
+  public CityType city() {
+    return CityType.values()[(int) read(CITY_BITS, CITY_SHIFT)];
+  }
+
+  // FortuneType 선언 순서
+  public List<FortuneType> fortunes() {
+    long fortuneMask = read(FORTUNES_BITS, FORTUNES_SHIFT);
+    List<FortuneType> fortunes = new ArrayList<>();
+    for (FortuneType fortune : FortuneType.values()) {
+      if ((fortuneMask & (1L << fortune.ordinal())) != 0) {
+        fortunes.add(fortune);
+      }
+    }
+    return fortunes;
+  }
+
+  public PeriodType period() {
+    return PeriodType.values()[(int) read(PERIOD_BITS, 0)];
+  }
+
+  public String toHex() {
+    String hex = Long.toHexString(value);
+    return "0".repeat(16 - hex.length()) + hex;
+  }
+
+  @Override
+  public String toString() {
+    return toHex();
+  }
+
+  private static long field(long fieldValue, int bits, int shift) {
+    if (fieldValue < 0 || fieldValue > mask(bits)) {
+      throw new IllegalArgumentException("cache key 범위를 벗어난 값입니다: " + fieldValue);
+    }
+    return fieldValue << shift;
+  }
+
+  private long read(int bits, int shift) {
+    return (value >>> shift) & mask(bits);
+  }
+
+  private static long mask(int bits) {
+    return (1L << bits) - 1;
+  }
+
+  private static void requireFits(int enumSize, int bits) {
+    if (enumSize > mask(bits) + 1) {
+      throw new IllegalStateException("enum 값 수가 cache key bit 크기를 넘었습니다: " + enumSize);
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package com.fortunehub.luckylog.common.cache;
+
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Gemini가 빈 응답이나 잘못된 JSON을 반환한 요청을 오류 종류별 기간 동안 기억
+// 그 사이 같은 요청은 Gemini를 다시 호출하지 않고 같은 오류로 즉시 실패 (사용자의 연속 재시도 비용 방지)
+// 과부하 등 일시적인 오류는 재시도/서킷 브레이커가 처리하므로 기억하지 않음, 노드별로 보관
+@Slf4j
+@Component
+public class FortuneFailureCache {
+
+  private static final int MAXIMUM_SIZE = 10_000;
+
+  private final Map<ErrorCode, Duration> ttls;
+  private final Cache<FortuneCacheKey, ErrorCode> failures;
+  private final Counter failFastCounter;
+
+  @Autowired
+  public FortuneFailureCache(
+      MeterRegistry meterRegistry,
+      @Value("${fortune.cache.failure.empty-response-ttl:30s}") Duration emptyResponseTtl,
+      @Value("${fortune.cache.failure.parse-error-ttl:1m}") Duration parseErrorTtl
+  ) {
+    this(meterRegistry, emptyResponseTtl, parseErrorTtl, Ticker.systemTicker());
+  }
+
+  FortuneFailureCache(
+      MeterRegistry meterRegistry,
+      Duration emptyResponseTtl,
+      Duration parseErrorTtl,
+      Ticker ticker
+  ) {
+    this.ttls = Map.of(
+        ErrorCode.GEMINI_EMPTY_RESPONSE, emptyResponseTtl,
+        ErrorCode.GEMINI_RESPONSE_PARSE_ERROR, parseErrorTtl
+    );
+    this.failures = Caffeine.newBuilder()
+                            .maximumSize(MAXIMUM_SIZE)
+                            .expireAfter(new ErrorCodeExpiry())
+                            .ticker(ticker)
+                            .build();
+    this.failFastCounter = Counter.builder("fortune.failurecache.failfast")
+                                  .description("최근 실패한 요청이라 Gemini를 호출하지 않고 바로 실패한 횟수")
+                                  .register(meterRegistry);
+  }
+
+  public void throwIfRecentlyFailed(FortuneCacheKey key) {
+    ErrorCode errorCode = failures.getIfPresent(key);
+    if (errorCode == null) {
+      return;
+    }
+
+    failFastCounter.increment();
+    log.info("[Failure Cache HIT] - [Gemini 호출 생략] | key={} | errorCode={}", key, errorCode);
+    throw new CustomException(errorCode);
+  }
+
+  public void record(FortuneCacheKey key, CustomException e) {
+    if (ttls.containsKey(e.getErrorCode())) {
+      failures.put(key, e.getErrorCode());
+    }
+  }
+
+  private class ErrorCodeExpiry implements Expiry<FortuneCacheKey, ErrorCode> {
+
+    @Override
+    public long expireAfterCreate(FortuneCacheKey key, ErrorCode value, long currentTime) {
+      return ttls.get(value).toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        FortuneCacheKey key, ErrorCode value, long currentTime, long currentDuration) {
+      return ttls.get(value).toNanos();
+    }
+
+    @Override
+    public long expireAfterRead(
+        FortuneCacheKey key, ErrorCode value, long currentTime, long currentDuration) {
+      return currentDuration; // 조회해도 기간을 늘리지 않음
+    }
+  }
+}
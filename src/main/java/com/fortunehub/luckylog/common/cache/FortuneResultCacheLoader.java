@@ -0,0 +1,61 @@
+package com.fortunehub.luckylog.common.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+// 로컬 캐시(L1) refresh-ahead 로더
+// refresh-after가 지난 항목이 조회되면 기존 값을 그대로 반환하고, 전용 스레드 풀에서 새 결과로 교체
+// 갱신에 실패하면 실패한 future를 반환하여 Caffeine이 기존 값을 유지하도록 함 (다음 조회 시 재시도)
+@Slf4j
+public class FortuneResultCacheLoader implements CacheLoader<FortuneCacheKey, byte[]> {
+
+  private final Supplier<FortuneResultRefresher> refresher;
+  private final FortuneResultMappedStore mappedStore;
+  private final Executor refreshExecutor;
+
+  // refresher는 FortuneGenerationService와의 순환 참조를 피하기 위해 사용 시점에 조회
+  public FortuneResultCacheLoader(
+      Supplier<FortuneResultRefresher> refresher,
+      FortuneResultMappedStore mappedStore,
+      Executor refreshExecutor
+  ) {
+    this.refresher = refresher;
+    this.mappedStore = mappedStore;
+    this.refreshExecutor = refreshExecutor;
+  }
+
+  @Override
+  public byte[] load(FortuneCacheKey key) {
+    byte[] encoded = FortuneResultCodec.encode(refresher.get().refresh(key));
+    mappedStore.put(key, encoded);
+    return encoded;
+  }
+
+  @Override
+  public CompletableFuture<byte[]> asyncReload(
+      FortuneCacheKey key, byte[] oldValue, Executor executor) {
+    long start = System.currentTimeMillis();
+
+    try {
+      return CompletableFuture
+          .supplyAsync(() -> load(key), refreshExecutor)
+          .whenComplete((value, e) -> {
+            if (e != null) {
+              log.warn("[Local Cache 갱신 실패] - [기존 값 유지] | key={} | message={}",
+                  key, e.getMessage());
+              return;
+            }
+            log.info("[Local Cache 갱신 완료] | key={} | elapsed={}ms",
+                key, System.currentTimeMillis() - start);
+          });
+
+    } catch (RejectedExecutionException e) {
+      log.warn("[Local Cache 갱신 생략] - [갱신 스레드 풀 포화] | key={}", key);
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+}
@@ -0,0 +1,136 @@
+package com.fortunehub.luckylog.common.cache;
+
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.domain.fortune.PeriodValue;
+import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+// 로컬 캐시에 보관할 운세 결과를 하나의 byte[]로 압축 저장
+// [형식] 1 byte(압축 여부) + 본문
+// [본문] 2 byte(결과 수) + 결과마다 1 byte(운세 종류) + 1 byte(기간 값) + 4 byte(길이) + UTF-8 내용
+// 한글은 UTF-8에서 글자당 3 byte라 본문이 압축 전보다 작아질 때만 압축본을 사용
+public final class FortuneResultCodec {
+
+  private static final byte RAW = 0;
+  private static final byte DEFLATED = 1;
+  private static final int NULL_VALUE = -1;
+
+  private static final FortuneType[] FORTUNE_TYPES = FortuneType.values();
+  private static final PeriodValue[] PERIOD_VALUES = PeriodValue.values();
+
+  private FortuneResultCodec() {
+  }
+
+  public static byte[] encode(List<FortuneResponse> responses) {
+    byte[] body = writeBody(responses);
+    byte[] deflated = deflate(body);
+
+    return deflated.length < body.length
+        ? withHeader(DEFLATED, deflated)
+        : withHeader(RAW, body);
+  }
+
+  public static List<FortuneResponse> decode(byte[] encoded) {
+    InputStream body = new ByteArrayInputStream(encoded, 1, encoded.length - 1);
+    if (encoded[0] == DEFLATED) {
+      body = new InflaterInputStream(body);
+    }
+
+    try (DataInputStream in = new DataInputStream(body)) {
+      int count = in.readUnsignedShort();
+      List<FortuneResponse> responses = new ArrayList<>(count);
+
+      for (int i = 0; i < count; i++) {
+        FortuneResponse response = new FortuneResponse();
+        int fortune = in.readByte();
+        int periodValue = in.readByte();
+        response.setFortune(fortune == NULL_VALUE ? null : FORTUNE_TYPES[fortune]);
+        response.setPeriodValue(periodValue == NULL_VALUE ? null : PERIOD_VALUES[periodValue]);
+        response.setResult(readText(in));
+        responses.add(response);
+      }
+
+      return responses;
+
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static byte[] writeBody(List<FortuneResponse> responses) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * responses.size());
+
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeShort(responses.size());
+
+      for (FortuneResponse response : responses) {
+        out.writeByte(response.getFortune() == null
+            ? NULL_VALUE : response.getFortune().ordinal());
+        out.writeByte(response.getPeriodValue() == null
+            ? NULL_VALUE : response.getPeriodValue().ordinal());
+        writeText(out, response.getResult());
+      }
+
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return bytes.toByteArray();
+  }
+
+  private static void writeText(DataOutputStream out, String text) throws IOException {
+    if (text == null) {
+      out.writeInt(NULL_VALUE);
+      return;
+    }
+
+    byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(utf8.length);
+    out.write(utf8);
+  }
+
+  private static String readText(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length == NULL_VALUE) {
+      return null;
+    }
+
+    byte[] utf8 = new byte[length];
+    in.readFully(utf8);
+    return new String(utf8, StandardCharsets.UTF_8);
+  }
+
+  private static byte[] deflate(byte[] body) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length / 2);
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+    try (DeflaterOutputStream out = new DeflaterOutputStream(bytes, deflater)) {
+      out.write(body);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      deflater.end();
+    }
+
+    return bytes.toByteArray();
+  }
+
+  private static byte[] withHeader(byte format, byte[] body) {
+    byte[] encoded = Arrays.copyOf(new byte[]{format}, body.length + 1);
+    System.arraycopy(body, 0, encoded, 1, body.length);
+    return encoded;
+  }
+}
@@ -0,0 +1,94 @@
+package com.fortunehub.luckylog.common.cache;
+
+import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+// 운세 결과 1차 캐시(L1), 결과는 FortuneResultCodec으로 압축하여 보관하고 조회 시 복원
+// 힙(Caffeine)에 없으면 파일 기반 저장소(FortuneResultMappedStore)를 확인하고, 찾으면 힙에도 적재
+// 조회할 때마다 새 객체로 복원되므로 호출하는 쪽에서 결과를 수정해도 캐시에는 영향 없음
+@Component
+public class FortuneResultLocalCache {
+
+  private final Cache<FortuneCacheKey, byte[]> cache;
+  private final FortuneResultMappedStore mappedStore;
+
+  public FortuneResultLocalCache(
+      @Qualifier("fortuneResultCache") Cache<FortuneCacheKey, byte[]> cache,
+      @Qualifier("fortuneResultMappedStore") FortuneResultMappedStore mappedStore
+  ) {
+    this.cache = cache;
+    this.mappedStore = mappedStore;
+  }
+
+  public List<FortuneResponse> getIfPresent(FortuneCacheKey key) {
+    byte[] encoded = cache.getIfPresent(key);
+    if (encoded == null) {
+      encoded = mappedStore.get(key).orElse(null);
+      if (encoded == null) {
+        return null;
+      }
+      cache.put(key, encoded);
+    }
+    return FortuneResultCodec.decode(encoded);
+  }
+
+  public Map<FortuneCacheKey, List<FortuneResponse>> getAll(
+      Iterable<FortuneCacheKey> keys,
+      Function<Set<? extends FortuneCacheKey>, Map<FortuneCacheKey, List<FortuneResponse>>> loader
+  ) {
+    Map<FortuneCacheKey, byte[]> encoded = cache.getAll(keys, missingKeys -> load(missingKeys, loader));
+    return decodeAll(encoded);
+  }
+
+  public void put(FortuneCacheKey key, List<FortuneResponse> responses) {
+    byte[] encoded = FortuneResultCodec.encode(responses);
+    cache.put(key, encoded);
+    mappedStore.put(key, encoded);
+  }
+
+  public void putAll(Map<FortuneCacheKey, List<FortuneResponse>> responses) {
+    Map<FortuneCacheKey, byte[]> encoded = encodeAll(responses);
+    cache.putAll(encoded);
+    encoded.forEach(mappedStore::put);
+  }
+
+  private Map<FortuneCacheKey, byte[]> load(
+      Set<? extends FortuneCacheKey> missingKeys,
+      Function<Set<? extends FortuneCacheKey>, Map<FortuneCacheKey, List<FortuneResponse>>> loader
+  ) {
+    Map<FortuneCacheKey, byte[]> found = new HashMap<>();
+    Set<FortuneCacheKey> stillMissing = new LinkedHashSet<>();
+
+    missingKeys.forEach(key -> mappedStore.get(key).ifPresentOrElse(
+        encoded -> found.put(key, encoded),
+        () -> stillMissing.add(key)));
+
+    if (!stillMissing.isEmpty()) {
+      Map<FortuneCacheKey, byte[]> loaded = encodeAll(loader.apply(stillMissing));
+      loaded.forEach(mappedStore::put);
+      found.putAll(loaded);
+    }
+
+    return found;
+  }
+
+  private Map<FortuneCacheKey, byte[]> encodeAll(Map<FortuneCacheKey, List<FortuneResponse>> responses) {
+    Map<FortuneCacheKey, byte[]> encoded = new HashMap<>();
+    responses.forEach((key, value) -> encoded.put(key, FortuneResultCodec.encode(value)));
+    return encoded;
+  }
+
+  private Map<FortuneCacheKey, List<FortuneResponse>> decodeAll(Map<FortuneCacheKey, byte[]> encoded) {
+    Map<FortuneCacheKey, List<FortuneResponse>> decoded = new HashMap<>();
+    encoded.forEach((key, value) -> decoded.put(key, FortuneResultCodec.decode(value)));
+    return decoded;
+  }
+}
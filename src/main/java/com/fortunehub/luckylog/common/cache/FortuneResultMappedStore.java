@@ -0,0 +1,273 @@
+package com.fortunehub.luckylog.common.cache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+
+// 로컬 캐시 아래의 파일 기반(memory-mapped) 저장소, 재시작 후에도 결과가 남아 있어 바로 캐시 HIT
+// 데이터는 GC 대상 힙이 아닌 OS 페이지 캐시에 있으므로 많은 결과를 보관해도 GC 부담이 없음
+//
+// [파일 구조] header | index(slot 배열) | data(추가만 하는 레코드 영역)
+// - slot: 8 byte(key, FortuneCacheKey 값) + 8 byte(레코드 위치), 위치가 0이면 빈 slot (open addressing)
+//   위치가 -1이면 지운 slot (조회는 계속 탐색하고, 저장 시 재사용)
+// - 레코드: 4 byte(값 길이) + 값(FortuneResultCodec 형식)
+// 같은 key를 다시 저장하면 새 레코드를 추가하고 slot만 옮김
+// data 영역이나 index가 가득 차면 전체를 비우고 다시 채움 (캐시이므로 유실 허용)
+// 한 파일은 하나의 프로세스만 사용
+// header에 content-version의 hash를 저장하여 content-version이 바뀌면 이전 결과를 버림
+// 결과 연도는 slot의 key에 들어 있으며, 조회 시 연도가 끝난 결과는 지움 (ResultYearExpiry와 같은 기준)
+// 파일에서 읽은 위치/길이가 data 영역을 벗어나면 손상된 레코드로 보고 지움
+@Slf4j
+public class FortuneResultMappedStore implements Closeable {
+
+  private static final int MAGIC = 0x46524D53; // "FRMS"
+  private static final int VERSION = 3; // 1: 문자열 key, 2: content-version 없음
+
+  private static final int MAGIC_POSITION = 0;
+  private static final int VERSION_POSITION = 4;
+  private static final int SLOT_COUNT_POSITION = 8;
+  private static final int ENTRY_COUNT_POSITION = 12;
+  private static final int DATA_END_POSITION = 16;
+  private static final int CONTENT_VERSION_POSITION = 20;
+  private static final int HEADER_SIZE = 32;
+  private static final int SLOT_SIZE = 16;
+  private static final double MAX_LOAD_FACTOR = 0.75;
+  private static final long REMOVED = -1;
+
+  private final MappedByteBuffer buffer;
+  private final int slotCount;
+  private final int dataStart;
+  private final int contentVersion;
+  private final Clock clock;
+
+  private FortuneResultMappedStore(
+      MappedByteBuffer buffer, int slotCount, int contentVersion, Clock clock) {
+    this.buffer = buffer;
+    this.slotCount = slotCount;
+    this.contentVersion = contentVersion;
+    this.clock = clock;
+    this.dataStart = HEADER_SIZE + slotCount * SLOT_SIZE;
+  }
+
+  // slotCount는 2의 거듭제곱으로 올림, 파일 크기는 2GB 미만
+  public static FortuneResultMappedStore open(
+      Path path, long fileSize, int slotCount, String contentVersion) {
+    return open(path, fileSize, slotCount, contentVersion, Clock.systemDefaultZone());
+  }
+
+  static FortuneResultMappedStore open(
+      Path path, long fileSize, int slotCount, String contentVersion, Clock clock) {
+    int slots = Integer.highestOneBit(Math.max(2, slotCount - 1)) << 1;
+    if (fileSize >= Integer.MAX_VALUE || HEADER_SIZE + (long) slots * SLOT_SIZE >= fileSize) {
+      throw new IllegalArgumentException("파일 크기가 index 크기보다 크고 2GB 미만이어야 합니다.");
+    }
+
+    try {
+      if (path.getParent() != null) {
+        Files.createDirectories(path.getParent());
+      }
+
+      MappedByteBuffer buffer;
+      try (FileChannel channel = FileChannel.open(path,
+          StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+      }
+
+      FortuneResultMappedStore store = new FortuneResultMappedStore(
+          buffer, slots, contentVersion.hashCode(), clock);
+      store.loadOrFormat();
+      return store;
+
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  // 설정이 없을 때 사용하는 저장하지 않는 저장소
+  public static FortuneResultMappedStore disabled() {
+    return new FortuneResultMappedStore(null, 0, 0, Clock.systemDefaultZone());
+  }
+
+  public synchronized Optional<byte[]> get(FortuneCacheKey key) {
+    if (buffer == null) {
+      return Optional.empty();
+    }
+
+    long keyValue = key.value();
+    long hash = hash(keyValue);
+
+    for (int probe = 0; probe < slotCount; probe++) {
+      int slot = slotPosition(hash, probe);
+      long offset = buffer.getLong(slot + 8);
+      if (offset == 0) {
+        return Optional.empty();
+      }
+
+      if (offset == REMOVED || buffer.getLong(slot) != keyValue) {
+        continue;
+      }
+
+      if (ResultYearExpiry.untilYearEnd(key, clock).isZero()) {
+        buffer.putLong(slot + 8, REMOVED);
+        return Optional.empty();
+      }
+
+      Optional<byte[]> value = readValue(offset);
+      if (value.isEmpty()) {
+        log.warn("[Mapped Cache 손상된 레코드] - [삭제] | key={} | offset={}", key, offset);
+        buffer.putLong(slot + 8, REMOVED);
+      }
+      return value;
+    }
+
+    return Optional.empty();
+  }
+
+  public synchronized void put(FortuneCacheKey key, byte[] value) {
+    if (buffer == null) {
+      return;
+    }
+
+    long recordSize = 4L + value.length;
+    if (dataStart + recordSize > buffer.capacity()) {
+      return; // 비워도 들어가지 않는 크기
+    }
+
+    if (dataEnd() + recordSize > buffer.capacity()
+        || entryCount() + 1 > slotCount * MAX_LOAD_FACTOR) {
+      log.warn("[Mapped Cache 초기화] - [저장 공간 부족] | entries={}", entryCount());
+      format();
+    }
+
+    int offset = dataEnd();
+    buffer.putInt(offset, value.length);
+    buffer.put(offset + 4, value);
+
+    long keyValue = key.value();
+    long hash = hash(keyValue);
+    int removedSlot = -1;
+    for (int probe = 0; probe < slotCount; probe++) {
+      int slot = slotPosition(hash, probe);
+      long slotOffset = buffer.getLong(slot + 8);
+
+      if (slotOffset == REMOVED) {
+        removedSlot = removedSlot < 0 ? slot : removedSlot;
+        continue;
+      }
+
+      boolean empty = slotOffset == 0;
+      if (empty || buffer.getLong(slot) == keyValue) {
+        // 같은 key가 없으면 지운 slot을 먼저 재사용 (지운 slot은 entryCount에 이미 포함)
+        boolean reuse = empty && removedSlot >= 0;
+        writeSlot(reuse ? removedSlot : slot, keyValue, offset, recordSize, empty && !reuse);
+        return;
+      }
+    }
+
+    if (removedSlot >= 0) {
+      writeSlot(removedSlot, keyValue, offset, recordSize, false);
+    }
+  }
+
+  // 레코드를 모두 쓴 뒤에 slot과 header를 갱신
+  private void writeSlot(int slot, long keyValue, int offset, long recordSize, boolean added) {
+    buffer.putLong(slot, keyValue);
+    buffer.putLong(slot + 8, offset);
+    buffer.putInt(DATA_END_POSITION, (int) (offset + recordSize));
+    if (added) {
+      buffer.putInt(ENTRY_COUNT_POSITION, entryCount() + 1);
+    }
+  }
+
+  public synchronized int size() {
+    return buffer == null ? 0 : entryCount();
+  }
+
+  @Override
+  public synchronized void close() {
+    if (buffer != null) {
+      buffer.force();
+    }
+  }
+
+  private void loadOrFormat() {
+    if (buffer.getInt(MAGIC_POSITION) == MAGIC
+        && buffer.getInt(VERSION_POSITION) == VERSION
+        && buffer.getInt(SLOT_COUNT_POSITION) == slotCount
+        && buffer.getInt(CONTENT_VERSION_POSITION) == contentVersion
+        && dataEnd() >= dataStart && dataEnd() <= buffer.capacity()
+        && entryCount() >= 0 && entryCount() <= slotCount) {
+      log.info("[Mapped Cache 로드] | entries={} | usedBytes={}", entryCount(), dataEnd());
+      return;
+    }
+
+    if (buffer.getInt(MAGIC_POSITION) == MAGIC) {
+      log.info("[Mapped Cache 초기화] - [형식/content-version 변경 또는 header 손상] | entries={}",
+          entryCount());
+    }
+    format();
+  }
+
+  private void format() {
+    byte[] zeros = new byte[SLOT_SIZE * 1024];
+    for (int position = HEADER_SIZE; position < dataStart; position += zeros.length) {
+      buffer.put(position, zeros, 0, Math.min(zeros.length, dataStart - position));
+    }
+
+    buffer.putInt(MAGIC_POSITION, MAGIC);
+    buffer.putInt(VERSION_POSITION, VERSION);
+    buffer.putInt(SLOT_COUNT_POSITION, slotCount);
+    buffer.putInt(ENTRY_COUNT_POSITION, 0);
+    buffer.putInt(DATA_END_POSITION, dataStart);
+    buffer.putInt(CONTENT_VERSION_POSITION, contentVersion);
+  }
+
+  private int slotPosition(long hash, int probe) {
+    int index = (int) ((hash + probe) & (slotCount - 1));
+    return HEADER_SIZE + index * SLOT_SIZE;
+  }
+
+  // 레코드 위치와 길이가 data 영역(dataStart ~ dataEnd) 안에 있을 때만 읽음
+  private Optional<byte[]> readValue(long offset) {
+    int dataEnd = dataEnd();
+    if (offset < dataStart || offset + 4 > dataEnd) {
+      return Optional.empty();
+    }
+
+    int length = buffer.getInt((int) offset);
+    if (length < 0 || offset + 4 + length > dataEnd) {
+      return Optional.empty();
+    }
+
+    byte[] value = new byte[length];
+    buffer.get((int) offset + 4, value);
+    return Optional.of(value);
+  }
+
+  private int entryCount() {
+    return buffer.getInt(ENTRY_COUNT_POSITION);
+  }
+
+  private int dataEnd() {
+    return buffer.getInt(DATA_END_POSITION);
+  }
+
+  // key의 bit가 상위 필드에 몰려 있으므로 섞어서 slot에 고르게 분산 (MurmurHash3 fmix64)
+  private static long hash(long key) {
+    long hash = key;
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
@@ -0,0 +1,110 @@
+package com.fortunehub.luckylog.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+// 운세 결과 2차 캐시(L2), 모든 노드가 공유
+// Redis 장애 시에는 캐시 MISS로 취급하고 Gemini 호출로 이어감
+// 로컬 캐시(ResultYearExpiry)와 같이 결과 연도가 끝날 때까지 유효하고,
+// 연도가 끝난 뒤에도 staleTtl 동안은 보관하여 Gemini 장애 시 대체 응답으로 사용
+// 프롬프트 등 생성 내용이 바뀌면 content-version을 올려 이전 결과를 더 이상 사용하지 않음
+// Redis key는 FortuneCacheKey의 hex 문자열
+@Slf4j
+@Component
+public class FortuneResultRedisCache {
+
+  private static final String KEY_PREFIX = "fortune:result:";
+
+  private final String keyPrefix;
+  private final StringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final ObjectReader reader;
+  private final Duration staleTtl;
+  private final Clock clock;
+
+  @Autowired
+  public FortuneResultRedisCache(
+      StringRedisTemplate redisTemplate,
+      ObjectMapper objectMapper,
+      @Value("${fortune.cache.redis.stale-ttl:30d}") Duration staleTtl,
+      @Value("${fortune.cache.content-version:v1}") String contentVersion
+  ) {
+    this(redisTemplate, objectMapper, staleTtl, contentVersion, Clock.systemDefaultZone());
+  }
+
+  FortuneResultRedisCache(
+      StringRedisTemplate redisTemplate,
+      ObjectMapper objectMapper,
+      Duration staleTtl,
+      String contentVersion,
+      Clock clock
+  ) {
+    this.keyPrefix = KEY_PREFIX + contentVersion + ":";
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    this.reader = objectMapper.readerFor(CachedFortune.class);
+    this.staleTtl = staleTtl;
+    this.clock = clock;
+  }
+
+  // 결과 연도 안에서는 저장 시점과 관계없이 같은 결과를 반환
+  public Optional<List<FortuneResponse>> get(FortuneCacheKey key) {
+    if (ResultYearExpiry.untilYearEnd(key, clock).isZero()) {
+      return Optional.empty();
+    }
+
+    Optional<CachedFortune> cached = read(key);
+    if (cached.isEmpty()) {
+      return Optional.empty();
+    }
+
+    log.info("[Redis Cache HIT] - key={}", key);
+    return Optional.of(cached.get().responses());
+  }
+
+  // 결과 연도가 끝났어도 보관 중인 결과를 조회 (Gemini 장애 시 대체 응답용)
+  public Optional<List<FortuneResponse>> getStale(FortuneCacheKey key) {
+    return read(key).map(CachedFortune::responses);
+  }
+
+  public void put(FortuneCacheKey key, List<FortuneResponse> responses) {
+    try {
+      redisTemplate.opsForValue().set(
+          keyPrefix + key.toHex(),
+          objectMapper.writeValueAsString(new CachedFortune(clock.millis(), responses)),
+          ResultYearExpiry.untilYearEnd(key, clock).plus(staleTtl)
+      );
+    } catch (Exception e) {
+      log.warn("[Redis Cache 저장 실패] | key={} | message={}", key, e.getMessage());
+    }
+  }
+
+  private Optional<CachedFortune> read(FortuneCacheKey key) {
+    try {
+      String json = redisTemplate.opsForValue().get(keyPrefix + key.toHex());
+      if (json == null) {
+        return Optional.empty();
+      }
+
+      return Optional.of(reader.readValue(json));
+
+    } catch (Exception e) {
+      log.warn("[Redis Cache 조회 실패] | key={} | message={}", key, e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  record CachedFortune(long storedAt, List<FortuneResponse> responses) {
+
+  }
+}
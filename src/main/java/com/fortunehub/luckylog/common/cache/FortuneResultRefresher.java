@@ -0,0 +1,10 @@
+package com.fortunehub.luckylog.common.cache;
+
+import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import java.util.List;
+
+// 로컬 캐시 항목을 새 결과로 갱신할 때 사용 (FortuneGenerationService)
+public interface FortuneResultRefresher {
+
+  List<FortuneResponse> refresh(FortuneCacheKey key);
+}
@@ -0,0 +1,49 @@
+package com.fortunehub.luckylog.common.cache;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+// 운세 결과는 결과 연도가 끝날 때까지 바뀌지 않으므로, 연도 마지막 날까지 보관
+// 결과 연도는 cache key(FortuneCacheKey)에 담긴 값을 사용
+public class ResultYearExpiry<V> implements Expiry<FortuneCacheKey, V> {
+
+  private final Clock clock;
+
+  public ResultYearExpiry(Clock clock) {
+    this.clock = clock;
+  }
+
+  @Override
+  public long expireAfterCreate(FortuneCacheKey key, V value, long currentTime) {
+    return nanosUntilYearEnd(key);
+  }
+
+  @Override
+  public long expireAfterUpdate(
+      FortuneCacheKey key, V value, long currentTime, long currentDuration) {
+    return nanosUntilYearEnd(key);
+  }
+
+  @Override
+  public long expireAfterRead(
+      FortuneCacheKey key, V value, long currentTime, long currentDuration) {
+    return currentDuration;
+  }
+
+  private long nanosUntilYearEnd(FortuneCacheKey key) {
+    return untilYearEnd(key, clock).toNanos();
+  }
+
+  // 결과 연도가 끝날 때까지 남은 시간 (이미 끝났으면 0), Redis 캐시도 같은 기준으로 만료
+  static Duration untilYearEnd(FortuneCacheKey key, Clock clock) {
+    ZoneId zone = clock.getZone();
+    Duration remaining = Duration.between(
+        clock.instant(),
+        LocalDate.of(key.resultYear() + 1, 1, 1).atStartOfDay(zone).toInstant());
+
+    return remaining.isNegative() ? Duration.ZERO : remaining;
+  }
+}
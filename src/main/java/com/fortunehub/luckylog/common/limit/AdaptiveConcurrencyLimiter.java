@@ -0,0 +1,195 @@
+package com.fortunehub.luckylog.common.limit;
+
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+// 외부 API 동시 호출 수 제한 (지연 기울기 + AIMD)
+// 여유가 있는 상태에서 정상 응답이 오면 한도를 조금씩 늘리고, 과부하 오류가 오면 한도를 일정 비율로 줄임
+// 최근 지연이 평소 지연(기준선)보다 허용 배수 이상 길어지면 벌어진 만큼 한도를 줄임
+// (생성 분량에 따라 응답 시간이 크게 달라서 고정 기준 시간 대신 기준선과의 비율로 판단)
+// 한도에 도달하면 대기하지 않고 즉시 거절하여 스레드를 점유하지 않음
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+  private static final int RECENT_WINDOW = 10;
+  private static final double MIN_GRADIENT = 0.5;
+  private static final double GRADIENT_SMOOTHING = 0.2;
+
+  private final String name;
+  private final MeterRegistry meterRegistry;
+  private final Predicate<Throwable> isOverload;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+  private final double latencyTolerance;
+  private final int baselineWindow;
+  private final Ticker ticker;
+
+  private double limit;
+  private int inFlight;
+  private double baselineNanos;
+  private double recentNanos;
+
+  public AdaptiveConcurrencyLimiter(
+      String name,
+      MeterRegistry meterRegistry,
+      Predicate<Throwable> isOverload,
+      int initialLimit,
+      int minLimit,
+      int maxLimit,
+      double backoffRatio,
+      double latencyTolerance,
+      int baselineWindow
+  ) {
+    this(name, meterRegistry, isOverload, initialLimit, minLimit, maxLimit, backoffRatio,
+        latencyTolerance, baselineWindow, Ticker.systemTicker());
+  }
+
+  AdaptiveConcurrencyLimiter(
+      String name,
+      MeterRegistry meterRegistry,
+      Predicate<Throwable> isOverload,
+      int initialLimit,
+      int minLimit,
+      int maxLimit,
+      double backoffRatio,
+      double latencyTolerance,
+      int baselineWindow,
+      Ticker ticker
+  ) {
+    this.name = name;
+    this.meterRegistry = meterRegistry;
+    this.isOverload = isOverload;
+    this.limit = initialLimit;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.backoffRatio = backoffRatio;
+    this.latencyTolerance = latencyTolerance;
+    this.baselineWindow = baselineWindow;
+    this.ticker = ticker;
+
+    Gauge.builder(name + ".limit", this, AdaptiveConcurrencyLimiter::getLimit)
+         .register(meterRegistry);
+    Gauge.builder(name + ".inflight", this, AdaptiveConcurrencyLimiter::getInFlight)
+         .register(meterRegistry);
+  }
+
+  public <T> T execute(RequestPriority priority, Supplier<T> call) {
+    int inFlightAtStart = acquire(priority);
+    long start = ticker.read();
+    boolean overloaded = false;
+
+    try {
+      return call.get();
+    } catch (RuntimeException e) {
+      overloaded = isOverload.test(e);
+      throw e;
+    } finally {
+      release(inFlightAtStart, ticker.read() - start, overloaded);
+    }
+  }
+
+  // 한도에 여유가 있을 때만 실행하고, 없으면 거절 기록 없이 empty (헤징 요청처럼 생략해도 되는 추가 호출용)
+  // call이 empty를 반환하면(실제로 호출하지 않음) 슬롯만 반납하고 한도 조정에는 반영하지 않음
+  public <T> Optional<T> tryExecute(RequestPriority priority, Supplier<Optional<T>> call) {
+    int inFlightAtStart = tryAcquire(priority);
+    if (inFlightAtStart == 0) {
+      return Optional.empty();
+    }
+
+    long start = ticker.read();
+    boolean called = true;
+    boolean overloaded = false;
+
+    try {
+      Optional<T> result = call.get();
+      called = result.isPresent();
+      return result;
+    } catch (RuntimeException e) {
+      overloaded = isOverload.test(e);
+      throw e;
+    } finally {
+      if (called) {
+        release(inFlightAtStart, ticker.read() - start, overloaded);
+      } else {
+        cancel();
+      }
+    }
+  }
+
+  public synchronized double getLimit() {
+    return limit;
+  }
+
+  public synchronized int getInFlight() {
+    return inFlight;
+  }
+
+  private int acquire(RequestPriority priority) {
+    int inFlightAtStart = tryAcquire(priority);
+    if (inFlightAtStart > 0) {
+      return inFlightAtStart;
+    }
+
+    meterRegistry.counter(name + ".rejected", "priority", priority.name()).increment();
+    log.warn("[동시 호출 제한] - [요청 거절] | name={} | priority={} | limit={}",
+        name, priority, getLimit());
+    throw new CustomException(ErrorCode.GEMINI_CONCURRENCY_LIMITED);
+  }
+
+  // 차지한 뒤의 동시 호출 수, 한도에 도달했으면 0
+  private synchronized int tryAcquire(RequestPriority priority) {
+    int allowed = Math.max(1, (int) (limit * priority.getLimitShare()));
+    if (inFlight < allowed) {
+      return ++inFlight;
+    }
+    return 0;
+  }
+
+  private synchronized void cancel() {
+    inFlight--;
+  }
+
+  private synchronized void release(int inFlightAtStart, long elapsedNanos, boolean overloaded) {
+    inFlight--;
+
+    if (overloaded) {
+      limit = Math.max(minLimit, limit * backoffRatio);
+      return;
+    }
+
+    double gradient = recordLatency(elapsedNanos);
+    if (gradient < 1.0) {
+      // 한 번에 최대 10%씩 감소 (기울기 하한 0.5 * 반영 비율)
+      limit = Math.max(minLimit, limit * (1 - (1 - gradient) * GRADIENT_SMOOTHING));
+    } else if (inFlightAtStart * 2 >= limit) {
+      // 한도의 절반 이상을 사용 중일 때만 증가 (한도 1회 소진마다 약 +1)
+      limit = Math.min(maxLimit, limit + 1.0 / limit);
+    }
+  }
+
+  // 기준선(약 baselineWindow개)과 최근(약 RECENT_WINDOW개) 지연의 지수이동평균을 갱신하고 기울기를 반환
+  // 기울기 = 허용 배수 * 기준선 / 최근 지연 (0.5 ~ 1.0, 1.0이면 평소 수준)
+  private double recordLatency(long elapsedNanos) {
+    if (baselineNanos == 0) {
+      baselineNanos = elapsedNanos;
+      recentNanos = elapsedNanos;
+    } else {
+      baselineNanos += (elapsedNanos - baselineNanos) / baselineWindow;
+      recentNanos += (elapsedNanos - recentNanos) / RECENT_WINDOW;
+    }
+
+    if (recentNanos <= latencyTolerance * baselineNanos) {
+      return 1.0;
+    }
+    return Math.max(MIN_GRADIENT, latencyTolerance * baselineNanos / recentNanos);
+  }
+}
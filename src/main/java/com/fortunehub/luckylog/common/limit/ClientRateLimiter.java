@@ -0,0 +1,159 @@
+package com.fortunehub.luckylog.common.limit;
+
+import com.fortunehub.luckylog.exception.RateLimitExceededException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+// 외부 API client(IP)별 token bucket, 한 client의 재시도 폭주가 Gemini 호출 여력을 모두 쓰지 않도록 함
+// - 분당 requests-per-minute개씩 채우고 burst개까지 모아서 연속 호출 가능
+// - 부족하면 거절하고, 1개가 채워질 때까지 남은 시간을 Retry-After로 응답
+// - backend=redis이면 모든 노드가 같은 bucket 사용 (Redis 장애 시 노드별 bucket으로 판단)
+// 판정 결과는 external.ratelimit.decisions{result} 지표로 기록 (client는 태그로 남기지 않음)
+@Slf4j
+@Component
+public class ClientRateLimiter {
+
+  private static final String KEY_PREFIX = "ratelimit:external:";
+
+  // ARGV: ms당 충전량, 최대 잔량 → 0이면 허용, 아니면 다음 1개가 채워질 때까지 남은 시간(ms)
+  private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+      "local rate = tonumber(ARGV[1]) "
+          + "local burst = tonumber(ARGV[2]) "
+          + "local time = redis.call('time') "
+          + "local now = time[1] * 1000 + math.floor(time[2] / 1000) "
+          + "local state = redis.call('hmget', KEYS[1], 'tokens', 'ts') "
+          + "local tokens = tonumber(state[1]) or burst "
+          + "local ts = tonumber(state[2]) or now "
+          + "tokens = math.min(burst, tokens + math.max(0, now - ts) * rate) "
+          + "local wait = 0 "
+          + "if tokens >= 1 then tokens = tokens - 1 "
+          + "else wait = math.ceil((1 - tokens) / rate) end "
+          + "redis.call('hset', KEYS[1], 'tokens', tostring(tokens), 'ts', now) "
+          + "redis.call('pexpire', KEYS[1], math.ceil(burst / rate)) "
+          + "return wait",
+      Long.class
+  );
+
+  private final StringRedisTemplate redisTemplate;
+  private final MeterRegistry meterRegistry;
+  private final boolean enabled;
+  private final boolean redisBackend;
+  private final double tokensPerMillis;
+  private final int burst;
+  private final Cache<String, Bucket> buckets;
+  private final Ticker ticker;
+
+  @Autowired
+  public ClientRateLimiter(
+      StringRedisTemplate redisTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${fortune.external.rate-limit.enabled:true}") boolean enabled,
+      @Value("${fortune.external.rate-limit.requests-per-minute:30}") int requestsPerMinute,
+      @Value("${fortune.external.rate-limit.burst:10}") int burst,
+      @Value("${fortune.external.rate-limit.backend:local}") String backend,
+      @Value("${fortune.external.rate-limit.max-clients:100000}") long maxClients
+  ) {
+    this(redisTemplate, meterRegistry, enabled, requestsPerMinute, burst, backend, maxClients,
+        Ticker.systemTicker());
+  }
+
+  ClientRateLimiter(
+      StringRedisTemplate redisTemplate,
+      MeterRegistry meterRegistry,
+      boolean enabled,
+      int requestsPerMinute,
+      int burst,
+      String backend,
+      long maxClients,
+      Ticker ticker
+  ) {
+    this.redisTemplate = redisTemplate;
+    this.meterRegistry = meterRegistry;
+    this.enabled = enabled;
+    this.redisBackend = "redis".equalsIgnoreCase(backend);
+    this.tokensPerMillis = (double) requestsPerMinute / Duration.ofMinutes(1).toMillis();
+    this.burst = burst;
+    this.ticker = ticker;
+    // 가득 찰 때까지 호출이 없던 bucket은 버려도 새로 만든 것과 같음
+    this.buckets = Caffeine.newBuilder()
+                           .maximumSize(maxClients)
+                           .expireAfterAccess(Duration.ofMillis(
+                               (long) Math.ceil(burst / tokensPerMillis)))
+                           .ticker(ticker)
+                           .build();
+  }
+
+  public void check(String client) {
+    if (!enabled) {
+      return;
+    }
+
+    long retryAfterMillis = redisBackend ? tryAcquireShared(client) : tryAcquireLocal(client);
+    if (retryAfterMillis <= 0) {
+      meterRegistry.counter("external.ratelimit.decisions", "result", "allowed").increment();
+      return;
+    }
+
+    long retryAfterSeconds = Math.max(1, (retryAfterMillis + 999) / 1000);
+    meterRegistry.counter("external.ratelimit.decisions", "result", "rejected").increment();
+    log.warn("[외부 API 요청 제한] - [요청 거절] | client={} | retryAfterSeconds={}",
+        client, retryAfterSeconds);
+    throw new RateLimitExceededException(retryAfterSeconds);
+  }
+
+  private long tryAcquireShared(String client) {
+    try {
+      Long retryAfterMillis = redisTemplate.execute(
+          ACQUIRE_SCRIPT,
+          List.of(KEY_PREFIX + client),
+          String.valueOf(tokensPerMillis),
+          String.valueOf(burst)
+      );
+      return retryAfterMillis == null ? 0 : retryAfterMillis;
+
+    } catch (Exception e) {
+      log.warn("[외부 API 요청 제한 확인 실패] - [노드별 bucket으로 판단] | message={}",
+          e.getMessage());
+      return tryAcquireLocal(client);
+    }
+  }
+
+  private long tryAcquireLocal(String client) {
+    long now = ticker.read();
+    return buckets.get(client, key -> new Bucket(burst, now)).tryAcquire(now);
+  }
+
+  private final class Bucket {
+
+    private double tokens;
+    private long updatedAt;
+
+    private Bucket(double tokens, long now) {
+      this.tokens = tokens;
+      this.updatedAt = now;
+    }
+
+    synchronized long tryAcquire(long now) {
+      double elapsedMillis = Math.max(0, now - updatedAt) / 1_000_000.0;
+      tokens = Math.min(burst, tokens + elapsedMillis * tokensPerMillis);
+      updatedAt = now;
+
+      if (tokens >= 1) {
+        tokens -= 1;
+        return 0;
+      }
+      return (long) Math.ceil((1 - tokens) / tokensPerMillis);
+    }
+  }
+}
@@ -0,0 +1,136 @@
+package com.fortunehub.luckylog.common.limit;
+
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+// 모든 노드가 공유하는 Redis token bucket, 노드별로 호출해도 전체 사용량이 분당 한도를 넘지 않도록 함
+// - 분당 한도 * targetUtilization 속도로 채우고, burst 동안 채워지는 양까지 모아둘 수 있음
+// - 잔량이 부족하면 미리 차감(예약)하고 채워질 때까지 기다린 뒤 호출 (먼저 예약한 호출부터 순서대로 진행)
+// - 기다려야 하는 시간이 maxWait을 넘으면 예약하지 않고 즉시 거절
+// - tryAcquire는 기다리지 않고 바로 차감할 수 있을 때만 차감 (헤징처럼 생략해도 되는 추가 호출용)
+// - 노드 간 시계 차이가 없도록 Redis 서버 시간 사용
+// Redis 장애 시에는 제한 없이 호출 (노드별 동시 호출 제한은 그대로 적용)
+@Slf4j
+public class DistributedTokenBucket {
+
+  // ARGV: ms당 충전량, 최대 잔량, 차감량, 최대 대기(ms) → 대기 시간(ms), 거절 시 -1 (Redis 5 이상)
+  private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+      "local rate = tonumber(ARGV[1]) "
+          + "local capacity = tonumber(ARGV[2]) "
+          + "local cost = tonumber(ARGV[3]) "
+          + "local time = redis.call('time') "
+          + "local now = time[1] * 1000 + math.floor(time[2] / 1000) "
+          + "local state = redis.call('hmget', KEYS[1], 'tokens', 'ts') "
+          + "local tokens = tonumber(state[1]) or capacity "
+          + "local ts = tonumber(state[2]) or now "
+          + "tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate) "
+          + "local wait = 0 "
+          + "if tokens < cost then wait = math.ceil((cost - tokens) / rate) end "
+          + "if wait > tonumber(ARGV[4]) then return -1 end "
+          + "redis.call('hset', KEYS[1], 'tokens', tostring(tokens - cost), 'ts', now) "
+          + "redis.call('pexpire', KEYS[1], math.ceil(capacity / rate) + wait + 1000) "
+          + "return wait",
+      Long.class
+  );
+
+  private final String name;
+  private final String key;
+  private final StringRedisTemplate redisTemplate;
+  private final MeterRegistry meterRegistry;
+  private final boolean enabled;
+  private final double tokensPerMillis;
+  private final long capacity;
+  private final long maxWaitMillis;
+  private final Timer waitTimer;
+
+  public DistributedTokenBucket(
+      String name,
+      String key,
+      StringRedisTemplate redisTemplate,
+      MeterRegistry meterRegistry,
+      long tokensPerMinute,
+      double targetUtilization,
+      Duration burst,
+      Duration maxWait
+  ) {
+    this.name = name;
+    this.key = key;
+    this.redisTemplate = redisTemplate;
+    this.meterRegistry = meterRegistry;
+    this.enabled = tokensPerMinute > 0;
+    this.tokensPerMillis = tokensPerMinute * targetUtilization / Duration.ofMinutes(1).toMillis();
+    this.capacity = Math.max(1, (long) (tokensPerMillis * burst.toMillis()));
+    this.maxWaitMillis = maxWait.toMillis();
+    this.waitTimer = Timer.builder(name + ".wait")
+                          .register(meterRegistry);
+  }
+
+  // 잔량이 채워질 때까지 기다림, maxWait 안에 채워지지 않으면 GEMINI_QUOTA_EXHAUSTED
+  public void acquire(long cost) {
+    if (!enabled) {
+      return;
+    }
+
+    // 한 번에 모아둘 수 있는 양보다 큰 요청도 언젠가는 통과하도록 최대 잔량으로 제한
+    long waitMillis = reserve(Math.min(cost, capacity), maxWaitMillis);
+    if (waitMillis < 0) {
+      meterRegistry.counter(name + ".rejected").increment();
+      log.warn("[전역 사용 한도 초과] - [대기 시간 초과] | name={} | cost={} | maxWaitMs={}",
+          name, cost, maxWaitMillis);
+      throw new CustomException(ErrorCode.GEMINI_QUOTA_EXHAUSTED);
+    }
+
+    waitTimer.record(waitMillis, TimeUnit.MILLISECONDS);
+    if (waitMillis == 0) {
+      return;
+    }
+
+    try {
+      Thread.sleep(waitMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CustomException(ErrorCode.GEMINI_QUOTA_EXHAUSTED);
+    }
+  }
+
+  // 잔량이 부족하면 차감하지 않고 false
+  public boolean tryAcquire(long cost) {
+    if (!enabled) {
+      return true;
+    }
+
+    if (reserve(Math.min(cost, capacity), 0) == 0) {
+      return true;
+    }
+    meterRegistry.counter(name + ".skipped").increment();
+    return false;
+  }
+
+  private long reserve(long cost, long waitLimitMillis) {
+    try {
+      Long waitMillis = redisTemplate.execute(
+          ACQUIRE_SCRIPT,
+          List.of(key),
+          String.valueOf(tokensPerMillis),
+          String.valueOf(capacity),
+          String.valueOf(cost),
+          String.valueOf(waitLimitMillis)
+      );
+      return waitMillis == null ? 0 : waitMillis;
+
+    } catch (Exception e) {
+      log.warn("[전역 사용 한도 확인 실패] - [제한 없이 호출] | name={} | message={}",
+          name, e.getMessage());
+      return 0;
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package com.fortunehub.luckylog.common.limit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// Gemini 호출 우선순위, 동시 호출 한도 중 각 등급이 사용할 수 있는 비율
+// 한도에 가까워지면 비율이 낮은 등급부터 거절됨
+@Getter
+@RequiredArgsConstructor
+public enum RequestPriority {
+  AUTHENTICATED_WEB(1.0),
+  ANONYMOUS_WEB(0.8),
+  EXTERNAL_API(0.6),
+  BACKGROUND_REFRESH(0.4); // 만료가 가까운 캐시를 미리 갱신하는 요청, 사용자 요청보다 먼저 거절
+
+  private final double limitShare;
+}
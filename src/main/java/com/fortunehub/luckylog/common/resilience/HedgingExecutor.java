@@ -0,0 +1,227 @@
+package com.fortunehub.luckylog.common.resilience;
+
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+// 응답이 최근 p95 지연 시간 안에 오지 않으면 동일한 요청을 한 번 더 보내고 먼저 끝난 결과를 사용
+// 헤징 요청은 전체 호출 대비 maxHedgeRatio 비율까지만 허용 (호출마다 예산 적립, 헤징 시 1 소모)
+// 헤징 요청은 보낼 때 동시 호출 한도/사용 한도를 확인하여 허용되지 않으면 생략 (hedgeCall이 empty 반환)
+// 헤징할 수 없는 상태(표본 부족)에서는 다른 스레드로 넘기지 않고 호출 스레드에서 바로 호출
+// 늦게 끝난 요청은 취소하지 않고 결과만 버림
+@Slf4j
+public class HedgingExecutor {
+
+  private static final double MAX_HEDGE_BUDGET = 10.0;
+
+  private final String name;
+  private final Executor executor;
+  private final MeterRegistry meterRegistry;
+  private final double maxHedgeRatio;
+  private final int minSamples;
+  private final long minDelayNanos;
+
+  // 최근 호출 지연 시간 (원형 버퍼)
+  private final long[] latencies;
+  private int latencyCount;
+  private int latencyIndex;
+
+  private double hedgeBudget;
+
+  public HedgingExecutor(
+      String name,
+      Executor executor,
+      MeterRegistry meterRegistry,
+      double maxHedgeRatio,
+      int windowSize,
+      int minSamples,
+      Duration minDelay
+  ) {
+    this.name = name;
+    this.executor = executor;
+    this.meterRegistry = meterRegistry;
+    this.maxHedgeRatio = maxHedgeRatio;
+    this.latencies = new long[windowSize];
+    this.minSamples = minSamples;
+    this.minDelayNanos = minDelay.toNanos();
+
+    Gauge.builder(name + ".delay", this, h -> h.hedgeDelayNanos() / 1_000_000.0)
+         .baseUnit("milliseconds")
+         .register(meterRegistry);
+  }
+
+  public <T> T execute(Supplier<T> call) {
+    return execute(call, () -> Optional.of(call.get()));
+  }
+
+  // hedgeCall은 헤징 요청을 보낼 수 없으면(동시 호출 한도, 사용 한도 부족 등) 호출하지 않고 empty를 반환
+  public <T> T execute(Supplier<T> call, Supplier<Optional<T>> hedgeCall) {
+    long delayNanos = hedgeDelayNanos();
+    earnBudget();
+
+    if (delayNanos == 0) {
+      return callDirectly(call); // 헤징하지 않으면 다른 스레드로 넘기지 않음
+    }
+
+    CompletableFuture<T> result = new CompletableFuture<>();
+    AtomicInteger pending = new AtomicInteger(1);
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    try {
+      submit(() -> Optional.of(call.get()), result, pending, failure, false);
+    } catch (RejectedExecutionException e) {
+      return callDirectly(call); // 호출 스레드 풀이 가득 차면 헤징 없이 직접 호출
+    }
+
+    try {
+      return result.get(delayNanos, TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      hedge(hedgeCall, result, pending, failure, delayNanos);
+    } catch (ExecutionException e) {
+      throw rethrow(e.getCause());
+    } catch (InterruptedException e) {
+      throw interrupted(e);
+    }
+
+    try {
+      return result.get();
+    } catch (ExecutionException e) {
+      throw rethrow(e.getCause());
+    } catch (InterruptedException e) {
+      throw interrupted(e);
+    }
+  }
+
+  private <T> T callDirectly(Supplier<T> call) {
+    long start = System.nanoTime();
+    T value = call.get();
+    recordLatency(System.nanoTime() - start);
+    return value;
+  }
+
+  private <T> void hedge(
+      Supplier<Optional<T>> hedgeCall, CompletableFuture<T> result, AtomicInteger pending,
+      AtomicReference<Throwable> failure, long delayNanos) {
+    if (result.isDone()) {
+      return;
+    }
+
+    if (!useBudget()) {
+      meterRegistry.counter(name + ".skipped").increment();
+      return;
+    }
+
+    pending.incrementAndGet();
+    try {
+      submit(hedgeCall, result, pending, failure, true);
+    } catch (RejectedExecutionException e) {
+      refundBudget();
+      settle(result, pending, failure);
+      meterRegistry.counter(name + ".skipped").increment();
+      return;
+    }
+
+    log.info("[헤징 요청 시작] | name={} | delayMs={}", name, delayNanos / 1_000_000);
+  }
+
+  private <T> void submit(
+      Supplier<Optional<T>> call, CompletableFuture<T> result, AtomicInteger pending,
+      AtomicReference<Throwable> failure, boolean hedged) {
+    executor.execute(() -> {
+      long start = System.nanoTime();
+      try {
+        Optional<T> value = call.get();
+        if (value.isEmpty()) {
+          // 헤징 요청이 허용되지 않음 (보내지 않았으므로 예산을 돌려받음)
+          refundBudget();
+          meterRegistry.counter(name + ".skipped").increment();
+          settle(result, pending, failure);
+          return;
+        }
+
+        recordLatency(System.nanoTime() - start);
+        if (hedged) {
+          meterRegistry.counter(name + ".fired").increment();
+        }
+        if (result.complete(value.get()) && hedged) {
+          meterRegistry.counter(name + ".won").increment();
+        }
+      } catch (Throwable t) {
+        failure.compareAndSet(null, t);
+        settle(result, pending, failure);
+      }
+    });
+  }
+
+  // 다른 요청이 남아 있으면 그 결과를 기다리고, 모두 실패하면 먼저 실패한 요청의 예외를 전달
+  private <T> void settle(
+      CompletableFuture<T> result, AtomicInteger pending, AtomicReference<Throwable> failure) {
+    if (pending.decrementAndGet() == 0) {
+      result.completeExceptionally(failure.get());
+    }
+  }
+
+  private synchronized void recordLatency(long nanos) {
+    latencies[latencyIndex] = nanos;
+    latencyIndex = (latencyIndex + 1) % latencies.length;
+    latencyCount = Math.min(latencyCount + 1, latencies.length);
+  }
+
+  // 표본이 부족하면 0 (헤징하지 않음)
+  private synchronized long hedgeDelayNanos() {
+    if (latencyCount < minSamples) {
+      return 0;
+    }
+
+    long[] sorted = Arrays.copyOf(latencies, latencyCount);
+    Arrays.sort(sorted);
+    long p95 = sorted[(int) Math.ceil(latencyCount * 0.95) - 1];
+    return Math.max(minDelayNanos, p95);
+  }
+
+  private synchronized void earnBudget() {
+    hedgeBudget = Math.min(MAX_HEDGE_BUDGET, hedgeBudget + maxHedgeRatio);
+  }
+
+  private synchronized boolean useBudget() {
+    if (hedgeBudget < 1.0) {
+      return false;
+    }
+    hedgeBudget -= 1.0;
+    return true;
+  }
+
+  private synchronized void refundBudget() {
+    hedgeBudget = Math.min(MAX_HEDGE_BUDGET, hedgeBudget + 1.0);
+  }
+
+  // 기다리는 중 인터럽트되면 다른 호출 오류와 같이 CustomException으로 전달
+  private CustomException interrupted(InterruptedException e) {
+    Thread.currentThread().interrupt();
+    return new CustomException(ErrorCode.GEMINI_UNKNOWN_ERROR, e);
+  }
+
+  private RuntimeException rethrow(Throwable cause) {
+    if (cause instanceof RuntimeException e) {
+      return e;
+    }
+    if (cause instanceof Error e) {
+      throw e;
+    }
+    return new IllegalStateException(cause);
+  }
+}
@@ -0,0 +1,74 @@
+package com.fortunehub.luckylog.common.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+// 일시적인 오류에 한해 지수 백오프 + jitter로 재시도
+// 대기 시간은 0 ~ min(maxDelay, baseDelay * 2^(attempt-1)) 사이에서 무작위로 선택 (full jitter)
+@Slf4j
+public class RetryExecutor {
+
+  private final String name;
+  private final MeterRegistry meterRegistry;
+  private final Predicate<Throwable> isRetryable;
+  private final int maxAttempts;
+  private final long baseDelayMillis;
+  private final long maxDelayMillis;
+
+  public RetryExecutor(
+      String name,
+      MeterRegistry meterRegistry,
+      Predicate<Throwable> isRetryable,
+      int maxAttempts,
+      Duration baseDelay,
+      Duration maxDelay
+  ) {
+    this.name = name;
+    this.meterRegistry = meterRegistry;
+    this.isRetryable = isRetryable;
+    this.maxAttempts = maxAttempts;
+    this.baseDelayMillis = baseDelay.toMillis();
+    this.maxDelayMillis = maxDelay.toMillis();
+  }
+
+  public <T> T execute(Supplier<T> call) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return call.get();
+      } catch (RuntimeException e) {
+        if (attempt >= maxAttempts || !isRetryable.test(e)) {
+          throw e;
+        }
+
+        long delayMillis = backoff(attempt);
+        meterRegistry.counter(name + ".attempts", "attempt", String.valueOf(attempt + 1))
+                     .increment();
+        log.warn("[재시도] | name={} | attempt={} | delayMs={} | message={}",
+            name, attempt + 1, delayMillis, e.getMessage());
+
+        if (!sleep(delayMillis)) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  private long backoff(int attempt) {
+    long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 20));
+    return ThreadLocalRandom.current().nextLong(ceiling + 1);
+  }
+
+  private boolean sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.fortunehub.luckylog.config;
+
+import java.util.Map;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class AsyncConfig {
+
+  // 느린 LLM 호출이 Tomcat 스레드를 점유하지 않도록 운세 생성 전용 스레드 풀 사용
+  @Bean(name = "fortuneGenerationExecutor")
+  public ThreadPoolTaskExecutor fortuneGenerationExecutor(
+      @Value("${fortune.job.executor.core-pool-size:8}") int corePoolSize,
+      @Value("${fortune.job.executor.max-pool-size:16}") int maxPoolSize,
+      @Value("${fortune.job.executor.queue-capacity:100}") int queueCapacity
+  ) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(corePoolSize);
+    executor.setMaxPoolSize(maxPoolSize);
+    executor.setQueueCapacity(queueCapacity); // 가득 차면 RejectedExecutionException
+    executor.setThreadNamePrefix("fortune-gen-");
+    executor.setTaskDecorator(mdcTaskDecorator());
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    return executor;
+  }
+
+  // Gemini 호출 지연 시 헤징(동일 요청 추가 발송)을 위해 호출 자체를 실행하는 스레드 풀
+  // 동시 호출 수는 앞단의 동시 호출 제한기가 조절하므로 큐 없이 바로 실행
+  @Bean(name = "geminiCallExecutor")
+  public ThreadPoolTaskExecutor geminiCallExecutor(
+      @Value("${gemini.hedge.executor.core-pool-size:16}") int corePoolSize,
+      @Value("${gemini.hedge.executor.max-pool-size:64}") int maxPoolSize
+  ) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(corePoolSize);
+    executor.setMaxPoolSize(maxPoolSize);
+    executor.setQueueCapacity(0);
+    executor.setThreadNamePrefix("gemini-call-");
+    executor.setTaskDecorator(mdcTaskDecorator());
+    return executor;
+  }
+
+  // 로컬 캐시 refresh-ahead(만료 전 백그라운드 갱신) 전용 스레드 풀
+  // 사용자 요청용 스레드를 쓰지 않도록 분리하고, 큐가 가득 차면 이번 갱신은 건너뜀
+  @Bean(name = "fortuneRefreshExecutor")
+  public ThreadPoolTaskExecutor fortuneRefreshExecutor(
+      @Value("${fortune.cache.local.refresh-executor.pool-size:2}") int poolSize,
+      @Value("${fortune.cache.local.refresh-executor.queue-capacity:50}") int queueCapacity
+  ) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity); // 가득 차면 RejectedExecutionException
+    executor.setThreadNamePrefix("fortune-refresh-");
+    return executor;
+  }
+
+  // 결과 화면 SSE 연결마다 작업 상태를 주기적으로 확인하는 스케줄러 (연결마다 스레드를 점유하지 않음)
+  @Bean(name = "fortuneJobStreamScheduler")
+  public ThreadPoolTaskScheduler fortuneJobStreamScheduler(
+      @Value("${fortune.stream.scheduler.pool-size:2}") int poolSize
+  ) {
+    ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setPoolSize(poolSize);
+    scheduler.setThreadNamePrefix("fortune-stream-");
+    scheduler.setRemoveOnCancelPolicy(true);
+    return scheduler;
+  }
+
+  // 요청 스레드의 requestId(MDC)를 작업 스레드 로그에도 남김
+  private TaskDecorator mdcTaskDecorator() {
+    return runnable -> {
+      Map<String, String> context = MDC.getCopyOfContextMap();
+      return () -> {
+        if (context != null) {
+          MDC.setContextMap(context);
+        }
+        try {
+          runnable.run();
+        } finally {
+          MDC.clear();
+        }
+      };
+    };
+  }
+}
@@ -1,21 +1,62 @@
 package com.fortunehub.luckylog.config;
 
-import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
-import com.github.benmanes.caffeine.cache.Cache;
+import com.fortunehub.luckylog.common.cache.FortuneCacheKey;
+import com.fortunehub.luckylog.common.cache.FortuneResultCacheLoader;
+import com.fortunehub.luckylog.common.cache.FortuneResultMappedStore;
+import com.fortunehub.luckylog.common.cache.FortuneResultRefresher;
+import com.fortunehub.luckylog.common.cache.ResultYearExpiry;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import java.util.List;
-import java.util.concurrent.TimeUnit;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 
 @Configuration
 public class CacheConfig {
 
+  // key 객체(FortuneCacheKey)와 byte[] 값의 대략적인 객체 헤더 크기
+  private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+  // 결과 연도가 끝날 때까지 보관하고, 그 전에는 메모리 한도(byte)에 따라서만 제거
+  // refresh-after가 지나면 기존 값을 응답하면서 백그라운드에서 새 결과로 갱신
+  // 값은 FortuneResultCodec으로 압축한 byte[] (FortuneResultLocalCache를 통해 사용)
   @Bean(name = "fortuneResultCache")
-  public Cache<String, List<FortuneResponse>> fortuneCache() {
+  public LoadingCache<FortuneCacheKey, byte[]> fortuneCache(
+      @Value("${fortune.cache.local.maximum-weight:64MB}") DataSize maximumWeight,
+      @Value("${fortune.cache.local.refresh-after:6d}") Duration refreshAfter,
+      @Qualifier("fortuneResultMappedStore") FortuneResultMappedStore mappedStore,
+      @Qualifier("fortuneRefreshExecutor") Executor refreshExecutor,
+      ObjectProvider<FortuneResultRefresher> refresher
+  ) {
     return Caffeine.newBuilder()
-                   .expireAfterWrite(1, TimeUnit.DAYS)
-                   .maximumSize(300)
-                   .build();
+                   .expireAfter(new ResultYearExpiry<byte[]>(Clock.systemDefaultZone()))
+                   .refreshAfterWrite(refreshAfter)
+                   .maximumWeight(maximumWeight.toBytes())
+                   .weigher((FortuneCacheKey key, byte[] value) ->
+                       ENTRY_OVERHEAD_BYTES + value.length)
+                   .build(new FortuneResultCacheLoader(
+                       refresher::getObject, mappedStore, refreshExecutor));
+  }
+
+  // 재시작 후에도 유지되는 로컬 캐시 하위 저장소, 경로를 비우면 사용하지 않음
+  @Bean(name = "fortuneResultMappedStore")
+  public FortuneResultMappedStore fortuneResultMappedStore(
+      @Value("${fortune.cache.mapped.path:}") String path,
+      @Value("${fortune.cache.mapped.file-size:256MB}") DataSize fileSize,
+      @Value("${fortune.cache.mapped.slot-count:1048576}") int slotCount,
+      @Value("${fortune.cache.content-version:v1}") String contentVersion
+  ) {
+    if (path.isBlank()) {
+      return FortuneResultMappedStore.disabled();
+    }
+    return FortuneResultMappedStore.open(
+        Path.of(path), fileSize.toBytes(), slotCount, contentVersion);
   }
 }
@@ -1,22 +1,30 @@
 package com.fortunehub.luckylog.controller.api.fortune;
 
+import com.fortunehub.luckylog.common.limit.ClientRateLimiter;
+import com.fortunehub.luckylog.common.limit.RequestPriority;
 import com.fortunehub.luckylog.dto.request.fortune.GenerateFortuneRequest;
 import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import com.fortunehub.luckylog.service.fortune.FortuneIdempotencyService;
 import com.fortunehub.luckylog.service.fortune.FortuneService;
+import com.fortunehub.luckylog.service.fortune.FortuneStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -26,25 +34,70 @@ import org.springframework.web.bind.annotation.RestController;
 public class ExternalFortuneController {
 
   private final FortuneService fortuneService;
+  private final FortuneStreamService fortuneStreamService;
+  private final ClientRateLimiter clientRateLimiter;
+  private final FortuneIdempotencyService fortuneIdempotencyService;
 
   @PostMapping
-  @Operation(summary = "외부 API를 활용한 운세 생성")
+  @Operation(
+      summary = "외부 API를 활용한 운세 생성",
+      description = "Idempotency-Key 헤더를 보내면 같은 key로 재시도한 요청은 다시 생성하지 않고 "
+          + "처음 요청의 결과로 응답합니다. (24시간 보관)"
+  )
   @ApiResponses({
       @ApiResponse(responseCode = "200", description = "운세 생성 성공"),
       @ApiResponse(responseCode = "400", description = "잘못된 요청"),
       @ApiResponse(responseCode = "404", description = "존재하지 않는 회원/운세/운세 카테고리"),
-      @ApiResponse(responseCode = "500", description = "서버 오류")
+      @ApiResponse(responseCode = "409", description = "같은 Idempotency-Key의 요청을 처리 중"),
+      @ApiResponse(responseCode = "422", description = "같은 Idempotency-Key로 다른 요청 본문 전송"),
+      @ApiResponse(responseCode = "429", description = "client별 요청 한도 초과 (Retry-After 헤더 참고)"),
+      @ApiResponse(responseCode = "500", description = "서버 오류"),
+      @ApiResponse(responseCode = "503", description = "요청 과다")
   })
   public ResponseEntity<List<FortuneResponse>> generate(
-      @Valid @RequestBody GenerateFortuneRequest request) {
+      @Valid @RequestBody GenerateFortuneRequest request,
+      @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+      HttpServletRequest httpRequest) {
+
+    String client = httpRequest.getRemoteAddr();
+    clientRateLimiter.check(client);
 
     int fortuneResultYear = LocalDateTime.now().getYear();
-    List<FortuneResponse> responses = fortuneService.generateFortune(
-        request.getBirthInfo(), request.getOption(), fortuneResultYear);
+    List<FortuneResponse> responses = fortuneIdempotencyService.execute(
+        client, idempotencyKey, request,
+        () -> fortuneService.generateFortune(
+            request.getBirthInfo(), request.getOption(), fortuneResultYear,
+            RequestPriority.EXTERNAL_API));
 
     log.info("[외부 운세 생성 완료] | fortuneTypes={} | resultCount={}",
         request.getOption().getFortunes(), responses.size());
 
     return ResponseEntity.ok(responses);
   }
+
+  @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @Operation(
+      summary = "외부 API를 활용한 운세 생성 (SSE 스트리밍)",
+      description = "운세 결과가 생성되는 즉시 fortune 이벤트로 하나씩 전송하고, "
+          + "모두 전송하면 complete 이벤트, 실패 시 error 이벤트를 전송합니다."
+  )
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "스트리밍 시작"),
+      @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+      @ApiResponse(responseCode = "429", description = "client별 요청 한도 초과 (Retry-After 헤더 참고)"),
+      @ApiResponse(responseCode = "503", description = "요청 과다")
+  })
+  public SseEmitter stream(
+      @Valid @RequestBody GenerateFortuneRequest request, HttpServletRequest httpRequest) {
+
+    clientRateLimiter.check(httpRequest.getRemoteAddr());
+
+    int fortuneResultYear = LocalDateTime.now().getYear();
+
+    log.info("[외부 운세 스트리밍 시작] | fortuneTypes={}", request.getOption().getFortunes());
+
+    return fortuneStreamService.stream(
+        request.getBirthInfo(), request.getOption(), fortuneResultYear,
+        RequestPriority.EXTERNAL_API);
+  }
 }
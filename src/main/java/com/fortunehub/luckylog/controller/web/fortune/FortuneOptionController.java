@@ -1,19 +1,22 @@
 package com.fortunehub.luckylog.controller.web.fortune;
 
+import com.fortunehub.luckylog.common.limit.RequestPriority;
 import com.fortunehub.luckylog.controller.web.fortune.form.BirthInfoForm;
 import com.fortunehub.luckylog.controller.web.fortune.form.FortuneOptionForm;
 import com.fortunehub.luckylog.domain.common.LoadingMessage;
 import com.fortunehub.luckylog.domain.fortune.AIType;
 import com.fortunehub.luckylog.domain.fortune.FortuneType;
 import com.fortunehub.luckylog.domain.fortune.PeriodType;
-import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
 import com.fortunehub.luckylog.exception.CustomException;
-import com.fortunehub.luckylog.service.fortune.FortuneService;
+import com.fortunehub.luckylog.security.CustomUserDetails;
+import com.fortunehub.luckylog.service.fortune.FortuneJobService;
+import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.ObjectError;
@@ -34,7 +37,7 @@ public class FortuneOptionController {
   private static final String REDIRECT_HOME = "redirect:/";
   private static final String REDIRECT_FORTUNE_RESULT = "redirect:/fortune/result";
 
-  private final FortuneService fortuneService;
+  private final FortuneJobService fortuneJobService;
 
   @ModelAttribute("aiTypes")
   public List<AIType> aiTypes() {
@@ -68,6 +71,8 @@ public class FortuneOptionController {
       @Valid @ModelAttribute FortuneOptionForm option,
       BindingResult result,
       @SessionAttribute(name = "birthInfo", required = false) BirthInfoForm savedBirthInfo,
+      @AuthenticationPrincipal CustomUserDetails userDetails,
+      HttpSession session,
       RedirectAttributes redirectAttributes
   ) {
 
@@ -88,12 +93,15 @@ public class FortuneOptionController {
     }
 
     try {
+      // 생성은 전용 스레드 풀에서 진행하고, 결과 페이지에서 작업 상태를 조회
       int fortuneResultYear = LocalDateTime.now().getYear();
-      List<FortuneResponse> responses = fortuneService.generateFortune(
-          savedBirthInfo, option, fortuneResultYear);
-      redirectAttributes.addFlashAttribute("fortuneResultYear", fortuneResultYear);
-      redirectAttributes.addFlashAttribute("option", option); //자동으로 Model에 포함
-      redirectAttributes.addFlashAttribute("responses", responses);
+      // 로그인 사용자의 요청을 우선 처리
+      RequestPriority priority = (userDetails != null)
+          ? RequestPriority.AUTHENTICATED_WEB
+          : RequestPriority.ANONYMOUS_WEB;
+      String jobId = fortuneJobService.submit(
+          session.getId(), savedBirthInfo, option, fortuneResultYear, priority);
+      redirectAttributes.addAttribute("jobId", jobId); // query parameter로 전달
 
       return REDIRECT_FORTUNE_RESULT;
 
@@ -1,38 +1,111 @@
 package com.fortunehub.luckylog.controller.web.fortune;
 
-import com.fortunehub.luckylog.controller.web.fortune.form.FortuneOptionForm;
-import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
-import java.time.LocalDate;
-import java.util.List;
+import com.fortunehub.luckylog.domain.common.LoadingMessage;
+import com.fortunehub.luckylog.domain.fortune.FortuneJob;
+import com.fortunehub.luckylog.dto.response.fortune.FortuneJobStatusResponse;
+import com.fortunehub.luckylog.service.fortune.FortuneJobService;
+import com.fortunehub.luckylog.service.fortune.FortuneStreamService;
+import jakarta.servlet.http.HttpSession;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 @Slf4j
 @Controller
+@RequiredArgsConstructor
 @RequestMapping("/fortune/result")
 public class FortuneResultController {
 
+  private static final String FORTUNE_RESULT_VIEW = "fortune/fortune-result";
+  private static final String FORTUNE_PENDING_VIEW = "fortune/fortune-pending";
+  private static final String REDIRECT_HOME = "redirect:/";
+  private static final String REDIRECT_FORTUNE_OPTION = "redirect:/fortune/option";
+
+  private final FortuneJobService fortuneJobService;
+  private final FortuneStreamService fortuneStreamService;
+
   @GetMapping
   public String show(
-      Model model // 뷰로 데이터 보내기(서버 → 클라이언트)
+      @RequestParam(name = "jobId", required = false) String jobId,
+      HttpSession session,
+      Model model, // 뷰로 데이터 보내기(서버 → 클라이언트)
+      RedirectAttributes redirectAttributes
   ) {
-    int fortuneResultYear = (int) model.getAttribute("fortuneResultYear");
-    FortuneOptionForm form = (FortuneOptionForm) model.getAttribute("option");
-    List<FortuneResponse> responses = (List<FortuneResponse>) model.getAttribute("responses");
-
-    if (form == null || responses == null || responses.isEmpty()) {
-      log.warn("[운세 결과 표시 실패] - [필수 데이터 누락] | option={} | responses={}",
-          form, responses);
-      return "redirect:/";
+    Optional<FortuneJob> found = jobId == null
+        ? Optional.empty()
+        : fortuneJobService.findJob(jobId, session.getId());
+
+    if (found.isEmpty()) {
+      log.warn("[운세 결과 표시 실패] - [작업 없음] | jobId={}", jobId);
+      return REDIRECT_HOME;
+    }
+
+    FortuneJob job = found.get();
+
+    return switch (job.getStatus()) {
+      case PENDING -> {
+        model.addAttribute("jobId", job.getId());
+        model.addAttribute("loadingMessage", LoadingMessage.getRandomMessage());
+        yield FORTUNE_PENDING_VIEW;
+      }
+      case FAILED -> {
+        log.warn("[운세 결과 표시 실패] - [생성 실패] | jobId={} | code={}",
+            job.getId(), job.getErrorCode());
+        redirectAttributes.addFlashAttribute("errorMessage",
+            "😲 사주 정보를 불러오는데 실패하였습니다.\n잠시 후 다시 시도해주세요.");
+        yield REDIRECT_FORTUNE_OPTION;
+      }
+      case COMPLETED -> showResult(job, model);
+    };
+  }
+
+  @ResponseBody
+  @GetMapping("/jobs/{jobId}")
+  public ResponseEntity<FortuneJobStatusResponse> status(
+      @PathVariable(name = "jobId") String jobId,
+      HttpSession session) {
+    return fortuneJobService.findJob(jobId, session.getId())
+                            .map(FortuneJobStatusResponse::from)
+                            .map(ResponseEntity::ok)
+                            .orElseGet(() -> ResponseEntity.notFound().build());
+  }
+
+  // 생성 중인 결과를 먼저 받아 볼 수 있도록 작업의 중간 결과를 SSE로 전달 (EventSource로 구독)
+  @ResponseBody
+  @GetMapping(value = "/jobs/{jobId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public ResponseEntity<SseEmitter> stream(
+      @PathVariable(name = "jobId") String jobId,
+      HttpSession session) {
+    if (fortuneJobService.findJob(jobId, session.getId()).isEmpty()) {
+      return ResponseEntity.notFound().build();
+    }
+    return ResponseEntity.ok(fortuneStreamService.streamJob(jobId, session.getId()));
+  }
+
+  private String showResult(FortuneJob job, Model model) {
+    if (job.getOption() == null || job.getResponses() == null || job.getResponses().isEmpty()) {
+      log.warn("[운세 결과 표시 실패] - [필수 데이터 누락] | jobId={} | option={} | responses={}",
+          job.getId(), job.getOption(), job.getResponses());
+      return REDIRECT_HOME;
     }
 
-    model.addAttribute("fortuneResultYear", fortuneResultYear);
-    model.addAttribute("periodDisplayValue", form.getPeriod().getDisplayName());
-    model.addAttribute("selectedOptions", form.getFortunesAsString());
+    model.addAttribute("fortuneResultYear", job.getFortuneResultYear());
+    model.addAttribute("option", job.getOption());
+    model.addAttribute("responses", job.getResponses());
+    model.addAttribute("periodDisplayValue", job.getOption().getPeriod().getDisplayName());
+    model.addAttribute("selectedOptions", job.getOption().getFortunesAsString());
 
-    return "fortune/fortune-result";
+    return FORTUNE_RESULT_VIEW;
   }
 }
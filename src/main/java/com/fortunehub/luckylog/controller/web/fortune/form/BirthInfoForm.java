@@ -4,11 +4,14 @@ import com.fortunehub.luckylog.domain.fortune.CalendarType;
 import com.fortunehub.luckylog.domain.fortune.CityType;
 import com.fortunehub.luckylog.domain.fortune.GenderType;
 import com.fortunehub.luckylog.domain.fortune.TimeType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.io.Serial;
 import java.io.Serializable;
+import java.time.Year;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -31,7 +34,7 @@ public class BirthInfoForm implements Serializable {
   @NotNull(message = "📅 양력 또는 음력을 선택해주세요!")
   private CalendarType calendar = CalendarType.SOLAR;
 
-  @Schema(description = "출생 연도", example = "1995", minimum = "1940", requiredMode = Schema.RequiredMode.REQUIRED)
+  @Schema(description = "출생 연도 (올해까지)", example = "1995", minimum = "1940", requiredMode = Schema.RequiredMode.REQUIRED)
   @NotNull(message = "🎂 생년월일을 모두 입력해주세요!")
   @Min(1940)
   private Integer year;
@@ -51,4 +54,11 @@ public class BirthInfoForm implements Serializable {
 
   @Schema(description = "출생 도시 (선택사항)", example = "SEOUL")
   private CityType city;
+
+  // 출생 연도는 올해까지 (cache key에 12 bit로 담기므로 범위를 벗어난 값이 들어오지 않도록 검증)
+  @JsonIgnore
+  @AssertTrue(message = "🎂 출생 연도는 올해까지만 입력할 수 있어요!")
+  public boolean isYearNotInFuture() {
+    return year == null || year <= Year.now().getValue();
+  }
 }
\ No newline at end of file
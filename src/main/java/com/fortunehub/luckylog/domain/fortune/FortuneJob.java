@@ -0,0 +1,69 @@
+package com.fortunehub.luckylog.domain.fortune;
+
+import com.fortunehub.luckylog.controller.web.fortune.form.FortuneOptionForm;
+import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.util.DigestUtils;
+
+// 비동기 운세 생성 작업, 노드 간 공유를 위해 Redis에 JSON으로 저장
+// 작업을 등록한 세션에서만 조회할 수 있도록 세션 id의 hash를 함께 저장 (세션 id 자체는 저장하지 않음)
+@NoArgsConstructor
+@Getter
+@Setter
+public class FortuneJob {
+
+  private String id;
+  private String owner;
+  private FortuneJobStatus status;
+  private FortuneOptionForm option;
+  private int fortuneResultYear;
+  private List<FortuneResponse> responses;
+  private ErrorCode errorCode;
+
+  public static FortuneJob pending(
+      String sessionId, FortuneOptionForm option, int fortuneResultYear) {
+    FortuneJob job = new FortuneJob();
+    job.id = UUID.randomUUID().toString();
+    job.owner = ownerOf(sessionId);
+    job.status = FortuneJobStatus.PENDING;
+    job.option = option;
+    job.fortuneResultYear = fortuneResultYear;
+    return job;
+  }
+
+  public boolean isOwnedBy(String sessionId) {
+    return owner != null && owner.equals(ownerOf(sessionId));
+  }
+
+  // 생성 중에 먼저 도착한 결과 (완료 시 complete로 전체 결과를 다시 저장)
+  public void addResponse(FortuneResponse response) {
+    if (status != FortuneJobStatus.PENDING) {
+      return;
+    }
+    if (responses == null) {
+      responses = new ArrayList<>();
+    }
+    responses.add(response);
+  }
+
+  public void complete(List<FortuneResponse> responses) {
+    this.status = FortuneJobStatus.COMPLETED;
+    this.responses = responses;
+  }
+
+  public void fail(ErrorCode errorCode) {
+    this.status = FortuneJobStatus.FAILED;
+    this.errorCode = errorCode;
+  }
+
+  private static String ownerOf(String sessionId) {
+    return DigestUtils.md5DigestAsHex(sessionId.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,7 @@
+package com.fortunehub.luckylog.domain.fortune;
+
+public enum FortuneJobStatus {
+  PENDING,
+  COMPLETED,
+  FAILED
+}
@@ -8,13 +8,14 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum PeriodType {
 
-  MONTHLY("📆", "월별", true),
-  QUARTERLY("📊", "분기별", false),
-  YEARLY("📋", "올 한해", false);
+  MONTHLY("📆", "월별", true, 12),
+  QUARTERLY("📊", "분기별", false, 4),
+  YEARLY("📋", "올 한해", false, 1);
 
   private final String icon;
   private final String displayName;
   private final boolean enabled;
+  private final int periodCount; // 운세 종류 하나당 생성되는 결과 수
 
   public static final List<PeriodType> ALL_TYPES = List.of(values());
 }
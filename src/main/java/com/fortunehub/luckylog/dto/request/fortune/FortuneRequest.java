@@ -1,8 +1,10 @@
 package com.fortunehub.luckylog.dto.request.fortune;
 
 import com.fortunehub.luckylog.common.cache.CacheKeyProvider;
+import com.fortunehub.luckylog.common.cache.FortuneCacheKey;
 import com.fortunehub.luckylog.controller.web.fortune.form.BirthInfoForm;
 import com.fortunehub.luckylog.controller.web.fortune.form.FortuneOptionForm;
+import com.fortunehub.luckylog.domain.fortune.AIType;
 import com.fortunehub.luckylog.domain.fortune.CalendarType;
 import com.fortunehub.luckylog.domain.fortune.CityType;
 import com.fortunehub.luckylog.domain.fortune.FortuneType;
@@ -35,6 +37,9 @@ public class FortuneRequest implements CacheKeyProvider {
   // 운세 결과 연도
   private final Integer fortuneResultYear;
 
+  // 우선 사용할 LLM provider (cache key에는 포함하지 않음, 캐시 갱신처럼 선택한 AI가 없으면 null)
+  private final AIType ai;
+
   public static FortuneRequest from(
       BirthInfoForm birthInfo,
       FortuneOptionForm fortuneOption,
@@ -49,7 +54,25 @@ public class FortuneRequest implements CacheKeyProvider {
         birthInfo.getCity(),
         fortuneOption.getFortunes(),
         fortuneOption.getPeriod(),
-        fortuneResultYear
+        fortuneResultYear,
+        fortuneOption.getAi()
+    );
+  }
+
+  // cache key에 담긴 요청 정보로 복원 (캐시 갱신용), 출생 시간/장소가 없던 요청은 모름으로 복원
+  public static FortuneRequest from(FortuneCacheKey key) {
+    return new FortuneRequest(
+        key.gender(),
+        key.calendar(),
+        key.birthYear(),
+        key.month(),
+        key.day(),
+        key.time(),
+        key.city(),
+        key.fortunes(),
+        key.period(),
+        key.resultYear(),
+        null
     );
   }
 
@@ -76,35 +99,38 @@ public class FortuneRequest implements CacheKeyProvider {
   }
 
   public String toBirthInfo() {
-    return new StringBuilder("# 사용자 정보")
-        .append("\n- 생년월일: ").append(getBirthDate())
+    return appendBirthInfo(new StringBuilder()).toString();
+  }
+
+  // 프롬프트를 조합하는 builder에 사용자 정보를 바로 이어 붙임
+  public StringBuilder appendBirthInfo(StringBuilder builder) {
+    return builder
+        .append("# 사용자 정보")
+        .append("\n- 생년월일: ").append(year).append("년 ")
+        .append(month).append("월 ").append(day).append("일")
         .append("\n- 양력/음력: ").append(calendar.getDisplayName())
         .append("\n- 성별: ").append(gender.getDisplayName())
         .append("\n- 출생시간: ").append(getBirthTime())
-        .append("\n- 출생장소: ").append(getBirthCity())
-        .toString();
+        .append("\n- 출생장소: ").append(getBirthCity());
+  }
+
+  public FortuneRequest withFortunes(List<FortuneType> fortunes) {
+    return new FortuneRequest(
+        gender, calendar, year, month, day, time, city,
+        fortunes, period, fortuneResultYear, ai
+    );
   }
 
   @Override
-  public String cacheKey() {
-    String timeKey = (time == null) ? TimeType.UNKNOWN.name() : time.name();
-    String cityKey = (city == null) ? CityType.UNKNOWN.name() : city.name();
-    String fortuneKeys = fortunes.stream()
-                                 .map(Enum::name)
-                                 .sorted()
-                                 .collect(Collectors.joining(","));
-
-    return String.join(":",
-        gender.name(),
-        calendar.name(),
-        year.toString(),
-        month.toString(),
-        day.toString(),
-        timeKey,
-        cityKey,
-        fortuneKeys,
-        period.name(),
-        fortuneResultYear.toString()
+  public FortuneCacheKey cacheKey() {
+    return FortuneCacheKey.of(
+        gender, calendar, year, month, day, time, city,
+        fortunes, period, fortuneResultYear
     );
   }
+
+  // 운세 종류별로 결과를 캐시하기 위한 key (생년월일 정보, 운세 종류, 주기, 결과 연도)
+  public FortuneCacheKey cacheKey(FortuneType fortune) {
+    return cacheKey().withFortune(fortune);
+  }
 }
@@ -0,0 +1,18 @@
+package com.fortunehub.luckylog.dto.response.fortune;
+
+import com.fortunehub.luckylog.domain.fortune.FortuneJob;
+import com.fortunehub.luckylog.domain.fortune.FortuneJobStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class FortuneJobStatusResponse {
+
+  private final String jobId;
+  private final FortuneJobStatus status;
+
+  public static FortuneJobStatusResponse from(FortuneJob job) {
+    return new FortuneJobStatusResponse(job.getId(), job.getStatus());
+  }
+}
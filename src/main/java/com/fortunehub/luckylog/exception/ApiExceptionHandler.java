@@ -5,12 +5,16 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+// 오류 응답은 Content-Type을 JSON으로 지정하여, SSE 요청(Accept: text/event-stream)이
+// 스트리밍 시작 전에 실패해도 Accept와 관계없이 ErrorResponse로 응답
 @Slf4j
 @RestControllerAdvice(basePackages = "com.fortunehub.luckylog.controller.api")
 public class ApiExceptionHandler {
@@ -34,7 +38,27 @@ public class ApiExceptionHandler {
                                           .details(errors)
                                           .build();
 
-    return ResponseEntity.badRequest().body(response);
+    return ResponseEntity.badRequest()
+                         .contentType(MediaType.APPLICATION_JSON)
+                         .body(response);
+  }
+
+  // 다시 요청해도 되는 시점을 Retry-After(초)로 알려줌
+  @ExceptionHandler(RateLimitExceededException.class)
+  public ResponseEntity<ErrorResponse> handleRateLimitExceeded(RateLimitExceededException ex) {
+    ErrorCode errorCode = ex.getErrorCode();
+
+    ErrorResponse response = ErrorResponse.builder()
+                                          .code(errorCode.name())
+                                          .message(errorCode.getMessage())
+                                          .timestamp(LocalDateTime.now())
+                                          .build();
+
+    return ResponseEntity
+        .status(errorCode.getStatus())
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(response);
   }
 
   @ExceptionHandler(CustomException.class)
@@ -52,6 +76,7 @@ public class ApiExceptionHandler {
 
     return ResponseEntity
         .status(errorCode.getStatus())
+        .contentType(MediaType.APPLICATION_JSON)
         .body(response);
   }
 
@@ -67,6 +92,7 @@ public class ApiExceptionHandler {
 
     return ResponseEntity
         .status(HttpStatus.INTERNAL_SERVER_ERROR)
+        .contentType(MediaType.APPLICATION_JSON)
         .body(response);
   }
 }
@@ -20,6 +20,17 @@ public enum ErrorCode {
   GEMINI_OVERLOAD(HttpStatus.SERVICE_UNAVAILABLE, "😵 Gemini API 과부하 상태입니다. 잠시 후 다시 시도해주세요."),
   GEMINI_UNKNOWN_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "😮 Gemini API 호출 중 예기치 못한 오류가 발생했습니다."),
   GEMINI_RESPONSE_PARSE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "🔮 Gemini 응답 파싱 중 오류가 발생했습니다."),
+  GEMINI_CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE, "🚧 Gemini API 장애로 운세 생성이 일시 중단되었습니다. 잠시 후 다시 시도해주세요."),
+  GEMINI_CONCURRENCY_LIMITED(HttpStatus.SERVICE_UNAVAILABLE, "🚦 운세 생성 요청이 몰리고 있습니다. 잠시 후 다시 시도해주세요."),
+  GEMINI_QUOTA_EXHAUSTED(HttpStatus.SERVICE_UNAVAILABLE, "⌛ Gemini API 사용 한도에 도달했습니다. 잠시 후 다시 시도해주세요."),
+
+  // 운세 생성 작업
+  FORTUNE_JOB_REJECTED(HttpStatus.SERVICE_UNAVAILABLE, "⏳ 운세 생성 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+
+  // 외부 API
+  EXTERNAL_API_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "🐢 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+  IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "🔑 같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다."),
+  IDEMPOTENT_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "⏳ 같은 Idempotency-Key의 요청을 처리 중입니다. 잠시 후 다시 시도해주세요."),
 
   // AI 타입
   UNSUPPORTED_AI_TYPE(HttpStatus.BAD_REQUEST, "🤖 지원되지 않는 AI 타입입니다."),
@@ -0,0 +1,14 @@
+package com.fortunehub.luckylog.exception;
+
+import lombok.Getter;
+
+@Getter
+public class RateLimitExceededException extends CustomException {
+
+  private final long retryAfterSeconds; // Retry-After 헤더 값
+
+  public RateLimitExceededException(long retryAfterSeconds) {
+    super(ErrorCode.EXTERNAL_API_RATE_LIMITED);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+}
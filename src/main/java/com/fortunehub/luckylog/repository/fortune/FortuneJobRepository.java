@@ -0,0 +1,58 @@
+package com.fortunehub.luckylog.repository.fortune;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fortunehub.luckylog.domain.fortune.FortuneJob;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+@Slf4j
+@Repository
+public class FortuneJobRepository {
+
+  private static final String KEY_PREFIX = "fortune:job:";
+
+  private final StringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final Duration ttl;
+
+  public FortuneJobRepository(
+      StringRedisTemplate redisTemplate,
+      ObjectMapper objectMapper,
+      @Value("${fortune.job.ttl:10m}") Duration ttl
+  ) {
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    this.ttl = ttl;
+  }
+
+  public void save(FortuneJob job) {
+    try {
+      redisTemplate.opsForValue().set(
+          KEY_PREFIX + job.getId(),
+          objectMapper.writeValueAsString(job),
+          ttl
+      );
+    } catch (Exception e) {
+      throw new IllegalStateException("운세 생성 작업 저장 실패 - jobId=" + job.getId(), e);
+    }
+  }
+
+  public Optional<FortuneJob> findById(String jobId) {
+    try {
+      String json = redisTemplate.opsForValue().get(KEY_PREFIX + jobId);
+      if (json == null) {
+        return Optional.empty();
+      }
+
+      return Optional.of(objectMapper.readValue(json, FortuneJob.class));
+
+    } catch (Exception e) {
+      log.warn("[운세 생성 작업 조회 실패] | jobId={} | message={}", jobId, e.getMessage());
+      return Optional.empty();
+    }
+  }
+}
@@ -0,0 +1,321 @@
+package com.fortunehub.luckylog.service.fortune;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+// 외부 API의 Idempotency-Key 처리, 같은 key로 재시도한 요청은 다시 생성하지 않고 처음 요청의 결과를 사용
+// - 처음 요청이 진행 중이면 같은 노드의 재시도는 그 결과를 기다림 (maxWait 초과 시 409)
+// - 생성 전에 Redis에 처리 중 표시(SET NX, inFlightTtl)를 남겨, 다른 노드로 온 재시도는
+//   결과가 저장될 때까지 pollInterval마다 확인하며 기다림 (maxWait 초과 시 409)
+// - 처리 중 표시 값은 "요청 fingerprint:처리 노드 token"이며, 생성하는 동안 inFlightTtl의 1/3마다 연장하고
+//   끝나면 본인 token일 때만 삭제 (만료 후 다른 노드가 남긴 표시를 지우지 않도록)
+// - 완료된 결과는 ttl 동안 로컬(최대 maxKeys개)과 Redis에 보관하여 다른 노드로 온 재시도에도 그대로 응답
+// - key는 client(IP)별로 구분하고, 같은 key로 다른 요청 본문을 보내면 422
+// - 생성에 실패한 요청은 보관하지 않음 (같은 key로 다시 시도 가능)
+// Redis 장애 시에는 노드 내 기록만 사용
+@Slf4j
+@Service
+public class FortuneIdempotencyService {
+
+  private static final String KEY_PREFIX = "fortune:idempotency:";
+  private static final String IN_FLIGHT_PREFIX = "fortune:idempotency:in-flight:";
+
+  // 본인이 남긴 처리 중 표시일 때만 삭제
+  private static final RedisScript<Long> CLEAR_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('get', KEYS[1]) == ARGV[1] then "
+          + "return redis.call('del', KEYS[1]) "
+          + "else return 0 end",
+      Long.class
+  );
+
+  // 본인이 남긴 처리 중 표시일 때만 만료 시간 연장
+  private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('get', KEYS[1]) == ARGV[1] then "
+          + "return redis.call('pexpire', KEYS[1], ARGV[2]) "
+          + "else return 0 end",
+      Long.class
+  );
+
+  private final StringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final ObjectReader reader;
+  private final MeterRegistry meterRegistry;
+  private final Duration ttl;
+  private final Duration maxWait;
+  private final Duration inFlightTtl;
+  private final Duration pollInterval;
+  private final ScheduledExecutorService renewScheduler;
+  private final Cache<String, Entry> entries;
+
+  public FortuneIdempotencyService(
+      StringRedisTemplate redisTemplate,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${fortune.idempotency.ttl:24h}") Duration ttl,
+      @Value("${fortune.idempotency.max-keys:10000}") long maxKeys,
+      @Value("${fortune.idempotency.max-wait:2m}") Duration maxWait,
+      @Value("${fortune.idempotency.in-flight-ttl:3m}") Duration inFlightTtl,
+      @Value("${fortune.idempotency.poll-interval:200ms}") Duration pollInterval
+  ) {
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    this.reader = objectMapper.readerFor(StoredResult.class);
+    this.meterRegistry = meterRegistry;
+    this.ttl = ttl;
+    this.maxWait = maxWait;
+    this.inFlightTtl = inFlightTtl;
+    this.pollInterval = pollInterval;
+    this.renewScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "idempotency-renew");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.entries = Caffeine.newBuilder()
+                           .maximumSize(maxKeys)
+                           .expireAfterWrite(ttl)
+                           .build();
+  }
+
+  public List<FortuneResponse> execute(
+      String client, String idempotencyKey, Object request,
+      Supplier<List<FortuneResponse>> generator) {
+
+    if (idempotencyKey == null || idempotencyKey.isBlank()) {
+      return generator.get();
+    }
+
+    String key = DigestUtils.md5DigestAsHex(
+        (client + "\n" + idempotencyKey).getBytes(StandardCharsets.UTF_8));
+    String fingerprint = fingerprint(request);
+
+    Entry created = new Entry(fingerprint, new CompletableFuture<>());
+    Entry entry = entries.get(key, k -> created);
+    verifySameRequest(entry.fingerprint(), fingerprint, idempotencyKey);
+
+    if (entry != created) {
+      record(entry.result().isDone() ? "replayed" : "attached");
+      return await(entry, idempotencyKey);
+    }
+
+    try {
+      List<FortuneResponse> responses = findOrGenerate(
+          key, fingerprint, idempotencyKey, generator);
+      created.result().complete(responses);
+      return responses;
+
+    } catch (RuntimeException e) {
+      entries.asMap().remove(key, created);
+      created.result().completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  // 다른 노드에서 완료했거나 처리 중이면 그 결과를 사용하고, 아니면 처리 중 표시를 남기고 생성
+  private List<FortuneResponse> findOrGenerate(
+      String key, String fingerprint, String idempotencyKey,
+      Supplier<List<FortuneResponse>> generator) {
+    long deadline = System.nanoTime() + maxWait.toNanos();
+    boolean waited = false;
+
+    while (true) {
+      Optional<List<FortuneResponse>> stored = findStored(key, fingerprint, idempotencyKey);
+      if (stored.isPresent()) {
+        record(waited ? "attached" : "replayed");
+        return stored.get();
+      }
+
+      String marker = fingerprint + ":" + UUID.randomUUID();
+      if (markInFlight(key, marker, fingerprint, idempotencyKey)) {
+        record("new");
+        ScheduledFuture<?> renewal = scheduleRenewal(key, marker);
+        try {
+          List<FortuneResponse> generated = generator.get();
+          store(key, fingerprint, generated);
+          return generated;
+        } finally {
+          renewal.cancel(false);
+          clearInFlight(key, marker);
+        }
+      }
+
+      // 처리 중인 노드가 실패해 표시가 지워지면 다음 확인 때 이 노드가 생성
+      waited = true;
+      if (System.nanoTime() - deadline >= 0) {
+        log.warn("[Idempotency-Key 대기 시간 초과] - [다른 노드에서 처리 중] | idempotencyKey={}",
+            idempotencyKey);
+        throw new CustomException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+      }
+      sleep(pollInterval);
+    }
+  }
+
+  // 다른 노드에서 같은 key를 처리 중이면 false, Redis 장애 시에는 노드 내 기록만 사용
+  private boolean markInFlight(
+      String key, String marker, String fingerprint, String idempotencyKey) {
+    String owner;
+    try {
+      Boolean marked = redisTemplate.opsForValue().setIfAbsent(
+          IN_FLIGHT_PREFIX + key, marker, inFlightTtl);
+      if (!Boolean.FALSE.equals(marked)) {
+        return true;
+      }
+      owner = redisTemplate.opsForValue().get(IN_FLIGHT_PREFIX + key);
+
+    } catch (Exception e) {
+      log.warn("[Idempotency 처리 중 표시 실패] | message={}", e.getMessage());
+      return true;
+    }
+
+    if (owner != null) {
+      verifySameRequest(owner.split(":", 2)[0], fingerprint, idempotencyKey);
+    }
+    return false;
+  }
+
+  // 생성이 inFlightTtl보다 길어져도 다른 노드로 온 재시도가 중복 생성하지 않도록 표시를 연장
+  private ScheduledFuture<?> scheduleRenewal(String key, String marker) {
+    long intervalMillis = Math.max(1, inFlightTtl.toMillis() / 3);
+    return renewScheduler.scheduleAtFixedRate(
+        () -> renewInFlight(key, marker), intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private void renewInFlight(String key, String marker) {
+    try {
+      Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(IN_FLIGHT_PREFIX + key),
+          marker, String.valueOf(inFlightTtl.toMillis()));
+      if (Long.valueOf(0).equals(renewed)) {
+        log.warn("[Idempotency 처리 중 표시 연장 실패] - [표시 없음] | key={}", key);
+      }
+    } catch (Exception e) {
+      log.warn("[Idempotency 처리 중 표시 연장 실패] | message={}", e.getMessage());
+    }
+  }
+
+  private void clearInFlight(String key, String marker) {
+    try {
+      redisTemplate.execute(CLEAR_SCRIPT, List.of(IN_FLIGHT_PREFIX + key), marker);
+    } catch (Exception e) {
+      log.warn("[Idempotency 처리 중 표시 삭제 실패] | message={}", e.getMessage());
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    renewScheduler.shutdownNow();
+  }
+
+  private void sleep(Duration duration) {
+    try {
+      Thread.sleep(duration.toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CustomException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+    }
+  }
+
+  private void verifySameRequest(String expected, String actual, String idempotencyKey) {
+    if (!expected.equals(actual)) {
+      record("mismatched");
+      log.warn("[Idempotency-Key 재사용] - [요청 본문 불일치] | idempotencyKey={}", idempotencyKey);
+      throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+    }
+  }
+
+  private List<FortuneResponse> await(Entry entry, String idempotencyKey) {
+    try {
+      return entry.result().get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+
+    } catch (TimeoutException e) {
+      log.warn("[Idempotency-Key 대기 시간 초과] | idempotencyKey={}", idempotencyKey);
+      throw new CustomException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+    } catch (ExecutionException e) {
+      // 처음 요청과 같은 오류로 응답
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new CustomException(ErrorCode.SYSTEM_ERROR, e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CustomException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+    }
+  }
+
+  // 다른 노드에서 이미 완료된 요청
+  private Optional<List<FortuneResponse>> findStored(
+      String key, String fingerprint, String idempotencyKey) {
+    StoredResult stored;
+    try {
+      String json = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+      if (json == null) {
+        return Optional.empty();
+      }
+      stored = reader.readValue(json);
+
+    } catch (Exception e) {
+      log.warn("[Idempotency 결과 조회 실패] | message={}", e.getMessage());
+      return Optional.empty();
+    }
+
+    verifySameRequest(stored.fingerprint(), fingerprint, idempotencyKey);
+    return Optional.of(stored.responses());
+  }
+
+  private void store(String key, String fingerprint, List<FortuneResponse> responses) {
+    try {
+      redisTemplate.opsForValue().set(
+          KEY_PREFIX + key,
+          objectMapper.writeValueAsString(new StoredResult(fingerprint, responses)),
+          ttl
+      );
+    } catch (Exception e) {
+      log.warn("[Idempotency 결과 저장 실패] | message={}", e.getMessage());
+    }
+  }
+
+  private String fingerprint(Object request) {
+    try {
+      return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(request));
+    } catch (Exception e) {
+      throw new CustomException(ErrorCode.SYSTEM_ERROR, e);
+    }
+  }
+
+  private void record(String result) {
+    meterRegistry.counter("fortune.idempotency.requests", "result", result).increment();
+  }
+
+  private record Entry(String fingerprint, CompletableFuture<List<FortuneResponse>> result) {
+
+  }
+
+  record StoredResult(String fingerprint, List<FortuneResponse> responses) {
+
+  }
+}
@@ -0,0 +1,130 @@
+package com.fortunehub.luckylog.service.fortune;
+
+import com.fortunehub.luckylog.common.limit.RequestPriority;
+import com.fortunehub.luckylog.controller.web.fortune.form.BirthInfoForm;
+import com.fortunehub.luckylog.controller.web.fortune.form.FortuneOptionForm;
+import com.fortunehub.luckylog.domain.fortune.FortuneJob;
+import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import com.fortunehub.luckylog.repository.fortune.FortuneJobRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class FortuneJobService {
+
+  private final FortuneService fortuneService;
+  private final FortuneJobRepository fortuneJobRepository;
+  private final Executor fortuneGenerationExecutor;
+  private final Duration progressInterval;
+
+  public FortuneJobService(
+      FortuneService fortuneService,
+      FortuneJobRepository fortuneJobRepository,
+      @Qualifier("fortuneGenerationExecutor") Executor fortuneGenerationExecutor,
+      @Value("${fortune.job.progress-interval:500ms}") Duration progressInterval
+  ) {
+    this.fortuneService = fortuneService;
+    this.fortuneJobRepository = fortuneJobRepository;
+    this.fortuneGenerationExecutor = fortuneGenerationExecutor;
+    this.progressInterval = progressInterval;
+  }
+
+  public String submit(
+      String sessionId, BirthInfoForm birthInfo, FortuneOptionForm option, int fortuneResultYear,
+      RequestPriority priority) {
+    FortuneJob job = FortuneJob.pending(sessionId, option, fortuneResultYear);
+    fortuneJobRepository.save(job);
+
+    try {
+      fortuneGenerationExecutor.execute(() -> run(job, birthInfo, priority));
+    } catch (RejectedExecutionException e) {
+      log.warn("[운세 생성 작업 거절] - [작업 큐 포화] | jobId={}", job.getId());
+      job.fail(ErrorCode.FORTUNE_JOB_REJECTED);
+      fortuneJobRepository.save(job);
+      throw new CustomException(ErrorCode.FORTUNE_JOB_REJECTED, e);
+    }
+
+    log.info("[운세 생성 작업 등록] | jobId={}", job.getId());
+    return job.getId();
+  }
+
+  // 다른 세션이 등록한 작업은 없는 작업과 같이 취급
+  public Optional<FortuneJob> findJob(String jobId, String sessionId) {
+    Optional<FortuneJob> found = fortuneJobRepository.findById(jobId);
+    if (found.isPresent() && !found.get().isOwnedBy(sessionId)) {
+      log.warn("[운세 생성 작업 조회 거부] - [다른 세션의 작업] | jobId={}", jobId);
+      return Optional.empty();
+    }
+    return found;
+  }
+
+  // 캐시 적중이나 먼저 끝난 분할 요청의 결과를 작업에 저장 (결과 화면이 완료 전에도 받은 결과를 보여줌)
+  // 생성은 일반 생성 경로(single-flight, 분할 호출, 재시도/hedge)를 그대로 사용
+  private void run(FortuneJob job, BirthInfoForm birthInfo, RequestPriority priority) {
+    try {
+      // 완료 결과는 중간 결과가 아니라 생성 결과 전체(요청한 운세 순서)로 저장
+      List<FortuneResponse> responses = fortuneService.generateFortune(
+          birthInfo, job.getOption(), job.getFortuneResultYear(), priority, recordProgress(job));
+
+      synchronized (job) {
+        job.complete(responses);
+      }
+
+      log.info("[운세 생성 작업 완료] | jobId={} | resultCount={}", job.getId(), responses.size());
+
+    } catch (CustomException e) {
+      log.warn("[운세 생성 작업 실패] | jobId={} | code={}", job.getId(), e.getErrorCode());
+      job.fail(e.getErrorCode());
+    } catch (Exception e) {
+      log.error("[운세 생성 작업 실패] - [알 수 없는 오류] | jobId={} | message={}",
+          job.getId(), e.getMessage(), e);
+      job.fail(ErrorCode.SYSTEM_ERROR);
+    }
+
+    try {
+      synchronized (job) {
+        fortuneJobRepository.save(job);
+      }
+    } catch (Exception e) {
+      // 작업은 PENDING으로 남고, 결과 화면은 최대 대기 시간 후 실패로 안내
+      log.error("[운세 생성 작업 결과 저장 실패] | jobId={} | status={} | message={}",
+          job.getId(), job.getStatus(), e.getMessage(), e);
+    }
+  }
+
+  // 받은 결과는 progressInterval마다 저장 (결과마다 저장하지 않음)
+  private Consumer<FortuneResponse> recordProgress(FortuneJob job) {
+    AtomicLong lastSavedAt = new AtomicLong(System.nanoTime());
+
+    return response -> {
+      synchronized (job) {
+        job.addResponse(response);
+
+        long now = System.nanoTime();
+        if (now - lastSavedAt.get() < progressInterval.toNanos()) {
+          return;
+        }
+        lastSavedAt.set(now);
+
+        try {
+          fortuneJobRepository.save(job);
+        } catch (Exception e) {
+          log.warn("[운세 생성 작업 중간 결과 저장 실패] | jobId={} | message={}",
+              job.getId(), e.getMessage());
+        }
+      }
+    };
+  }
+}
@@ -1,6 +1,7 @@
 package com.fortunehub.luckylog.service.fortune;
 
-import com.fortunehub.luckylog.client.gemini.GeminiService;
+import com.fortunehub.luckylog.client.FortuneGenerationService;
+import com.fortunehub.luckylog.common.limit.RequestPriority;
 import com.fortunehub.luckylog.controller.web.fortune.form.BirthInfoForm;
 import com.fortunehub.luckylog.controller.web.fortune.form.FortuneOptionForm;
 import com.fortunehub.luckylog.domain.fortune.FortuneCategory;
@@ -23,6 +24,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -35,17 +37,40 @@ public class FortuneService {
   private static final int MAX_SAVE_COUNT = 5;
 
   private final MemberRepository memberRepository;
-  private final GeminiService geminiService;
+  private final FortuneGenerationService fortuneGenerationService;
   private final FortuneResultRepository fortuneResultRepository;
   private final FortuneCategoryRepository fortuneCategoryRepository;
 
+  // 생성은 선택한 AI를 우선 사용하고 과부하면 FortuneModelRouter가 다른 provider로 전환, 결과 캐시는 provider와 관계없이 공유
   public List<FortuneResponse> generateFortune(
-      BirthInfoForm savedBirthInfo, FortuneOptionForm option, int fortuneResultYear) {
-    return switch (option.getAi()) {
-      case GEMINI -> geminiService.generateFortune(
-          FortuneRequest.from(savedBirthInfo, option, fortuneResultYear));
-      default -> throw new CustomException(ErrorCode.UNSUPPORTED_AI_TYPE);
-    };
+      BirthInfoForm savedBirthInfo, FortuneOptionForm option, int fortuneResultYear,
+      RequestPriority priority) {
+    validateAiType(option);
+    return fortuneGenerationService.generateFortune(
+        FortuneRequest.from(savedBirthInfo, option, fortuneResultYear), priority);
+  }
+
+  // 준비된 운세 종류의 결과는 onProgress로 먼저 전달 (운세 생성 작업의 중간 결과)
+  public List<FortuneResponse> generateFortune(
+      BirthInfoForm birthInfo, FortuneOptionForm option, int fortuneResultYear,
+      RequestPriority priority, Consumer<FortuneResponse> onProgress) {
+    validateAiType(option);
+    return fortuneGenerationService.generateFortune(
+        FortuneRequest.from(birthInfo, option, fortuneResultYear), priority, onProgress);
+  }
+
+  public List<FortuneResponse> streamFortune(
+      BirthInfoForm birthInfo, FortuneOptionForm option, int fortuneResultYear,
+      RequestPriority priority, Consumer<FortuneResponse> onResponse) {
+    validateAiType(option);
+    return fortuneGenerationService.streamFortune(
+        FortuneRequest.from(birthInfo, option, fortuneResultYear), priority, onResponse);
+  }
+
+  private void validateAiType(FortuneOptionForm option) {
+    if (option.getAi() == null || !option.getAi().isEnabled()) {
+      throw new CustomException(ErrorCode.UNSUPPORTED_AI_TYPE);
+    }
   }
 
   @Transactional
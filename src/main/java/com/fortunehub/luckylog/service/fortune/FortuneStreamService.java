@@ -0,0 +1,195 @@
+package com.fortunehub.luckylog.service.fortune;
+
+import com.fortunehub.luckylog.common.limit.RequestPriority;
+import com.fortunehub.luckylog.controller.web.fortune.form.BirthInfoForm;
+import com.fortunehub.luckylog.controller.web.fortune.form.FortuneOptionForm;
+import com.fortunehub.luckylog.domain.fortune.FortuneJob;
+import com.fortunehub.luckylog.dto.response.common.ErrorResponse;
+import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Slf4j
+@Service
+public class FortuneStreamService {
+
+  private static final String FORTUNE_EVENT = "fortune";
+  private static final String COMPLETE_EVENT = "complete";
+  private static final String ERROR_EVENT = "error";
+
+  private final FortuneService fortuneService;
+  private final FortuneJobService fortuneJobService;
+  private final Executor fortuneGenerationExecutor;
+  private final TaskScheduler jobStreamScheduler;
+  private final Duration timeout;
+  private final Duration jobPollInterval;
+
+  public FortuneStreamService(
+      FortuneService fortuneService,
+      FortuneJobService fortuneJobService,
+      @Qualifier("fortuneGenerationExecutor") Executor fortuneGenerationExecutor,
+      @Qualifier("fortuneJobStreamScheduler") TaskScheduler jobStreamScheduler,
+      @Value("${fortune.stream.timeout:3m}") Duration timeout,
+      @Value("${fortune.stream.job-poll-interval:500ms}") Duration jobPollInterval
+  ) {
+    this.fortuneService = fortuneService;
+    this.fortuneJobService = fortuneJobService;
+    this.fortuneGenerationExecutor = fortuneGenerationExecutor;
+    this.jobStreamScheduler = jobStreamScheduler;
+    this.timeout = timeout;
+    this.jobPollInterval = jobPollInterval;
+  }
+
+  public SseEmitter stream(
+      BirthInfoForm birthInfo, FortuneOptionForm option, int fortuneResultYear,
+      RequestPriority priority) {
+
+    SseEmitter emitter = new SseEmitter(timeout.toMillis());
+    AtomicBoolean connected = new AtomicBoolean(true);
+    emitter.onCompletion(() -> connected.set(false));
+    emitter.onTimeout(() -> connected.set(false));
+    emitter.onError(e -> connected.set(false));
+
+    try {
+      fortuneGenerationExecutor.execute(
+          () -> run(emitter, connected, birthInfo, option, fortuneResultYear, priority));
+    } catch (RejectedExecutionException e) {
+      log.warn("[운세 스트리밍 거절] - [작업 큐 포화]");
+      throw new CustomException(ErrorCode.FORTUNE_JOB_REJECTED, e);
+    }
+
+    return emitter;
+  }
+
+  // 웹 결과 화면용, 이미 등록된 작업(FortuneJobService)의 중간 결과를 fortune 이벤트로 전달
+  // 작업은 다른 노드에서 실행될 수 있으므로 Redis의 작업 상태를 jobPollInterval마다 확인
+  // 완료되면 complete 이벤트만 보내고(전체 결과는 결과 화면에서 표시), 실패하면 error 이벤트
+  public SseEmitter streamJob(String jobId, String sessionId) {
+    SseEmitter emitter = new SseEmitter(timeout.toMillis());
+    AtomicBoolean connected = new AtomicBoolean(true);
+    AtomicInteger delivered = new AtomicInteger();
+    CompletableFuture<ScheduledFuture<?>> polling = new CompletableFuture<>();
+
+    Runnable stop = () -> {
+      connected.set(false);
+      polling.thenAccept(task -> task.cancel(false));
+    };
+    emitter.onCompletion(stop);
+    emitter.onTimeout(stop);
+    emitter.onError(e -> stop.run());
+
+    polling.complete(jobStreamScheduler.scheduleWithFixedDelay(() -> {
+      if (!connected.get() || pushJob(emitter, connected, jobId, sessionId, delivered)) {
+        stop.run();
+      }
+    }, jobPollInterval));
+
+    return emitter;
+  }
+
+  // 작업이 끝나 더 확인할 필요가 없으면 true
+  private boolean pushJob(
+      SseEmitter emitter, AtomicBoolean connected, String jobId, String sessionId,
+      AtomicInteger delivered) {
+
+    try {
+      Optional<FortuneJob> found = fortuneJobService.findJob(jobId, sessionId);
+      if (found.isEmpty()) {
+        log.warn("[운세 작업 스트리밍 실패] - [작업 없음] | jobId={}", jobId);
+        sendError(emitter, connected, ErrorCode.SYSTEM_ERROR);
+        return true;
+      }
+
+      FortuneJob job = found.get();
+      switch (job.getStatus()) {
+        case PENDING -> {
+          List<FortuneResponse> responses =
+              job.getResponses() == null ? List.of() : job.getResponses();
+          for (int i = delivered.get(); i < responses.size(); i++) {
+            send(emitter, connected, FORTUNE_EVENT, responses.get(i));
+          }
+          delivered.set(Math.max(delivered.get(), responses.size()));
+          return false;
+        }
+        case COMPLETED -> {
+          send(emitter, connected, COMPLETE_EVENT, "done");
+          emitter.complete();
+          return true;
+        }
+        default -> {
+          sendError(emitter, connected, job.getErrorCode());
+          return true;
+        }
+      }
+
+    } catch (Exception e) {
+      log.error("[운세 작업 스트리밍 실패] - [알 수 없는 오류] | jobId={} | message={}",
+          jobId, e.getMessage(), e);
+      sendError(emitter, connected, ErrorCode.SYSTEM_ERROR);
+      return true;
+    }
+  }
+
+  private void run(
+      SseEmitter emitter, AtomicBoolean connected,
+      BirthInfoForm birthInfo, FortuneOptionForm option, int fortuneResultYear,
+      RequestPriority priority) {
+
+    try {
+      // 클라이언트 연결이 끊겨도 생성은 끝까지 진행하여 결과를 캐시에 남김
+      fortuneService.streamFortune(birthInfo, option, fortuneResultYear, priority,
+          response -> send(emitter, connected, FORTUNE_EVENT, response));
+
+      send(emitter, connected, COMPLETE_EVENT, "done");
+      emitter.complete();
+
+    } catch (CustomException e) {
+      log.warn("[운세 스트리밍 실패] | code={}", e.getErrorCode());
+      sendError(emitter, connected, e.getErrorCode());
+    } catch (Exception e) {
+      log.error("[운세 스트리밍 실패] - [알 수 없는 오류] | message={}", e.getMessage(), e);
+      sendError(emitter, connected, ErrorCode.SYSTEM_ERROR);
+    }
+  }
+
+  private void send(SseEmitter emitter, AtomicBoolean connected, String name, Object data) {
+    if (!connected.get()) {
+      return;
+    }
+
+    try {
+      emitter.send(SseEmitter.event().name(name).data(data));
+    } catch (IOException | IllegalStateException e) {
+      log.info("[운세 스트리밍] 클라이언트 연결 종료 | message={}", e.getMessage());
+      connected.set(false);
+    }
+  }
+
+  private void sendError(SseEmitter emitter, AtomicBoolean connected, ErrorCode errorCode) {
+    ErrorResponse response = ErrorResponse.builder()
+                                          .code(errorCode.name())
+                                          .message(errorCode.getMessage())
+                                          .timestamp(LocalDateTime.now())
+                                          .build();
+
+    send(emitter, connected, ERROR_EVENT, response);
+    emitter.complete();
+  }
+}
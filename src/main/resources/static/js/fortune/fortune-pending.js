@@ -0,0 +1,148 @@
+'use strict';
+
+const FortunePendingPage = {
+  config: {
+    JOB_STATUS_URL: '/fortune/result/jobs/',
+    JOB_STREAM_PATH: '/stream',
+    INDEX_URL: '/',
+    POLL_INTERVAL: 1000, // 1s
+    MAX_POLL_COUNT: 180, // 최대 3분
+    TIMEOUT_MESSAGE: '😲 사주 정보를 불러오는데 실패하였습니다. 잠시 후 다시 시도해주세요.',
+  },
+
+  // DOM 요소 캐싱
+  elements: {
+    loadingScreen: null,
+    loadingText: null,
+    loadingSubtext: null,
+  },
+
+  state: {
+    jobId: null,
+    pollCount: 0,
+    receivedCount: 0,
+  },
+
+  init() {
+    this.cacheElements();
+    if (!this.validateRequiredElements()) return;
+    this.state.jobId = this.elements.loadingScreen.dataset.jobId;
+
+    if (window.EventSource) {
+      this.subscribe();
+    } else {
+      this.schedulePoll();
+    }
+  },
+
+  cacheElements() {
+    this.elements.loadingScreen = document.querySelector('#loading-screen');
+    this.elements.loadingText = document.querySelector('#loading-screen .loading-text');
+    this.elements.loadingSubtext = document.querySelector('#loading-screen .loading-subtext');
+  },
+
+  validateRequiredElements() {
+    if (!this.elements.loadingScreen || !this.elements.loadingScreen.dataset.jobId) {
+      console.error('Missing required elements: loadingScreen');
+      return false;
+    }
+
+    return true;
+  },
+
+  // 생성되는 대로 결과를 받아 먼저 보여주고, 완료/실패 시 서버에서 결과 화면 또는 옵션 화면으로 안내
+  subscribe() {
+    const url = this.config.JOB_STATUS_URL + encodeURIComponent(this.state.jobId)
+      + this.config.JOB_STREAM_PATH;
+    const source = new EventSource(url);
+
+    source.addEventListener('fortune', (event) => {
+      this.showPartial(JSON.parse(event.data));
+    });
+
+    source.addEventListener('complete', () => {
+      source.close();
+      window.location.reload();
+    });
+
+    source.addEventListener('error', (event) => {
+      source.close();
+
+      // 서버가 보낸 error 이벤트 (생성 실패)
+      if (event.data) {
+        window.location.reload();
+        return;
+      }
+
+      // 연결 실패 시 자동 재연결(이미 받은 결과를 다시 받음) 대신 상태 조회로 대체
+      this.schedulePoll();
+    });
+  },
+
+  showPartial(response) {
+    this.state.receivedCount += 1;
+
+    if (this.elements.loadingText) {
+      this.elements.loadingText.textContent = `✨ ${this.state.receivedCount}개의 운세가 도착했어요`;
+    }
+    if (this.elements.loadingSubtext && response.result) {
+      this.elements.loadingSubtext.textContent = response.result;
+    }
+  },
+
+  schedulePoll() {
+    setTimeout(() => this.poll(), this.config.POLL_INTERVAL);
+  },
+
+  async poll() {
+    this.state.pollCount += 1;
+
+    try {
+      const response = await fetch(this.config.JOB_STATUS_URL + encodeURIComponent(this.state.jobId), {
+        headers: { Accept: 'application/json' },
+      });
+
+      if (response.status === 404) {
+        window.location.href = this.config.INDEX_URL;
+        return;
+      }
+
+      if (response.ok) {
+        const { status } = await response.json();
+
+        // 완료/실패 시 서버에서 결과 화면 또는 옵션 화면으로 안내
+        if (status !== 'PENDING') {
+          window.location.reload();
+          return;
+        }
+      }
+    } catch (err) {
+      console.error('작업 상태 조회 실패:', err);
+    }
+
+    // 작업 결과가 저장되지 않은 경우 등, 새로고침해도 계속 대기 상태이므로 실패로 안내
+    if (this.state.pollCount >= this.config.MAX_POLL_COUNT) {
+      this.showTimeout();
+      return;
+    }
+
+    this.schedulePoll();
+  },
+
+  showTimeout() {
+    this.elements.loadingScreen.querySelector('.loading-animation')?.remove();
+    if (this.elements.loadingText) {
+      this.elements.loadingText.textContent = this.config.TIMEOUT_MESSAGE;
+    }
+
+    const homeLink = document.createElement('a');
+    homeLink.href = this.config.INDEX_URL;
+    homeLink.className = 'loading-subtext';
+    homeLink.textContent = '처음으로 돌아가기';
+    this.elements.loadingSubtext?.replaceWith(homeLink);
+  },
+};
+
+document.addEventListener('DOMContentLoaded', () => {
+  FortunePendingPage.init();
+});
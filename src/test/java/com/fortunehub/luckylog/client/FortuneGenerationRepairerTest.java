@@ -0,0 +1,125 @@
+package com.fortunehub.luckylog.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.AssertionsForClassTypes.tuple;
+
+import com.fortunehub.luckylog.domain.fortune.AIType;
+import com.fortunehub.luckylog.domain.fortune.CalendarType;
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.domain.fortune.GenderType;
+import com.fortunehub.luckylog.domain.fortune.PeriodType;
+import com.fortunehub.luckylog.domain.fortune.PeriodValue;
+import com.fortunehub.luckylog.dto.request.fortune.FortuneRequest;
+import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FortuneGenerationRepairerTest {
+
+  private final FortuneGenerationRepairer repairer = new FortuneGenerationRepairer();
+  private final List<List<FortuneType>> requested = new ArrayList<>();
+
+  @Test
+  @DisplayName("요청한 운세 종류가 모두 있으면 다시 생성하지 않는다")
+  void generate_whenComplete_thenCallsOnce() {
+    // given
+    FortuneRequest request = createFortuneRequest(PeriodType.YEARLY);
+
+    // when
+    List<FortuneResponse> responses = repairer.generate(request, target -> {
+      requested.add(target.getFortunes());
+      return new FortuneGeneration(List.of(
+          createFortuneResponse(FortuneType.LOVE, "연애운"),
+          createFortuneResponse(FortuneType.HEALTH, "건강운")), false);
+    });
+
+    // then
+    assertThat(responses).hasSize(2);
+    assertThat(requested).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("출력이 잘려 배열이 닫히지 않으면 완성된 운세 종류는 사용하고 나머지 종류만 다시 생성한다")
+  void generate_whenTruncated_thenRegeneratesOnlyIncompleteTypes() {
+    // given
+    FortuneRequest request = createFortuneRequest(PeriodType.YEARLY);
+
+    // when
+    List<FortuneResponse> responses = repairer.generate(request, target -> {
+      requested.add(target.getFortunes());
+      return requested.size() == 1
+          ? new FortuneGeneration(List.of(createFortuneResponse(FortuneType.LOVE, "연애운")), true)
+          : new FortuneGeneration(List.of(createFortuneResponse(FortuneType.HEALTH, "건강운")), false);
+    });
+
+    // then
+    assertThat(responses)
+        .extracting(FortuneResponse::getFortune, FortuneResponse::getResult)
+        .containsExactly(
+            tuple(FortuneType.LOVE, "연애운"),
+            tuple(FortuneType.HEALTH, "건강운")
+        );
+    assertThat(requested).containsExactly(
+        List.of(FortuneType.LOVE, FortuneType.HEALTH),
+        List.of(FortuneType.HEALTH)
+    );
+  }
+
+  @Test
+  @DisplayName("요청한 운세 종류가 응답에서 빠지면 빠진 종류만 다시 생성한다")
+  void generate_whenTypeMissing_thenRegeneratesMissingType() {
+    // given
+    FortuneRequest request = createFortuneRequest(PeriodType.YEARLY);
+
+    // when
+    List<FortuneResponse> responses = repairer.generate(request, target -> {
+      requested.add(target.getFortunes());
+      FortuneType fortune = target.getFortunes().contains(FortuneType.LOVE)
+          ? FortuneType.LOVE
+          : FortuneType.HEALTH;
+      return new FortuneGeneration(List.of(createFortuneResponse(fortune, fortune.name())), false);
+    });
+
+    // then
+    assertThat(responses)
+        .extracting(FortuneResponse::getFortune)
+        .containsExactly(FortuneType.LOVE, FortuneType.HEALTH);
+    assertThat(requested).last().isEqualTo(List.of(FortuneType.HEALTH));
+  }
+
+  @Test
+  @DisplayName("다시 생성해도 요청한 운세 종류가 빠져 있으면 일부만 응답하지 않고 예외가 발생한다")
+  void generate_whenTypeStillMissing_thenThrowsException() {
+    // given
+    FortuneRequest request = createFortuneRequest(PeriodType.YEARLY);
+
+    // when & then
+    assertThatThrownBy(() -> repairer.generate(request, target -> {
+      requested.add(target.getFortunes());
+      return new FortuneGeneration(List.of(createFortuneResponse(FortuneType.LOVE, "연애운")), false);
+    }))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(ErrorCode.GEMINI_EMPTY_RESPONSE.getMessage());
+
+    assertThat(requested).hasSize(2);
+  }
+
+  private FortuneRequest createFortuneRequest(PeriodType period) {
+    return new FortuneRequest(
+        GenderType.FEMALE, CalendarType.SOLAR, 1995, 2, 16, null, null,
+        List.of(FortuneType.LOVE, FortuneType.HEALTH), period, 2025, AIType.GEMINI);
+  }
+
+  private FortuneResponse createFortuneResponse(FortuneType fortune, String result) {
+    FortuneResponse response = new FortuneResponse();
+    response.setFortune(fortune);
+    response.setPeriodValue(PeriodValue.YEAR);
+    response.setResult(result);
+    return response;
+  }
+}
@@ -0,0 +1,675 @@
+package com.fortunehub.luckylog.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.AssertionsForClassTypes.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fortunehub.luckylog.client.gemini.FortuneOutputBudget;
+import com.fortunehub.luckylog.client.gemini.FortunePrompt;
+import com.fortunehub.luckylog.client.gemini.FortuneShardPlanner;
+import com.fortunehub.luckylog.client.gemini.GeminiKeyPool;
+import com.fortunehub.luckylog.client.gemini.GeminiModelClient;
+import com.fortunehub.luckylog.client.gemini.GeminiPromptCache;
+import com.fortunehub.luckylog.client.gemini.GeminiUsageRecorder;
+import com.fortunehub.luckylog.common.cache.DistributedSingleFlight;
+import com.fortunehub.luckylog.common.cache.FortuneCacheKey;
+import com.fortunehub.luckylog.common.cache.FortuneFailureCache;
+import com.fortunehub.luckylog.common.cache.FortuneResultLocalCache;
+import com.fortunehub.luckylog.common.cache.FortuneResultMappedStore;
+import com.fortunehub.luckylog.common.cache.FortuneResultRedisCache;
+import com.fortunehub.luckylog.common.limit.AdaptiveConcurrencyLimiter;
+import com.fortunehub.luckylog.common.limit.DistributedTokenBucket;
+import com.fortunehub.luckylog.common.limit.RequestPriority;
+import com.fortunehub.luckylog.common.resilience.HedgingExecutor;
+import com.fortunehub.luckylog.common.resilience.RetryExecutor;
+import com.fortunehub.luckylog.controller.web.fortune.form.BirthInfoForm;
+import com.fortunehub.luckylog.controller.web.fortune.form.FortuneOptionForm;
+import com.fortunehub.luckylog.domain.fortune.AIType;
+import com.fortunehub.luckylog.domain.fortune.CalendarType;
+import com.fortunehub.luckylog.domain.fortune.CityType;
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.domain.fortune.GenderType;
+import com.fortunehub.luckylog.domain.fortune.PeriodType;
+import com.fortunehub.luckylog.domain.fortune.PeriodValue;
+import com.fortunehub.luckylog.domain.fortune.TimeType;
+import com.fortunehub.luckylog.dto.request.fortune.FortuneRequest;
+import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.genai.Client;
+import com.google.genai.Models;
+import com.google.genai.errors.ServerException;
+import com.google.genai.types.GenerateContentConfig;
+import com.google.genai.types.GenerateContentResponse;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class FortuneGenerationServiceTest {
+
+  @Mock
+  private Client client;
+  @Mock
+  private Models models;
+  @Mock // Mock 객체 생성
+  private GenerateContentConfig generateContentConfig;
+  @Mock
+  private FortuneResultRedisCache fortuneResultRedisCache;
+  @Mock
+  private DistributedSingleFlight singleFlight;
+  @Mock
+  private GeminiUsageRecorder usageRecorder;
+
+  FortuneGenerationService service;
+  private CircuitBreaker circuitBreaker;
+  private FortuneResultLocalCache fortuneResultCache;
+
+  private static final String MODEL_NAME = "gemini-test";
+  private static final String PROMPT_TEMPLATE = "[ANALYSIS_YEAR]년 [FORTUNE_TYPES] 운세 분석";
+  private static final int TEST_YEAR = 2025;
+  private static final RequestPriority PRIORITY = RequestPriority.ANONYMOUS_WEB;
+  private static final String VALID_JSON_RESPONSE = """
+      [
+        {
+          "fortune": "love",
+          "periodValue": "january",
+          "result": "연애운 좋음"
+        },
+        {
+          "fortune": "love",
+          "periodValue": "february",
+          "result": "연애운 신경"
+        },
+        {
+          "fortune": "health",
+          "periodValue": "march",
+          "result": "건강운 변화"
+        }
+      ]
+      """;
+
+  // InjectMocks로는 @Value 필드는 주입 안 됨
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(client, "models", models); // final field
+
+    // 다른 노드에서 진행 중인 요청이 없는 상황(항상 리더)으로 가정
+    lenient().when(singleFlight.execute(anyString(), any(), any()))
+             .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(2).get());
+
+    fortuneResultCache = new FortuneResultLocalCache(
+        Caffeine.newBuilder()
+                .expireAfterWrite(1, TimeUnit.DAYS)
+                .build(),
+        FortuneResultMappedStore.disabled());
+
+    circuitBreaker = CircuitBreaker.ofDefaults("gemini-test");
+
+    service = createService(new FortuneShardPlanner(Integer.MAX_VALUE)); // 분할하지 않음
+  }
+
+  @Test
+  @DisplayName("정상적인 운세 요청 시 결과를 반환한다")
+  void generateFortune_WhenValidRequest_ThenReturnsFortuneResponses() {
+    // given
+    GenerateContentResponse response = mock(GenerateContentResponse.class);
+
+    given(client.models.generateContent(
+        eq(MODEL_NAME),
+        anyString(),
+        eq(generateContentConfig))).willReturn(response);
+
+    String rawResponse = "```json\n" + VALID_JSON_RESPONSE + "\n```";
+    given(response.text()).willReturn(rawResponse);
+
+    // private method인 parseFortuneResponse는 public method를 통해 간접 테스트
+
+    // when
+    FortuneRequest request = createFortuneRequest();
+    List<FortuneResponse> responses = service.generateFortune(request, PRIORITY);
+
+    // then
+    assertThat(responses)
+        .isNotNull()
+        .hasSize(3)
+        .extracting(FortuneResponse::getFortune, FortuneResponse::getPeriodValue,
+            FortuneResponse::getResult)
+        .containsExactly(
+            tuple(FortuneType.LOVE, PeriodValue.JANUARY, "연애운 좋음"),
+            tuple(FortuneType.LOVE, PeriodValue.FEBRUARY, "연애운 신경"),
+            tuple(FortuneType.HEALTH, PeriodValue.MARCH, "건강운 변화")
+        );
+
+    ArgumentCaptor<String> promptCaptor = ArgumentCaptor.forClass(String.class);
+    verify(client.models).generateContent(
+        eq(MODEL_NAME),
+        promptCaptor.capture(),
+        eq(generateContentConfig)
+    );
+
+    String prompt = promptCaptor.getValue();
+    assertThat(prompt)
+        .contains(String.valueOf(TEST_YEAR))
+        .contains("애정, 건강")
+        .contains("1995년 2월 16일")
+        .contains("양력")
+        .contains("여성")
+        .contains("오시")
+        .contains("서울특별시");
+  }
+
+  @Test
+  @DisplayName("빈 응답일 경우 예외가 발생한다")
+  void generateFortune_WhenResponseEmpty_ThenThrowsException() {
+    // given
+    GenerateContentResponse response = mock(GenerateContentResponse.class);
+    given(client.models.generateContent(
+        eq(MODEL_NAME),
+        anyString(),
+        eq(generateContentConfig))).willReturn(response);
+
+    given(response.text()).willReturn("  ");
+
+    // when & then
+    FortuneRequest request = createFortuneRequest();
+
+    assertThatThrownBy(() -> service.generateFortune(request, PRIORITY))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(ErrorCode.GEMINI_EMPTY_RESPONSE.getMessage());
+  }
+
+  @Test
+  @DisplayName("응답이 없을 경우 예외가 발생한다")
+  void generateFortune_WhenResponseNull_ThenThrowsException() {
+    // given
+    given(client.models.generateContent(
+        eq(MODEL_NAME),
+        anyString(),
+        eq(generateContentConfig))).willReturn(null);
+
+    // when & then
+    FortuneRequest request = createFortuneRequest();
+
+    assertThatThrownBy(() -> service.generateFortune(request, PRIORITY))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(ErrorCode.GEMINI_UNKNOWN_ERROR.getMessage());
+  }
+
+  @Test
+  @DisplayName("잘못된 형식의 JSON 응답일 경우 예외가 발생한다")
+  void generateFortune_WhenInvalidResponse_ThenThrowsException() {
+    // given
+    GenerateContentResponse response = mock(GenerateContentResponse.class);
+    given(client.models.generateContent(
+        eq(MODEL_NAME),
+        anyString(),
+        eq(generateContentConfig))).willReturn(response);
+
+    String rawResponse = "```json\ninvalid json\n```";
+    given(response.text()).willReturn(rawResponse);
+
+    // when & then
+    FortuneRequest request = createFortuneRequest();
+
+    assertThatThrownBy(() -> service.generateFortune(request, PRIORITY))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(ErrorCode.GEMINI_RESPONSE_PARSE_ERROR.getMessage());
+  }
+
+  @Test
+  @DisplayName("API 호출이 실패하면 예외가 발생한다")
+  void generateFortune_WhenApiFails_ThenThrowsException() {
+    // given
+    given(client.models.generateContent(
+        eq(MODEL_NAME),
+        anyString(),
+        eq(generateContentConfig))).willThrow(new ServerException(500, "ERROR", "API 서버 오류"));
+
+    // when & then
+    FortuneRequest request = createFortuneRequest();
+
+    assertThatThrownBy(() -> service.generateFortune(request, PRIORITY))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(ErrorCode.GEMINI_OVERLOAD.getMessage());
+  }
+
+  @Test
+  @DisplayName("같은 요청이 반복되면 Gemini API는 한 번만 호출된다 (로컬 캐시 HIT)")
+  void generateFortune_sameRequest_usesCache() {
+    // given
+    GenerateContentResponse response = mock(GenerateContentResponse.class);
+
+    given(client.models.generateContent(
+        eq(MODEL_NAME),
+        anyString(),
+        eq(generateContentConfig)
+    )).willReturn(response);
+
+    String rawResponse = "```json\n" + VALID_JSON_RESPONSE + "\n```";
+    given(response.text()).willReturn(rawResponse);
+
+    FortuneRequest request = createFortuneRequest();
+
+    // when
+    service.generateFortune(request, PRIORITY); // cache MISS
+    service.generateFortune(request, PRIORITY); // cache HIT
+
+    // then
+    verify(client.models, times(1))
+        .generateContent(eq(MODEL_NAME), anyString(), eq(generateContentConfig));
+  }
+
+  @Test
+  @DisplayName("첫 호출 후 결과가 로컬 캐시에 저장된다")
+  void generateFortune_shouldStoreResultInCache() {
+    // given
+    GenerateContentResponse response = mock(GenerateContentResponse.class);
+
+    given(client.models.generateContent(
+        eq(MODEL_NAME),
+        anyString(),
+        eq(generateContentConfig)
+    )).willReturn(response);
+
+    String rawResponse = "```json\n" + VALID_JSON_RESPONSE + "\n```";
+    given(response.text()).willReturn(rawResponse);
+
+    FortuneRequest request = createFortuneRequest();
+
+    // when
+    service.generateFortune(request, PRIORITY);
+
+    // then
+    assertThat(fortuneResultCache.getIfPresent(request.cacheKey(FortuneType.LOVE)))
+        .isNotNull()
+        .hasSize(2);
+    assertThat(fortuneResultCache.getIfPresent(request.cacheKey(FortuneType.HEALTH)))
+        .isNotNull()
+        .hasSize(1);
+  }
+
+  @Test
+  @DisplayName("API 호출 중 예외가 발생하면 결과는 캐시되지 않는다")
+  void generateFortune_exception_shouldNotBeCached() {
+    // given
+    given(client.models.generateContent(
+        eq(MODEL_NAME),
+        anyString(),
+        eq(generateContentConfig)
+    )).willThrow(new ServerException(500, "ERROR", "API 서버 오류"));
+
+    FortuneRequest request = createFortuneRequest();
+
+    // when & then
+    assertThatThrownBy(() -> service.generateFortune(request, PRIORITY))
+        .isInstanceOf(CustomException.class);
+
+    assertThatThrownBy(() -> service.generateFortune(request, PRIORITY))
+        .isInstanceOf(CustomException.class);
+
+    // 캐시되지 않았으므로 두 번 호출됨
+    verify(client.models, times(2))
+        .generateContent(eq(MODEL_NAME), anyString(), eq(generateContentConfig));
+
+    assertThat(fortuneResultCache.getIfPresent(request.cacheKey(FortuneType.LOVE)))
+        .isNull();
+    assertThat(fortuneResultCache.getIfPresent(request.cacheKey(FortuneType.HEALTH)))
+        .isNull();
+  }
+
+  @Test
+  @DisplayName("Redis 캐시에 결과가 있으면 Gemini API를 호출하지 않고 로컬 캐시에 적재한다")
+  void generateFortune_whenRedisHit_thenSkipsGemini() {
+    // given
+    FortuneRequest request = createFortuneRequest();
+
+    given(fortuneResultRedisCache.get(request.cacheKey(FortuneType.LOVE)))
+        .willReturn(Optional.of(List.of(
+            createFortuneResponse(FortuneType.LOVE, PeriodValue.JANUARY, "다른 노드의 연애운"))));
+    given(fortuneResultRedisCache.get(request.cacheKey(FortuneType.HEALTH)))
+        .willReturn(Optional.of(List.of(
+            createFortuneResponse(FortuneType.HEALTH, PeriodValue.JANUARY, "다른 노드의 건강운"))));
+
+    // when
+    List<FortuneResponse> responses = service.generateFortune(request, PRIORITY);
+
+    // then
+    assertThat(responses)
+        .extracting(FortuneResponse::getResult)
+        .containsExactly("다른 노드의 연애운", "다른 노드의 건강운");
+    assertThat(fortuneResultCache.getIfPresent(request.cacheKey(FortuneType.LOVE))).isNotNull();
+    assertThat(fortuneResultCache.getIfPresent(request.cacheKey(FortuneType.HEALTH))).isNotNull();
+
+    verify(client.models, never())
+        .generateContent(anyString(), anyString(), eq(generateContentConfig));
+  }
+
+  @Test
+  @DisplayName("Gemini API로 생성한 결과는 Redis 캐시에도 저장된다")
+  void generateFortune_whenGenerated_thenStoresInRedis() {
+    // given
+    GenerateContentResponse response = mock(GenerateContentResponse.class);
+
+    given(client.models.generateContent(
+        eq(MODEL_NAME),
+        anyString(),
+        eq(generateContentConfig)
+    )).willReturn(response);
+    given(response.text()).willReturn(VALID_JSON_RESPONSE);
+
+    FortuneRequest request = createFortuneRequest();
+
+    // when
+    service.generateFortune(request, PRIORITY);
+
+    // then
+    verify(fortuneResultRedisCache).put(
+        eq(request.cacheKey(FortuneType.LOVE)), argThat(responses -> responses.size() == 2));
+    verify(fortuneResultRedisCache).put(
+        eq(request.cacheKey(FortuneType.HEALTH)), argThat(responses -> responses.size() == 1));
+  }
+
+  @Test
+  @DisplayName("일부 운세 종류만 캐시되어 있으면 없는 종류만 Gemini에 요청하고 결과를 합친다")
+  void generateFortune_whenPartiallyCached_thenGeneratesOnlyMissingTypes() {
+    // given
+    FortuneRequest request = createFortuneRequest(List.of(FortuneType.LOVE, FortuneType.MONEY));
+    fortuneResultCache.put(
+        request.cacheKey(FortuneType.LOVE),
+        List.of(createFortuneResponse(FortuneType.LOVE, PeriodValue.JANUARY, "캐시된 연애운")));
+
+    GenerateContentResponse response = mock(GenerateContentResponse.class);
+    given(client.models.generateContent(
+        eq(MODEL_NAME),
+        anyString(),
+        eq(generateContentConfig)
+    )).willReturn(response);
+    given(response.text()).willReturn("""
+        [
+          {
+            "fortune": "money",
+            "periodValue": "january",
+            "result": "새로 생성된 금전운"
+          }
+        ]
+        """);
+
+    // when
+    List<FortuneResponse> responses = service.generateFortune(request, PRIORITY);
+
+    // then
+    assertThat(responses)
+        .extracting(FortuneResponse::getFortune, FortuneResponse::getResult)
+        .containsExactly(
+            tuple(FortuneType.LOVE, "캐시된 연애운"),
+            tuple(FortuneType.MONEY, "새로 생성된 금전운")
+        );
+
+    ArgumentCaptor<String> promptCaptor = ArgumentCaptor.forClass(String.class);
+    verify(client.models).generateContent(
+        eq(MODEL_NAME),
+        promptCaptor.capture(),
+        eq(generateContentConfig)
+    );
+    assertThat(promptCaptor.getValue())
+        .contains("재물")
+        .doesNotContain("애정");
+  }
+
+  @Test
+  @DisplayName("서킷이 열려 있으면 Gemini API를 호출하지 않고 만료된 캐시 결과로 응답한다")
+  void generateFortune_whenCircuitOpen_thenServesStaleResult() {
+    // given
+    circuitBreaker.transitionToForcedOpenState();
+    FortuneRequest request = createFortuneRequest();
+
+    given(fortuneResultRedisCache.getStale(request.cacheKey(FortuneType.LOVE)))
+        .willReturn(Optional.of(List.of(
+            createFortuneResponse(FortuneType.LOVE, PeriodValue.JANUARY, "지난 연애운"))));
+    given(fortuneResultRedisCache.getStale(request.cacheKey(FortuneType.HEALTH)))
+        .willReturn(Optional.of(List.of(
+            createFortuneResponse(FortuneType.HEALTH, PeriodValue.JANUARY, "지난 건강운"))));
+
+    // when
+    List<FortuneResponse> responses = service.generateFortune(request, PRIORITY);
+
+    // then
+    assertThat(responses)
+        .extracting(FortuneResponse::getResult)
+        .containsExactly("지난 연애운", "지난 건강운");
+
+    verify(client.models, never())
+        .generateContent(anyString(), anyString(), eq(generateContentConfig));
+  }
+
+  @Test
+  @DisplayName("서킷이 열려 있고 대체할 캐시 결과가 없으면 즉시 예외가 발생한다")
+  void generateFortune_whenCircuitOpenWithoutStale_thenFailsFast() {
+    // given
+    circuitBreaker.transitionToForcedOpenState();
+    FortuneRequest request = createFortuneRequest();
+
+    given(fortuneResultRedisCache.getStale(any())).willReturn(Optional.empty());
+
+    // when & then
+    assertThatThrownBy(() -> service.generateFortune(request, PRIORITY))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(ErrorCode.GEMINI_CIRCUIT_OPEN.getMessage());
+
+    verify(client.models, never())
+        .generateContent(anyString(), anyString(), eq(generateContentConfig));
+  }
+
+  @Test
+  @DisplayName("캐시된 종류와 먼저 끝난 분할 요청의 결과는 전체 결과를 반환하기 전에 전달한다")
+  void generateFortune_whenProgressListener_thenPublishesLoadedTypes() {
+    // given
+    FortuneGenerationService shardingService = createService(new FortuneShardPlanner(12)); // 월별 1종류씩
+    FortuneRequest request = createFortuneRequest();
+    FortuneCacheKey loveKey = request.cacheKey(FortuneType.LOVE);
+    List<FortuneResponse> cachedLove = List.of(
+        createFortuneResponse(FortuneType.LOVE, PeriodValue.JANUARY, "캐시된 연애운"));
+    fortuneResultCache.put(loveKey, cachedLove);
+
+    given(client.models.generateContent(
+        eq(MODEL_NAME),
+        anyString(),
+        eq(generateContentConfig)
+    )).willAnswer(invocation -> {
+      GenerateContentResponse response = mock(GenerateContentResponse.class);
+      given(response.text()).willReturn(
+          "[{\"fortune\": \"health\", \"periodValue\": \"january\", \"result\": \"건강운\"}]");
+      return response;
+    });
+
+    // when
+    List<FortuneResponse> published = new ArrayList<>();
+    List<FortuneResponse> responses = shardingService.generateFortune(
+        request, PRIORITY, published::add);
+
+    // then
+    assertThat(published)
+        .extracting(FortuneResponse::getFortune, FortuneResponse::getResult)
+        .containsExactly(
+            tuple(FortuneType.LOVE, "캐시된 연애운"),
+            tuple(FortuneType.HEALTH, "건강운")
+        );
+    assertThat(responses)
+        .extracting(FortuneResponse::getFortune, FortuneResponse::getResult)
+        .containsExactly(
+            tuple(FortuneType.LOVE, "캐시된 연애운"),
+            tuple(FortuneType.HEALTH, "건강운")
+        );
+  }
+
+  @Test
+  @DisplayName("캐시 갱신 시 결과 연도 안의 결과가 Redis에 있으면 다시 생성하지 않고 같은 결과를 유지한다")
+  void refresh_whenStoredInRedis_thenKeepsResultWithoutGemini() {
+    // given
+    FortuneCacheKey typeKey = createFortuneRequest().cacheKey(FortuneType.LOVE);
+    List<FortuneResponse> stored = List.of(
+        createFortuneResponse(FortuneType.LOVE, PeriodValue.JANUARY, "처음 생성한 연애운"));
+    given(fortuneResultRedisCache.get(typeKey)).willReturn(Optional.of(stored));
+
+    // when
+    List<FortuneResponse> responses = service.refresh(typeKey);
+
+    // then
+    assertThat(responses)
+        .extracting(FortuneResponse::getResult)
+        .containsExactly("처음 생성한 연애운");
+    verify(client.models, never())
+        .generateContent(anyString(), anyString(), eq(generateContentConfig));
+    verify(fortuneResultRedisCache, never()).put(any(), any());
+  }
+
+  @Test
+  @DisplayName("캐시 갱신 시 Redis에 결과가 없으면 key의 요청 정보로 해당 운세 종류만 다시 생성하고 저장한다")
+  void refresh_whenNotStoredInRedis_thenRegeneratesFromKey() {
+    // given
+    FortuneCacheKey typeKey = createFortuneRequest().cacheKey(FortuneType.LOVE);
+    given(fortuneResultRedisCache.get(typeKey)).willReturn(Optional.empty());
+
+    GenerateContentResponse response = mock(GenerateContentResponse.class);
+    given(client.models.generateContent(
+        eq(MODEL_NAME),
+        anyString(),
+        eq(generateContentConfig)
+    )).willReturn(response);
+    given(response.text()).willReturn(VALID_JSON_RESPONSE);
+
+    // when
+    List<FortuneResponse> responses = service.refresh(typeKey);
+
+    // then
+    assertThat(responses)
+        .extracting(FortuneResponse::getFortune)
+        .containsOnly(FortuneType.LOVE);
+
+    ArgumentCaptor<String> promptCaptor = ArgumentCaptor.forClass(String.class);
+    verify(client.models).generateContent(
+        eq(MODEL_NAME), promptCaptor.capture(), eq(generateContentConfig));
+    assertThat(promptCaptor.getValue())
+        .contains(TEST_YEAR + "년 애정 운세 분석")
+        .contains("1995년 2월 16일")
+        .contains("오시")
+        .contains("서울특별시");
+    verify(fortuneResultRedisCache).put(
+        eq(typeKey), argThat(stored -> stored.size() == 2));
+  }
+
+  private FortuneGenerationService createService(FortuneShardPlanner shardPlanner) {
+    GeminiModelClient modelClient = new GeminiModelClient(
+        new GeminiKeyPool(List.of(client), new SimpleMeterRegistry(), 0, 0,
+            Duration.ofSeconds(10), Duration.ofMinutes(2)),
+        new GeminiPromptCache(
+            client, generateContentConfig, new FortunePrompt(PROMPT_TEMPLATE, Map.of(), Map.of()),
+            new FortuneOutputBudget(false, 250, 500, 900, 1.0, 16384),
+            Runnable::run, MODEL_NAME, "v1", false, Duration.ofHours(1), Duration.ofMinutes(10),
+            Duration.ofMinutes(5), 0),
+        usageRecorder,
+        new FortuneResponseParser(new ObjectMapper()),
+        new FortuneOutputBudget(false, 250, 500, 900, 1.0, 16384),
+        new DistributedTokenBucket(
+            "gemini.quota", "gemini:quota:" + MODEL_NAME, null, new SimpleMeterRegistry(),
+            0, 0.9, Duration.ofSeconds(10), Duration.ofSeconds(5)),
+        circuitBreaker,
+        new AdaptiveConcurrencyLimiter(
+            "gemini.limiter", new SimpleMeterRegistry(), e -> false,
+            10, 2, 50, 0.7, 2.0, 500),
+        new RetryExecutor(
+            "gemini.retry", new SimpleMeterRegistry(), e -> false,
+            1, Duration.ZERO, Duration.ZERO),
+        new HedgingExecutor(
+            "gemini.hedge", Runnable::run, new SimpleMeterRegistry(),
+            0.0, 10, Integer.MAX_VALUE, Duration.ZERO),
+        MODEL_NAME
+    );
+
+    return new FortuneGenerationService(
+        fortuneResultCache,
+        fortuneResultRedisCache,
+        singleFlight,
+        new FortuneFailureCache(
+            new SimpleMeterRegistry(), Duration.ofSeconds(30), Duration.ofMinutes(1)),
+        shardPlanner,
+        new FortuneGenerationRepairer(),
+        new FortuneModelRouter(
+            List.of(modelClient), new SimpleMeterRegistry(), 100, 10, Duration.ofSeconds(10),
+            4.0, Duration.ofSeconds(30), Duration.ofMinutes(2)),
+        Runnable::run,
+        4
+    );
+  }
+
+  private FortuneRequest createFortuneRequest() {
+    BirthInfoForm birthForm = createBirthInfoForm();
+    FortuneOptionForm optionForm = createFortuneOptionForm();
+
+    return FortuneRequest.from(birthForm, optionForm, TEST_YEAR);
+  }
+
+  private FortuneRequest createFortuneRequest(List<FortuneType> fortunes) {
+    BirthInfoForm birthForm = createBirthInfoForm();
+    FortuneOptionForm optionForm = createFortuneOptionForm();
+    optionForm.setFortunes(new ArrayList<>(fortunes));
+
+    return FortuneRequest.from(birthForm, optionForm, TEST_YEAR);
+  }
+
+  private FortuneResponse createFortuneResponse(
+      FortuneType fortune, PeriodValue periodValue, String result) {
+    FortuneResponse response = new FortuneResponse();
+    response.setFortune(fortune);
+    response.setPeriodValue(periodValue);
+    response.setResult(result);
+    return response;
+  }
+
+  private BirthInfoForm createBirthInfoForm() {
+    BirthInfoForm birthForm = new BirthInfoForm();
+    birthForm.setGender(GenderType.FEMALE);
+    birthForm.setCalendar(CalendarType.SOLAR);
+    birthForm.setYear(1995);
+    birthForm.setMonth(2);
+    birthForm.setDay(16);
+    birthForm.setTime(TimeType.TIME_11_30);
+    birthForm.setCity(CityType.SEOUL);
+    return birthForm;
+  }
+
+  private FortuneOptionForm createFortuneOptionForm() {
+    FortuneOptionForm optionForm = new FortuneOptionForm();
+    optionForm.setAi(AIType.GEMINI);
+    optionForm.setFortunes(new ArrayList<>(List.of(FortuneType.LOVE, FortuneType.HEALTH)));
+    optionForm.setPeriod(PeriodType.MONTHLY);
+    return optionForm;
+  }
+}
\ No newline at end of file
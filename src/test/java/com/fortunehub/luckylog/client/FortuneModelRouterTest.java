@@ -0,0 +1,234 @@
+package com.fortunehub.luckylog.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fortunehub.luckylog.common.limit.RequestPriority;
+import com.fortunehub.luckylog.domain.fortune.AIType;
+import com.fortunehub.luckylog.domain.fortune.CalendarType;
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.domain.fortune.GenderType;
+import com.fortunehub.luckylog.domain.fortune.PeriodType;
+import com.fortunehub.luckylog.domain.fortune.PeriodValue;
+import com.fortunehub.luckylog.dto.request.fortune.FortuneRequest;
+import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+// 실제 LLM 대신 지연 시간과 실패를 지정할 수 있는 stub provider로 라우팅을 검증
+class FortuneModelRouterTest {
+
+  private static final RequestPriority PRIORITY = RequestPriority.ANONYMOUS_WEB;
+  private static final FortuneRequest REQUEST = new FortuneRequest(
+      GenderType.FEMALE, CalendarType.SOLAR, 1995, 2, 16, null, null,
+      List.of(FortuneType.LOVE), PeriodType.YEARLY, 2025, null);
+
+  private final AtomicLong ticker = new AtomicLong();
+
+  @Test
+  @DisplayName("과부하인 provider는 다음 provider로 전환하고, cooldown 동안은 뒤로 미룬다")
+  void generate_whenOverloaded_thenFailsOverAndDefersDuringCooldown() {
+    // given
+    StubProvider gemini = new StubProvider(AIType.GEMINI, Duration.ofSeconds(2));
+    StubProvider gpt = new StubProvider(AIType.GPT, Duration.ofSeconds(3));
+    gemini.failure = new CustomException(ErrorCode.GEMINI_OVERLOAD);
+    FortuneModelRouter router = createRouter(Duration.ofSeconds(10), 3, gemini, gpt);
+
+    // when
+    FortuneGeneration first = router.generate(REQUEST, PRIORITY);
+    FortuneGeneration second = router.generate(REQUEST, PRIORITY);
+
+    // then
+    assertThat(first.responses()).extracting(FortuneResponse::getResult).containsExactly("GPT");
+    assertThat(second.responses()).extracting(FortuneResponse::getResult).containsExactly("GPT");
+    assertThat(gemini.calls).isEqualTo(1);
+    assertThat(gpt.calls).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("최근 p95 지연 시간이 짧은 provider를 선택한다")
+  void generate_thenPrefersLowerP95() {
+    // given
+    StubProvider gemini = new StubProvider(AIType.GEMINI, Duration.ofSeconds(5));
+    StubProvider gpt = new StubProvider(AIType.GPT, Duration.ofSeconds(1));
+    // 기록이 없는 provider를 먼저 시도하도록 기본 지연 시간을 0으로 설정
+    FortuneModelRouter router = createRouter(Duration.ZERO, 1, gemini, gpt);
+
+    // when
+    for (int i = 0; i < 4; i++) {
+      router.generate(REQUEST, PRIORITY);
+    }
+
+    // then
+    assertThat(gemini.calls).isEqualTo(1);
+    assertThat(gpt.calls).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("cooldown이 지나도 최근 실패율이 높은 provider는 정상 provider보다 뒤에 선택한다")
+  void generate_whenRecentlyFailing_thenStaysBehindHealthyProvider() {
+    // given
+    StubProvider gemini = new StubProvider(AIType.GEMINI, Duration.ofSeconds(1));
+    StubProvider gpt = new StubProvider(AIType.GPT, Duration.ofSeconds(3));
+    gemini.failure = new CustomException(ErrorCode.GEMINI_OVERLOAD);
+    FortuneModelRouter router = createRouter(Duration.ofSeconds(10), 1, gemini, gpt);
+    router.generate(REQUEST, PRIORITY);
+
+    // when
+    gemini.failure = null;
+    ticker.addAndGet(Duration.ofSeconds(31).toNanos());
+    router.generate(REQUEST, PRIORITY);
+
+    // then
+    assertThat(gemini.calls).isEqualTo(1);
+    assertThat(gpt.calls).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("사용자가 선택한 AI를 먼저 시도하고, 선택한 AI가 과부하면 cooldown 동안 다른 provider를 사용한다")
+  void generate_whenAiSelected_thenPrefersSelectedUntilOverloaded() {
+    // given
+    StubProvider gemini = new StubProvider(AIType.GEMINI, Duration.ofSeconds(1));
+    StubProvider gpt = new StubProvider(AIType.GPT, Duration.ofSeconds(3));
+    FortuneModelRouter router = createRouter(Duration.ZERO, 1, gemini, gpt);
+    FortuneRequest gptRequest = new FortuneRequest(
+        GenderType.FEMALE, CalendarType.SOLAR, 1995, 2, 16, null, null,
+        List.of(FortuneType.LOVE), PeriodType.YEARLY, 2025, AIType.GPT);
+
+    // when
+    FortuneGeneration preferred = router.generate(gptRequest, PRIORITY);
+    gpt.failure = new CustomException(ErrorCode.GEMINI_OVERLOAD);
+    FortuneGeneration failedOver = router.generate(gptRequest, PRIORITY);
+    FortuneGeneration duringCooldown = router.generate(gptRequest, PRIORITY);
+
+    // then
+    assertThat(preferred.responses()).extracting(FortuneResponse::getResult)
+                                     .containsExactly("GPT");
+    assertThat(failedOver.responses()).extracting(FortuneResponse::getResult)
+                                      .containsExactly("GEMINI");
+    assertThat(duringCooldown.responses()).extracting(FortuneResponse::getResult)
+                                          .containsExactly("GEMINI");
+    assertThat(gpt.calls).isEqualTo(2);
+    assertThat(gemini.calls).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("응답 파싱 오류처럼 요청 내용의 문제는 다른 provider로 전환하지 않는다")
+  void generate_whenParseError_thenDoesNotFailOver() {
+    // given
+    StubProvider gemini = new StubProvider(AIType.GEMINI, Duration.ofSeconds(1));
+    StubProvider gpt = new StubProvider(AIType.GPT, Duration.ofSeconds(1));
+    gemini.failure = new CustomException(ErrorCode.GEMINI_RESPONSE_PARSE_ERROR);
+    FortuneModelRouter router = createRouter(Duration.ofSeconds(10), 3, gemini, gpt);
+
+    // when & then
+    assertThatThrownBy(() -> router.generate(REQUEST, PRIORITY))
+        .isSameAs(gemini.failure);
+    assertThat(gpt.calls).isZero();
+  }
+
+  @Test
+  @DisplayName("스트리밍 중 일부 결과를 이미 전달했으면 다른 provider로 전환하지 않는다")
+  void generateStream_whenPartiallyDelivered_thenDoesNotFailOver() {
+    // given
+    StubProvider gemini = new StubProvider(AIType.GEMINI, Duration.ofSeconds(1));
+    StubProvider gpt = new StubProvider(AIType.GPT, Duration.ofSeconds(1));
+    gemini.failure = new CustomException(ErrorCode.GEMINI_OVERLOAD);
+    gemini.deliverBeforeFailure = true;
+    FortuneModelRouter router = createRouter(Duration.ofSeconds(10), 3, gemini, gpt);
+    List<FortuneResponse> received = new ArrayList<>();
+
+    // when & then
+    assertThatThrownBy(() -> router.generateStream(REQUEST, PRIORITY, received::add))
+        .isSameAs(gemini.failure);
+    assertThat(received).hasSize(1);
+    assertThat(gpt.calls).isZero();
+  }
+
+  @Test
+  @DisplayName("모든 provider가 과부하면 처음 선택한 provider의 예외를 전달한다")
+  void generate_whenAllOverloaded_thenThrowsFirstFailure() {
+    // given
+    StubProvider gemini = new StubProvider(AIType.GEMINI, Duration.ofSeconds(1));
+    StubProvider gpt = new StubProvider(AIType.GPT, Duration.ofSeconds(1));
+    gemini.failure = new CustomException(ErrorCode.GEMINI_CIRCUIT_OPEN);
+    gpt.failure = new CustomException(ErrorCode.GEMINI_OVERLOAD);
+    FortuneModelRouter router = createRouter(Duration.ofSeconds(10), 3, gemini, gpt);
+
+    // when & then
+    assertThatThrownBy(() -> router.generate(REQUEST, PRIORITY))
+        .isSameAs(gemini.failure)
+        .hasSuppressedException(gpt.failure);
+  }
+
+  private FortuneModelRouter createRouter(
+      Duration defaultLatency, int minSamples, FortuneModelClient... clients) {
+    return new FortuneModelRouter(
+        List.of(clients),
+        new SimpleMeterRegistry(),
+        20,
+        minSamples,
+        defaultLatency,
+        4.0,
+        Duration.ofSeconds(30),
+        Duration.ofMinutes(2),
+        ticker::get
+    );
+  }
+
+  // 호출마다 지정한 지연 시간만큼 시간을 진행시키고, failure가 있으면 던짐
+  private class StubProvider implements FortuneModelClient {
+
+    private final AIType type;
+    private final Duration latency;
+    private RuntimeException failure;
+    private boolean deliverBeforeFailure;
+    private int calls;
+
+    StubProvider(AIType type, Duration latency) {
+      this.type = type;
+      this.latency = latency;
+    }
+
+    @Override
+    public AIType type() {
+      return type;
+    }
+
+    @Override
+    public FortuneGeneration generate(FortuneRequest request, RequestPriority priority) {
+      return generateStream(request, priority, response -> {
+      });
+    }
+
+    @Override
+    public FortuneGeneration generateStream(
+        FortuneRequest request, RequestPriority priority, Consumer<FortuneResponse> onResponse) {
+      calls++;
+      ticker.addAndGet(latency.toNanos());
+
+      FortuneResponse response = new FortuneResponse();
+      response.setFortune(FortuneType.LOVE);
+      response.setPeriodValue(PeriodValue.YEAR);
+      response.setResult(type.name());
+
+      if (failure != null) {
+        if (deliverBeforeFailure) {
+          onResponse.accept(response);
+        }
+        throw failure;
+      }
+
+      onResponse.accept(response);
+      return new FortuneGeneration(List.of(response), false);
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package com.fortunehub.luckylog.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.AssertionsForClassTypes.tuple;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.domain.fortune.PeriodValue;
+import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FortuneResponseParserTest {
+
+  private final FortuneResponseParser parser = new FortuneResponseParser(new ObjectMapper());
+
+  @Test
+  @DisplayName("응답 앞뒤에 다른 문자가 있거나 정의되지 않은 필드가 있어도 결과를 파싱한다")
+  void parse_whenResponseHasExtraContent_thenParsesFortunes() {
+    // when
+    FortuneGeneration generation = parser.parse("""
+        결과입니다.
+        ```json
+        [
+          {"fortune": "love", "periodValue": "january", "result": "연애운 좋음", "score": 90},
+          {"fortune": "health", "periodValue": "january", "result": "건강운 변화"}
+        ]
+        ```
+        """);
+
+    // then
+    assertThat(generation.truncated()).isFalse();
+    assertThat(generation.responses())
+        .extracting(FortuneResponse::getFortune, FortuneResponse::getResult)
+        .containsExactly(
+            tuple(FortuneType.LOVE, "연애운 좋음"),
+            tuple(FortuneType.HEALTH, "건강운 변화")
+        );
+  }
+
+  @Test
+  @DisplayName("출력이 잘려 배열이 닫히지 않으면 완성된 객체까지만 잘린 결과로 반환한다")
+  void parse_whenTruncated_thenReturnsCompletedObjects() {
+    // when
+    FortuneGeneration generation = parser.parse(
+        "[{\"fortune\": \"love\", \"periodValue\": \"year\", \"result\": \"연애운\"}, "
+            + "{\"fortune\": \"health\", \"periodValue\": \"ye");
+
+    // then
+    assertThat(generation.truncated()).isTrue();
+    assertThat(generation.responses())
+        .extracting(FortuneResponse::getFortune, FortuneResponse::getPeriodValue)
+        .containsExactly(tuple(FortuneType.LOVE, PeriodValue.YEAR));
+  }
+
+  @Test
+  @DisplayName("결과의 구분자는 줄바꿈으로 바꾼다")
+  void parse_whenResultHasSeparator_thenFormatsLineBreak() {
+    // when
+    FortuneGeneration generation = parser.parse(
+        "[{\"fortune\": \"love\", \"periodValue\": \"year\", \"result\": \"연애운 | 조언\"}]");
+
+    // then
+    assertThat(generation.responses())
+        .extracting(FortuneResponse::getResult)
+        .containsExactly("연애운\n조언");
+  }
+
+  @Test
+  @DisplayName("JSON 배열이 없거나 잘못된 형식이면 파싱 예외가 발생한다")
+  void parse_whenInvalidJson_thenThrowsException() {
+    // when & then
+    assertThatThrownBy(() -> parser.parse("invalid json"))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(ErrorCode.GEMINI_RESPONSE_PARSE_ERROR.getMessage());
+    assertThatThrownBy(() -> parser.parse("[invalid json]"))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(ErrorCode.GEMINI_RESPONSE_PARSE_ERROR.getMessage());
+  }
+}
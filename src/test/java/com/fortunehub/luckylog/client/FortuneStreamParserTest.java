@@ -0,0 +1,72 @@
+package com.fortunehub.luckylog.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.AssertionsForClassTypes.tuple;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.domain.fortune.PeriodValue;
+import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FortuneStreamParserTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private List<FortuneResponse> received;
+  private FortuneStreamParser parser;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    received = new ArrayList<>();
+    parser = new FortuneStreamParser(
+        objectMapper.readerFor(FortuneResponse.class), received::add);
+  }
+
+  @Test
+  @DisplayName("객체가 닫히는 즉시 하나씩 전달한다")
+  void feed_whenObjectCloses_thenEmitsImmediately() throws IOException {
+    // when & then
+    parser.feed("```json\n[{\"fortune\": \"love\", \"periodValue\": \"janu");
+    assertThat(received).isEmpty();
+
+    parser.feed("ary\", \"result\": \"연애운 좋음\"}, {\"fortune\": \"lo");
+    assertThat(received).hasSize(1);
+
+    parser.feed("ve\", \"periodValue\": \"february\", \"result\": \"연애운 신경\"}]\n```");
+    parser.finish();
+
+    assertThat(received)
+        .extracting(FortuneResponse::getFortune, FortuneResponse::getPeriodValue,
+            FortuneResponse::getResult)
+        .containsExactly(
+            tuple(FortuneType.LOVE, PeriodValue.JANUARY, "연애운 좋음"),
+            tuple(FortuneType.LOVE, PeriodValue.FEBRUARY, "연애운 신경")
+        );
+  }
+
+  @Test
+  @DisplayName("배열이 닫히기 전에 스트림이 끝나면 예외가 발생한다")
+  void finish_whenArrayNotClosed_thenThrowsException() throws IOException {
+    // given
+    parser.feed("[{\"fortune\": \"love\", \"periodValue\": \"january\", \"result\": \"연애운\"},");
+
+    // when & then
+    assertThat(received).hasSize(1);
+    assertThatThrownBy(() -> parser.finish())
+        .isInstanceOf(IOException.class);
+  }
+
+  @Test
+  @DisplayName("잘못된 JSON이면 예외가 발생한다")
+  void feed_whenInvalidJson_thenThrowsException() {
+    // when & then
+    assertThatThrownBy(() -> parser.feed("[invalid json]"))
+        .isInstanceOf(IOException.class);
+  }
+}
@@ -0,0 +1,71 @@
+package com.fortunehub.luckylog.client.gemini;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fortunehub.luckylog.domain.fortune.CalendarType;
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.domain.fortune.GenderType;
+import com.fortunehub.luckylog.domain.fortune.PeriodType;
+import com.fortunehub.luckylog.dto.request.fortune.FortuneRequest;
+import com.google.genai.types.GenerateContentConfig;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FortuneOutputBudgetTest {
+
+  private final FortuneOutputBudget budget =
+      new FortuneOutputBudget(true, 250, 500, 900, 1.0, 16384);
+
+  @Test
+  @DisplayName("출력 토큰 상한은 결과 수와 주기별 결과 길이에 비례하고 최대값을 넘지 않는다")
+  void maxOutputTokens_thenScalesWithItemsAndIsCapped() {
+    // given
+    FortuneRequest monthlyTwoTypes = createFortuneRequest(
+        List.of(FortuneType.LOVE, FortuneType.HEALTH), PeriodType.MONTHLY);
+    FortuneRequest yearlyOneType = createFortuneRequest(
+        List.of(FortuneType.LOVE), PeriodType.YEARLY);
+    FortuneRequest monthlyAllTypes = createFortuneRequest(
+        List.of(FortuneType.values()), PeriodType.MONTHLY);
+
+    // when & then
+    // 결과 수 * (결과 길이 + JSON 항목 토큰) * 1.1 + 16
+    assertThat(budget.maxOutputTokens(monthlyTwoTypes)).isEqualTo(7250);
+    assertThat(budget.maxOutputTokens(yearlyOneType)).isEqualTo(1033);
+    assertThat(budget.maxOutputTokens(monthlyAllTypes)).isEqualTo(16384);
+  }
+
+  @Test
+  @DisplayName("설정에 출력 토큰 상한을 적용하고 주기별 결과 길이를 안내한다")
+  void applyTo_thenSetsMaxOutputTokensAndGuidance() {
+    // given
+    GenerateContentConfig config = GenerateContentConfig.builder().temperature(0.2f).build();
+    FortuneRequest request = createFortuneRequest(List.of(FortuneType.LOVE), PeriodType.YEARLY);
+
+    // when
+    GenerateContentConfig applied = budget.applyTo(config, request);
+
+    // then
+    assertThat(applied.maxOutputTokens()).hasValue(1033);
+    assertThat(applied.temperature()).hasValue(0.2f);
+    assertThat(budget.guidance(request)).contains("900자");
+  }
+
+  @Test
+  @DisplayName("사용하지 않도록 설정하면 설정과 프롬프트를 바꾸지 않는다")
+  void applyTo_whenDisabled_thenKeepsConfig() {
+    // given
+    FortuneOutputBudget disabled = new FortuneOutputBudget(false, 250, 500, 900, 1.0, 16384);
+    GenerateContentConfig config = GenerateContentConfig.builder().build();
+    FortuneRequest request = createFortuneRequest(List.of(FortuneType.LOVE), PeriodType.MONTHLY);
+
+    // when & then
+    assertThat(disabled.applyTo(config, request)).isSameAs(config);
+    assertThat(disabled.guidance(request)).isEmpty();
+  }
+
+  private FortuneRequest createFortuneRequest(List<FortuneType> fortunes, PeriodType period) {
+    return new FortuneRequest(
+        GenderType.FEMALE, CalendarType.SOLAR, 1995, 2, 16, null, null, fortunes, period, 2025, null);
+  }
+}
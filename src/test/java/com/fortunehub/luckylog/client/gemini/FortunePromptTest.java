@@ -0,0 +1,120 @@
+package com.fortunehub.luckylog.client.gemini;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fortunehub.luckylog.domain.fortune.CalendarType;
+import com.fortunehub.luckylog.domain.fortune.CityType;
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.domain.fortune.GenderType;
+import com.fortunehub.luckylog.domain.fortune.PeriodType;
+import com.fortunehub.luckylog.domain.fortune.TimeType;
+import com.fortunehub.luckylog.dto.request.fortune.FortuneRequest;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+
+class FortunePromptTest {
+
+  @Test
+  @DisplayName("운세 종류/주기 지시문이 없으면 기존 템플릿을 치환하고 사용자 정보를 붙인다")
+  void build_whenOnlyHeader_thenSameAsTemplate() {
+    // given
+    FortunePrompt prompt = new FortunePrompt(
+        "[ANALYSIS_YEAR]년 [FORTUNE_TYPES] 운세 분석\n", Map.of(), Map.of());
+    FortuneRequest request = createFortuneRequest(
+        List.of(FortuneType.LOVE, FortuneType.HEALTH), PeriodType.MONTHLY);
+
+    // when
+    String built = prompt.build(request);
+
+    // then
+    assertThat(built).isEqualTo("2025년 애정, 건강 운세 분석\n" + request.toBirthInfo());
+  }
+
+  @Test
+  @DisplayName("요청한 운세 종류와 주기의 지시문만 순서대로 포함한다")
+  void build_whenSegmented_thenIncludesOnlyRequestedInstructions() {
+    // given
+    FortunePrompt prompt = new FortunePrompt(
+        "[ANALYSIS_YEAR]년 운세 분석\n",
+        Map.of(
+            FortuneType.LOVE, "- 애정운 지시문\n",
+            FortuneType.MONEY, "- 재물운 지시문\n",
+            FortuneType.HEALTH, "- 건강운 지시문\n"),
+        Map.of(
+            PeriodType.MONTHLY, "# 월별 출력\n",
+            PeriodType.YEARLY, "# 연간 출력\n"));
+    FortuneRequest request = createFortuneRequest(
+        List.of(FortuneType.HEALTH, FortuneType.LOVE), PeriodType.YEARLY);
+
+    // when
+    String built = prompt.build(request);
+
+    // then
+    assertThat(built).isEqualTo("2025년 운세 분석\n"
+        + "- 건강운 지시문\n"
+        + "- 애정운 지시문\n"
+        + "# 연간 출력\n"
+        + request.toBirthInfo());
+  }
+
+  @Test
+  @DisplayName("고정 앞부분을 제외하면 첫 치환 위치부터 조합한다")
+  void buildWithoutStaticPrefix_thenStartsFromFirstPlaceholder() {
+    // given
+    FortunePrompt prompt = new FortunePrompt(
+        "공통 지시문\n[ANALYSIS_YEAR]년 [FORTUNE_TYPES] 운세 분석\n", Map.of(), Map.of());
+    FortuneRequest request = createFortuneRequest(List.of(FortuneType.LOVE), PeriodType.MONTHLY);
+
+    // when
+    String built = prompt.buildWithoutStaticPrefix(request);
+
+    // then
+    assertThat(prompt.staticPrefix()).isEqualTo("공통 지시문\n");
+    assertThat(prompt.staticPrefix() + built).isEqualTo(prompt.build(request));
+  }
+
+  @Test
+  @DisplayName("기본 프롬프트(fortune-prompts.yaml)는 모든 운세 종류와 주기의 지시문을 나누어 제공한다")
+  void fortunePrompt_whenDefaultPrompts_thenSegmentsEveryTypeAndPeriod() throws IOException {
+    // given
+    StandardEnvironment environment = new StandardEnvironment();
+    new YamlPropertySourceLoader()
+        .load("fortune-prompts", new ClassPathResource("fortune-prompts.yaml"))
+        .forEach(environment.getPropertySources()::addLast);
+
+    FortuneRequest request = createFortuneRequest(List.of(FortuneType.LOVE), PeriodType.MONTHLY);
+
+    // when
+    FortunePrompt prompt = new GeminiConfig().fortunePrompt(environment);
+
+    // then
+    assertThat(prompt.build(request))
+        .startsWith(prompt.staticPrefix())
+        .contains("2025년 애정 운세를 분석해 주세요.")
+        .contains("fortune: \"love\"")
+        .doesNotContain("fortune: \"money\"")
+        .contains("january부터 december까지")
+        .endsWith(request.toBirthInfo());
+
+    for (FortuneType fortune : FortuneType.values()) {
+      assertThat(prompt.build(createFortuneRequest(List.of(fortune), PeriodType.YEARLY)))
+          .contains("fortune: \"" + fortune.getJsonKey() + "\"");
+    }
+    for (PeriodType period : PeriodType.values()) {
+      assertThat(prompt.build(createFortuneRequest(List.of(FortuneType.LOVE), period)))
+          .contains("# 출력 기간 (" + period.getDisplayName() + ")");
+    }
+  }
+
+  private FortuneRequest createFortuneRequest(List<FortuneType> fortunes, PeriodType period) {
+    return new FortuneRequest(
+        GenderType.FEMALE, CalendarType.SOLAR, 1995, 2, 16,
+        TimeType.TIME_11_30, CityType.SEOUL, fortunes, period, 2025, null);
+  }
+}
@@ -0,0 +1,78 @@
+package com.fortunehub.luckylog.client.gemini;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fortunehub.luckylog.domain.fortune.AIType;
+import com.fortunehub.luckylog.domain.fortune.CalendarType;
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.domain.fortune.GenderType;
+import com.fortunehub.luckylog.domain.fortune.PeriodType;
+import com.fortunehub.luckylog.dto.request.fortune.FortuneRequest;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FortuneShardPlannerTest {
+
+  private static final List<FortuneType> FORTUNES =
+      List.of(FortuneType.LOVE, FortuneType.HEALTH, FortuneType.MONEY);
+
+  @Test
+  @DisplayName("결과 수가 분할 기준 이하면 나누지 않는다")
+  void plan_whenSmallRequest_thenKeepsSingleRequest() {
+    // given
+    FortuneRequest request = createFortuneRequest(PeriodType.QUARTERLY); // 3종류 * 4분기 = 12개
+
+    // when
+    List<FortuneRequest> shards = new FortuneShardPlanner(24).plan(request);
+
+    // then
+    assertThat(shards).containsExactly(request);
+  }
+
+  @Test
+  @DisplayName("결과 수가 많은 요청은 운세 종류 단위로 요청 순서대로 나눈다")
+  void plan_whenLargeRequest_thenShardsByFortuneType() {
+    // given
+    FortuneRequest request = createFortuneRequest(PeriodType.MONTHLY); // 3종류 * 12개월 = 36개
+
+    // when
+    List<FortuneRequest> shards = new FortuneShardPlanner(24).plan(request);
+
+    // then
+    assertThat(shards)
+        .extracting(FortuneRequest::getFortunes)
+        .containsExactly(
+            List.of(FortuneType.LOVE, FortuneType.HEALTH),
+            List.of(FortuneType.MONEY)
+        );
+    assertThat(shards)
+        .extracting(FortuneRequest::getPeriod)
+        .containsOnly(PeriodType.MONTHLY);
+  }
+
+  @Test
+  @DisplayName("한 운세 종류의 기간 수가 분할 기준보다 많아도 기간은 나누지 않는다")
+  void plan_whenTypeExceedsLimit_thenKeepsOneTypePerShard() {
+    // given
+    FortuneRequest request = createFortuneRequest(PeriodType.MONTHLY);
+
+    // when
+    List<FortuneRequest> shards = new FortuneShardPlanner(6).plan(request);
+
+    // then
+    assertThat(shards)
+        .extracting(FortuneRequest::getFortunes)
+        .containsExactly(
+            List.of(FortuneType.LOVE),
+            List.of(FortuneType.HEALTH),
+            List.of(FortuneType.MONEY)
+        );
+  }
+
+  private FortuneRequest createFortuneRequest(PeriodType period) {
+    return new FortuneRequest(
+        GenderType.FEMALE, CalendarType.SOLAR, 1995, 2, 16, null, null,
+        FORTUNES, period, 2025, AIType.GEMINI);
+  }
+}
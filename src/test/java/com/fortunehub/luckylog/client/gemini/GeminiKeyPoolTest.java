@@ -0,0 +1,112 @@
+package com.fortunehub.luckylog.client.gemini;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import com.google.genai.Client;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GeminiKeyPoolTest {
+
+  private final Client first = mock(Client.class);
+  private final Client second = mock(Client.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicLong ticker = new AtomicLong();
+
+  @Test
+  @DisplayName("분당 요청 한도 대비 여유가 큰 key부터 사용하고, 모두 소진되면 1분 뒤에 다시 사용한다")
+  void acquire_thenSpreadsByHeadroomUntilExhausted() {
+    // given
+    GeminiKeyPool pool = createPool(2, 0);
+
+    // when
+    List<Client> used = List.of(
+        pool.acquire().client(), pool.acquire().client(),
+        pool.acquire().client(), pool.acquire().client());
+
+    // then
+    assertThat(used).containsExactly(first, second, first, second);
+    assertThatThrownBy(pool::acquire)
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(ErrorCode.GEMINI_QUOTA_EXHAUSTED.getMessage());
+
+    ticker.addAndGet(Duration.ofSeconds(60).toNanos());
+    assertThat(pool.acquire().client()).isEqualTo(first);
+  }
+
+  @Test
+  @DisplayName("한도를 설정하지 않아 여유가 같으면 최근 요청 수가 적은 key를 사용하여 고르게 나눈다")
+  void acquire_whenUnlimited_thenSpreadsAcrossKeys() {
+    // given
+    GeminiKeyPool pool = createPool(0, 0);
+
+    // when
+    List<Client> used = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      used.add(pool.acquire().client());
+    }
+
+    // then
+    assertThat(used).filteredOn(client -> client == first).hasSize(5);
+    assertThat(used).filteredOn(client -> client == second).hasSize(5);
+  }
+
+  @Test
+  @DisplayName("429를 받은 key는 cooldown 동안 제외하고, 연속으로 받으면 제외 기간을 늘린다")
+  void rateLimited_thenExcludesKeyDuringCooldown() {
+    // given
+    GeminiKeyPool pool = createPool(0, 0);
+
+    // when
+    pool.acquire().rateLimited();
+    Client duringCooldown = pool.acquire().client();
+    ticker.addAndGet(Duration.ofSeconds(10).toNanos());
+    GeminiKeyPool.Lease afterCooldown = pool.acquire();
+    afterCooldown.rateLimited();
+    ticker.addAndGet(Duration.ofSeconds(10).toNanos());
+    Client duringDoubledCooldown = pool.acquire().client();
+
+    // then
+    assertThat(duringCooldown).isEqualTo(second);
+    assertThat(afterCooldown.client()).isEqualTo(first);
+    assertThat(duringDoubledCooldown).isEqualTo(second);
+    assertThat(meterRegistry.get("gemini.key.throttled").tag("key", "0").gauge().value())
+        .isEqualTo(1.0);
+    assertThat(meterRegistry.get("gemini.key.throttles").tag("key", "0").counter().count())
+        .isEqualTo(2.0);
+  }
+
+  @Test
+  @DisplayName("응답의 실제 토큰 사용량으로 key별 분당 토큰 사용률을 집계한다")
+  void complete_thenTracksTokenUtilization() {
+    // given
+    GeminiKeyPool pool = createPool(0, 1000);
+
+    // when
+    pool.acquire().complete(800);
+    GeminiKeyPool.Lease next = pool.acquire(); // 평균 사용량(800)만큼 예약
+    next.complete(500);
+
+    // then
+    assertThat(next.client()).isEqualTo(second);
+    assertThat(meterRegistry.get("gemini.key.tokens.utilization").tag("key", "0").gauge().value())
+        .isEqualTo(0.8);
+    assertThat(meterRegistry.get("gemini.key.tokens.utilization").tag("key", "1").gauge().value())
+        .isEqualTo(0.5);
+  }
+
+  private GeminiKeyPool createPool(int requestsPerMinute, long tokensPerMinute) {
+    return new GeminiKeyPool(
+        List.of(first, second), meterRegistry, requestsPerMinute, tokensPerMinute,
+        Duration.ofSeconds(10), Duration.ofMinutes(2), ticker::get);
+  }
+}
@@ -0,0 +1,213 @@
+package com.fortunehub.luckylog.client.gemini;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fortunehub.luckylog.domain.fortune.CalendarType;
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.domain.fortune.GenderType;
+import com.fortunehub.luckylog.domain.fortune.PeriodType;
+import com.fortunehub.luckylog.dto.request.fortune.FortuneRequest;
+import com.google.genai.Caches;
+import com.google.genai.Client;
+import com.google.genai.Pager;
+import com.google.genai.types.CachedContent;
+import com.google.genai.types.CreateCachedContentConfig;
+import com.google.genai.types.GenerateContentConfig;
+import com.google.genai.types.UpdateCachedContentConfig;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// Gemini cachedContent API는 Caches를 stub으로 대체하여 검증
+@ExtendWith(MockitoExtension.class)
+class GeminiPromptCacheTest {
+
+  private static final String MODEL_NAME = "gemini-test";
+  private static final String STATIC_PREFIX = "모든 사용자에게 같은 운세 분석 지시문\n";
+  private static final String PROMPT = STATIC_PREFIX + "[ANALYSIS_YEAR]년 [FORTUNE_TYPES] 운세\n";
+  private static final String CACHE_NAME = "cachedContents/test-cache";
+  private static final Duration TTL = Duration.ofHours(1);
+  private static final Duration REFRESH_BEFORE = Duration.ofMinutes(10);
+  private static final Instant NOW = Instant.parse("2025-03-01T00:00:00Z");
+
+  @Mock
+  private Client client;
+  @Mock
+  private Caches caches;
+
+  private final GenerateContentConfig baseConfig = GenerateContentConfig.builder()
+                                                                        .temperature(0.2f)
+                                                                        .build();
+  private final MutableClock clock = new MutableClock(NOW);
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(client, "caches", caches); // final field
+
+    @SuppressWarnings("unchecked")
+    Pager<CachedContent> emptyPager = mock(Pager.class);
+    lenient().when(emptyPager.iterator()).thenAnswer(invocation -> List.of().iterator());
+    lenient().when(caches.list(any())).thenReturn(emptyPager);
+  }
+
+  @Test
+  @DisplayName("캐시 등록 전에는 전체 프롬프트로 호출하고, 등록 후에는 고정 앞부분을 뺀 나머지만 보낸다")
+  void prepare_whenRegistered_thenSendsOnlyDynamicPart() {
+    // given
+    given(caches.create(eq(MODEL_NAME), any(CreateCachedContentConfig.class)))
+        .willReturn(cachedContent(NOW.plus(TTL)));
+    GeminiPromptCache promptCache = createPromptCache(0);
+    FortuneRequest request = createFortuneRequest();
+
+    // when
+    GeminiPrompt first = promptCache.prepare(request);
+    GeminiPrompt second = promptCache.prepare(request);
+
+    // then
+    assertThat(first.cached()).isFalse();
+    assertThat(first.text()).startsWith(STATIC_PREFIX);
+    assertThat(first.config()).isSameAs(baseConfig);
+
+    assertThat(second.cached()).isTrue();
+    assertThat(second.text()).startsWith("2025년").doesNotContain(STATIC_PREFIX);
+    assertThat(second.config().cachedContent()).hasValue(CACHE_NAME);
+
+    ArgumentCaptor<CreateCachedContentConfig> configCaptor =
+        ArgumentCaptor.forClass(CreateCachedContentConfig.class);
+    verify(caches).create(eq(MODEL_NAME), configCaptor.capture());
+    assertThat(configCaptor.getValue().ttl()).hasValue(TTL);
+    assertThat(configCaptor.getValue().displayName().orElseThrow()).contains("v1", MODEL_NAME);
+  }
+
+  @Test
+  @DisplayName("만료가 다가오면 TTL을 연장한다")
+  void prepare_whenNearExpiry_thenExtendsTtl() {
+    // given
+    given(caches.create(eq(MODEL_NAME), any(CreateCachedContentConfig.class)))
+        .willReturn(cachedContent(NOW.plus(TTL)));
+    given(caches.update(eq(CACHE_NAME), any(UpdateCachedContentConfig.class)))
+        .willReturn(cachedContent(NOW.plus(TTL).plus(TTL)));
+    GeminiPromptCache promptCache = createPromptCache(0);
+    promptCache.prepare(createFortuneRequest());
+
+    // when
+    clock.set(NOW.plus(TTL).minus(REFRESH_BEFORE).plusSeconds(1));
+    GeminiPrompt prompt = promptCache.prepare(createFortuneRequest());
+
+    // then
+    assertThat(prompt.cached()).isTrue();
+    verify(caches).update(eq(CACHE_NAME), any(UpdateCachedContentConfig.class));
+    verify(caches, times(1)).create(anyString(), any(CreateCachedContentConfig.class));
+  }
+
+  @Test
+  @DisplayName("등록에 실패하면 전체 프롬프트로 호출하고, 일정 시간 동안 다시 등록하지 않는다")
+  void prepare_whenCreateFails_thenFallsBackAndBacksOff() {
+    // given
+    given(caches.create(eq(MODEL_NAME), any(CreateCachedContentConfig.class)))
+        .willThrow(new IllegalStateException("cached content too small"));
+    GeminiPromptCache promptCache = createPromptCache(0);
+
+    // when
+    GeminiPrompt first = promptCache.prepare(createFortuneRequest());
+    GeminiPrompt second = promptCache.prepare(createFortuneRequest());
+
+    // then
+    assertThat(first.cached()).isFalse();
+    assertThat(second.cached()).isFalse();
+    verify(caches, times(1)).create(anyString(), any(CreateCachedContentConfig.class));
+  }
+
+  @Test
+  @DisplayName("고정 앞부분이 최소 길이보다 짧으면 캐시를 사용하지 않는다")
+  void prepare_whenPrefixTooShort_thenNeverRegisters() {
+    // given
+    GeminiPromptCache promptCache = createPromptCache(10_000);
+
+    // when
+    GeminiPrompt prompt = promptCache.prepare(createFortuneRequest());
+
+    // then
+    assertThat(prompt.cached()).isFalse();
+    verify(caches, never()).create(anyString(), any(CreateCachedContentConfig.class));
+  }
+
+  private GeminiPromptCache createPromptCache(int minPrefixChars) {
+    return new GeminiPromptCache(
+        client,
+        baseConfig,
+        new FortunePrompt(PROMPT, Map.of(), Map.of()),
+        new FortuneOutputBudget(false, 250, 500, 900, 1.0, 16384),
+        Runnable::run,
+        MODEL_NAME,
+        "v1",
+        true,
+        TTL,
+        REFRESH_BEFORE,
+        Duration.ofMinutes(5),
+        minPrefixChars,
+        clock
+    );
+  }
+
+  private CachedContent cachedContent(Instant expireTime) {
+    return CachedContent.builder()
+                        .name(CACHE_NAME)
+                        .expireTime(expireTime)
+                        .build();
+  }
+
+  private FortuneRequest createFortuneRequest() {
+    return new FortuneRequest(
+        GenderType.FEMALE, CalendarType.SOLAR, 1995, 2, 16, null, null,
+        List.of(FortuneType.LOVE), PeriodType.MONTHLY, 2025, null);
+  }
+
+  private static class MutableClock extends Clock {
+
+    private Instant instant;
+
+    MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    void set(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneId.of("Asia/Seoul");
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
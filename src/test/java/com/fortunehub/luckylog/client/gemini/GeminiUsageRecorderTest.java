@@ -0,0 +1,128 @@
+package com.fortunehub.luckylog.client.gemini;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import com.fortunehub.luckylog.domain.fortune.CalendarType;
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.domain.fortune.GenderType;
+import com.fortunehub.luckylog.domain.fortune.PeriodType;
+import com.fortunehub.luckylog.dto.request.fortune.FortuneRequest;
+import com.google.genai.types.GenerateContentResponseUsageMetadata;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class GeminiUsageRecorderTest {
+
+  private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+  private static final LocalDate TODAY = LocalDate.of(2025, 3, 1);
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+  @Mock
+  private HashOperations<String, String, String> hashOperations;
+
+  private SimpleMeterRegistry meterRegistry;
+  private GeminiUsageRecorder usageRecorder;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    usageRecorder = new GeminiUsageRecorder(
+        meterRegistry,
+        redisTemplate,
+        Duration.ofDays(35),
+        Clock.fixed(LocalDateTime.of(2025, 3, 1, 12, 0).atZone(ZONE).toInstant(), ZONE)
+    );
+  }
+
+  @Test
+  @DisplayName("토큰 수를 모델, 주기, 운세 종류 수 태그로 기록하고 날짜별 합계를 Redis에 누적한다")
+  void record_thenRecordsSummariesAndDailyTotals() {
+    // given
+    GenerateContentResponseUsageMetadata usage = GenerateContentResponseUsageMetadata.builder()
+        .promptTokenCount(120)
+        .candidatesTokenCount(300)
+        .totalTokenCount(420)
+        .build();
+
+    // when
+    usageRecorder.record("gemini-test", createFortuneRequest(), Optional.of(usage), 1500);
+
+    // then
+    DistributionSummary total = meterRegistry.get("gemini.tokens.total")
+                                             .tag("model", "gemini-test")
+                                             .tag("period", "MONTHLY")
+                                             .tag("types", "2")
+                                             .summary();
+    assertThat(total.totalAmount()).isEqualTo(420);
+    assertThat(meterRegistry.get("gemini.tokens.prompt").summary().totalAmount()).isEqualTo(120);
+    assertThat(meterRegistry.get("gemini.generation.latency").timer().count()).isEqualTo(1);
+
+    ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+    verify(redisTemplate).execute(
+        any(RedisScript.class), eq(List.of("gemini:usage:" + TODAY)), argsCaptor.capture());
+    assertThat(argsCaptor.getValue())
+        .containsSubsequence("MONTHLY:2:totalTokens", "420")
+        .containsSubsequence("MONTHLY:2:calls", "1");
+  }
+
+  @Test
+  @DisplayName("사용량 정보가 없으면 0으로 기록한다")
+  void record_whenUsageMissing_thenRecordsZero() {
+    // when
+    usageRecorder.record("gemini-test", createFortuneRequest(), Optional.empty(), 1500);
+
+    // then
+    assertThat(meterRegistry.get("gemini.tokens.total").summary().totalAmount()).isZero();
+  }
+
+  @Test
+  @DisplayName("날짜별 합계를 주기:운세 종류 수 단위로 묶어 조회한다")
+  void dailyUsage_thenGroupsByPeriodAndTypeCount() {
+    // given
+    given(redisTemplate.<String, String>opsForHash()).willReturn(hashOperations);
+    given(hashOperations.entries("gemini:usage:" + TODAY)).willReturn(Map.of(
+        "MONTHLY:2:calls", "3",
+        "MONTHLY:2:totalTokens", "1260",
+        "YEARLY:1:calls", "1"
+    ));
+
+    // when
+    Map<String, Map<String, Long>> usage = usageRecorder.dailyUsage(TODAY);
+
+    // then
+    assertThat(usage.get("MONTHLY:2"))
+        .containsEntry("calls", 3L)
+        .containsEntry("totalTokens", 1260L);
+    assertThat(usage.get("YEARLY:1")).containsEntry("calls", 1L);
+  }
+
+  private FortuneRequest createFortuneRequest() {
+    return new FortuneRequest(
+        GenderType.FEMALE, CalendarType.SOLAR, 1995, 2, 16, null, null,
+        List.of(FortuneType.LOVE, FortuneType.HEALTH), PeriodType.MONTHLY, 2025, null);
+  }
+}
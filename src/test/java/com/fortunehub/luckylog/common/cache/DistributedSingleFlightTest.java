@@ -0,0 +1,147 @@
+package com.fortunehub.luckylog.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class DistributedSingleFlightTest {
+
+  private static final String KEY = "test-key";
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  private SimpleMeterRegistry meterRegistry;
+  private DistributedSingleFlight singleFlight;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    singleFlight = new DistributedSingleFlight(
+        redisTemplate,
+        meterRegistry,
+        Duration.ofSeconds(30),
+        Duration.ofMillis(100),
+        Duration.ofMillis(10)
+    );
+
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+  }
+
+  @Test
+  @DisplayName("lease를 획득하면 리더로서 직접 생성하고 lease를 반납한다")
+  void execute_whenLeaseAcquired_thenLoadsAndReleases() {
+    // given
+    given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .willReturn(true);
+
+    // when
+    String result = singleFlight.execute(KEY, Optional::empty, () -> "generated");
+
+    // then
+    assertThat(result).isEqualTo("generated");
+    verify(redisTemplate).execute(any(RedisScript.class), anyList(), anyString());
+  }
+
+  @Test
+  @DisplayName("리더가 생성하는 동안 lease를 연장하여 생성이 lease-ttl보다 길어져도 만료되지 않는다")
+  void execute_whenLeaderRunsLongerThanLease_thenRenewsLease() {
+    // given
+    DistributedSingleFlight shortLease = new DistributedSingleFlight(
+        redisTemplate, meterRegistry,
+        Duration.ofMillis(30), Duration.ofMillis(100), Duration.ofMillis(10));
+    given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .willReturn(true);
+
+    // when
+    String result = shortLease.execute(KEY, Optional::empty, () -> {
+      sleep(100);
+      return "generated";
+    });
+
+    // then
+    assertThat(result).isEqualTo("generated");
+    ArgumentCaptor<RedisScript<Long>> scripts = ArgumentCaptor.forClass(RedisScript.class);
+    verify(redisTemplate, atLeastOnce()).execute(
+        scripts.capture(), eq(List.of("fortune:inflight:" + KEY)), any(Object[].class));
+    assertThat(scripts.getAllValues())
+        .anySatisfy(script -> assertThat(script.getScriptAsString()).contains("pexpire"));
+  }
+
+  @Test
+  @DisplayName("다른 노드가 생성 중이면 리더의 결과를 기다려 재사용한다")
+  void execute_whenLeaseHeldByOther_thenWaitsForLeaderResult() {
+    // given
+    given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .willReturn(false);
+
+    AtomicInteger lookupCount = new AtomicInteger();
+    AtomicInteger loadCount = new AtomicInteger();
+
+    // when
+    String result = singleFlight.execute(
+        KEY,
+        () -> lookupCount.incrementAndGet() >= 2 ? Optional.of("leader") : Optional.empty(),
+        () -> {
+          loadCount.incrementAndGet();
+          return "generated";
+        });
+
+    // then
+    assertThat(result).isEqualTo("leader");
+    assertThat(loadCount).hasValue(0);
+    assertThat(meterRegistry.counter("fortune.singleflight.deduplicated").count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("리더 결과를 제한 시간 내에 받지 못하면 직접 생성한다")
+  void execute_whenLeaderTimesOut_thenFallsBackToLoader() {
+    // given
+    given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .willReturn(false);
+    given(redisTemplate.hasKey(eq("fortune:inflight:" + KEY))).willReturn(true);
+
+    // when
+    String result = singleFlight.execute(KEY, Optional::empty, () -> "generated");
+
+    // then
+    assertThat(result).isEqualTo("generated");
+    assertThat(meterRegistry.counter("fortune.singleflight.fallback").count())
+        .isEqualTo(1.0);
+    verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), anyString());
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
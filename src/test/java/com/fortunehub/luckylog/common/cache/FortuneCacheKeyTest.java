@@ -0,0 +1,85 @@
+package com.fortunehub.luckylog.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fortunehub.luckylog.domain.fortune.CalendarType;
+import com.fortunehub.luckylog.domain.fortune.CityType;
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.domain.fortune.GenderType;
+import com.fortunehub.luckylog.domain.fortune.PeriodType;
+import com.fortunehub.luckylog.domain.fortune.TimeType;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FortuneCacheKeyTest {
+
+  @Test
+  @DisplayName("운세 종류의 순서와 상관없이 같은 key를 만든다")
+  void of_whenFortuneOrderDiffers_thenSameKey() {
+    // when
+    FortuneCacheKey key = createKey(List.of(FortuneType.LOVE, FortuneType.MONEY), 2025);
+    FortuneCacheKey reversed = createKey(List.of(FortuneType.MONEY, FortuneType.LOVE), 2025);
+
+    // then
+    assertThat(key).isEqualTo(reversed);
+  }
+
+  @Test
+  @DisplayName("출생 시간과 장소가 없으면 모름과 같은 key를 만든다")
+  void of_whenTimeAndCityMissing_thenSameAsUnknown() {
+    // when
+    FortuneCacheKey missing = FortuneCacheKey.of(GenderType.FEMALE, CalendarType.SOLAR,
+        1995, 2, 16, null, null, List.of(FortuneType.LOVE), PeriodType.MONTHLY, 2025);
+    FortuneCacheKey unknown = FortuneCacheKey.of(GenderType.FEMALE, CalendarType.SOLAR,
+        1995, 2, 16, TimeType.UNKNOWN, CityType.UNKNOWN, List.of(FortuneType.LOVE),
+        PeriodType.MONTHLY, 2025);
+
+    // then
+    assertThat(missing).isEqualTo(unknown);
+  }
+
+  @Test
+  @DisplayName("운세 종류 하나로 바꾼 key는 해당 종류로 만든 key와 같다")
+  void withFortune_thenSameAsSingleFortuneKey() {
+    // given
+    FortuneCacheKey key = createKey(List.of(FortuneType.LOVE, FortuneType.MONEY), 2025);
+
+    // when
+    FortuneCacheKey loveKey = key.withFortune(FortuneType.LOVE);
+
+    // then
+    assertThat(loveKey).isEqualTo(createKey(List.of(FortuneType.LOVE), 2025));
+    assertThat(loveKey).isNotEqualTo(key.withFortune(FortuneType.MONEY));
+  }
+
+  @Test
+  @DisplayName("hex 문자열로 변환하고 다시 복원할 수 있으며 결과 연도를 읽을 수 있다")
+  void toHex_thenRestoresSameKey() {
+    // given
+    FortuneCacheKey key = createKey(List.of(FortuneType.HEALTH), 2026);
+
+    // when
+    String hex = key.toHex();
+
+    // then
+    assertThat(hex).hasSize(16);
+    assertThat(FortuneCacheKey.fromHex(hex)).isEqualTo(key);
+    assertThat(key.resultYear()).isEqualTo(2026);
+  }
+
+  @Test
+  @DisplayName("할당된 bit를 넘는 값이면 예외가 발생한다")
+  void of_whenValueOutOfRange_thenThrowsException() {
+    // when & then
+    assertThatThrownBy(() -> FortuneCacheKey.of(GenderType.FEMALE, CalendarType.SOLAR,
+        1995, 2, 32, null, null, List.of(FortuneType.LOVE), PeriodType.MONTHLY, 2025))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private FortuneCacheKey createKey(List<FortuneType> fortunes, int resultYear) {
+    return FortuneCacheKey.of(GenderType.FEMALE, CalendarType.SOLAR, 1995, 2, 16,
+        TimeType.TIME_11_30, CityType.SEOUL, fortunes, PeriodType.MONTHLY, resultYear);
+  }
+}
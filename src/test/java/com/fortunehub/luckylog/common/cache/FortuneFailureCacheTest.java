@@ -0,0 +1,71 @@
+package com.fortunehub.luckylog.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fortunehub.luckylog.domain.fortune.CalendarType;
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.domain.fortune.GenderType;
+import com.fortunehub.luckylog.domain.fortune.PeriodType;
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FortuneFailureCacheTest {
+
+  private static final Duration EMPTY_RESPONSE_TTL = Duration.ofSeconds(30);
+  private static final Duration PARSE_ERROR_TTL = Duration.ofMinutes(1);
+  private static final FortuneCacheKey KEY = FortuneCacheKey.of(
+      GenderType.FEMALE, CalendarType.SOLAR, 1995, 2, 16,
+      null, null, List.of(FortuneType.LOVE), PeriodType.MONTHLY, 2025);
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final FortuneFailureCache failureCache = new FortuneFailureCache(
+      new SimpleMeterRegistry(), EMPTY_RESPONSE_TTL, PARSE_ERROR_TTL, nanos::get);
+
+  @Test
+  @DisplayName("파싱 오류는 설정한 기간 동안 같은 오류로 즉시 실패하고, 기간이 지나면 다시 호출할 수 있다")
+  void throwIfRecentlyFailed_whenParseErrorRecorded_thenFailsUntilTtl() {
+    // given
+    failureCache.record(KEY, new CustomException(ErrorCode.GEMINI_RESPONSE_PARSE_ERROR));
+
+    // when & then
+    nanos.addAndGet(EMPTY_RESPONSE_TTL.plusSeconds(1).toNanos());
+    assertThatThrownBy(() -> failureCache.throwIfRecentlyFailed(KEY))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(ErrorCode.GEMINI_RESPONSE_PARSE_ERROR.getMessage());
+
+    nanos.addAndGet(PARSE_ERROR_TTL.toNanos());
+    assertThatCode(() -> failureCache.throwIfRecentlyFailed(KEY)).doesNotThrowAnyException();
+  }
+
+  @Test
+  @DisplayName("빈 응답은 빈 응답 기간만큼만 기억한다")
+  void throwIfRecentlyFailed_whenEmptyResponseRecorded_thenUsesItsOwnTtl() {
+    // given
+    failureCache.record(KEY, new CustomException(ErrorCode.GEMINI_EMPTY_RESPONSE));
+
+    // when & then
+    assertThatThrownBy(() -> failureCache.throwIfRecentlyFailed(KEY))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(ErrorCode.GEMINI_EMPTY_RESPONSE.getMessage());
+
+    nanos.addAndGet(EMPTY_RESPONSE_TTL.plusSeconds(1).toNanos());
+    assertThatCode(() -> failureCache.throwIfRecentlyFailed(KEY)).doesNotThrowAnyException();
+  }
+
+  @Test
+  @DisplayName("과부하 등 일시적인 오류는 기억하지 않는다")
+  void record_whenTransientError_thenIgnores() {
+    // given
+    failureCache.record(KEY, new CustomException(ErrorCode.GEMINI_OVERLOAD));
+
+    // when & then
+    assertThatCode(() -> failureCache.throwIfRecentlyFailed(KEY)).doesNotThrowAnyException();
+  }
+}
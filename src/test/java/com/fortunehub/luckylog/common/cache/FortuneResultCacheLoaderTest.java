@@ -0,0 +1,107 @@
+package com.fortunehub.luckylog.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fortunehub.luckylog.domain.fortune.CalendarType;
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.domain.fortune.GenderType;
+import com.fortunehub.luckylog.domain.fortune.PeriodType;
+import com.fortunehub.luckylog.domain.fortune.PeriodValue;
+import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FortuneResultCacheLoaderTest {
+
+  private static final Duration REFRESH_AFTER = Duration.ofDays(6);
+  private static final FortuneCacheKey KEY = FortuneCacheKey.of(
+      GenderType.FEMALE, CalendarType.SOLAR, 1995, 2, 16,
+      null, null, List.of(FortuneType.LOVE), PeriodType.MONTHLY, 2025);
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final FortuneResultRefresher refresher = mock(FortuneResultRefresher.class);
+  private final FortuneResultMappedStore mappedStore = mock(FortuneResultMappedStore.class);
+
+  private LoadingCache<FortuneCacheKey, byte[]> cache;
+
+  @BeforeEach
+  void setUp() {
+    cache = Caffeine.newBuilder()
+                    .refreshAfterWrite(REFRESH_AFTER)
+                    .ticker(nanos::get)
+                    .executor(Runnable::run)
+                    .build(new FortuneResultCacheLoader(
+                        () -> refresher, mappedStore, Runnable::run));
+
+    cache.put(KEY, FortuneResultCodec.encode(List.of(createFortuneResponse("기존 연애운"))));
+  }
+
+  @Test
+  @DisplayName("갱신 시점이 지나면 기존 값을 반환하고 새 결과로 교체한다")
+  void getIfPresent_whenRefreshDue_thenReturnsOldValueAndRefreshes() {
+    // given
+    given(refresher.refresh(KEY)).willReturn(List.of(createFortuneResponse("새 연애운")));
+    nanos.addAndGet(REFRESH_AFTER.plusSeconds(1).toNanos());
+
+    // when
+    byte[] served = cache.getIfPresent(KEY);
+
+    // then
+    assertThat(result(served)).isEqualTo("기존 연애운");
+    assertThat(result(cache.getIfPresent(KEY))).isEqualTo("새 연애운");
+    verify(mappedStore).put(eq(KEY), any());
+  }
+
+  @Test
+  @DisplayName("갱신에 실패하면 기존 값을 유지한다")
+  void getIfPresent_whenRefreshFails_thenKeepsOldValue() {
+    // given
+    given(refresher.refresh(KEY)).willThrow(new CustomException(ErrorCode.GEMINI_OVERLOAD));
+    nanos.addAndGet(REFRESH_AFTER.plusSeconds(1).toNanos());
+
+    // when
+    cache.getIfPresent(KEY);
+
+    // then
+    assertThat(result(cache.getIfPresent(KEY))).isEqualTo("기존 연애운");
+  }
+
+  @Test
+  @DisplayName("갱신 시점 전에는 갱신하지 않는다")
+  void getIfPresent_whenRefreshNotDue_thenDoesNotRefresh() {
+    // given
+    nanos.addAndGet(REFRESH_AFTER.minusSeconds(1).toNanos());
+
+    // when
+    cache.getIfPresent(KEY);
+
+    // then
+    verify(refresher, never()).refresh(KEY);
+  }
+
+  private String result(byte[] encoded) {
+    return FortuneResultCodec.decode(encoded).get(0).getResult();
+  }
+
+  private FortuneResponse createFortuneResponse(String result) {
+    FortuneResponse response = new FortuneResponse();
+    response.setFortune(FortuneType.LOVE);
+    response.setPeriodValue(PeriodValue.JANUARY);
+    response.setResult(result);
+    return response;
+  }
+}
@@ -0,0 +1,69 @@
+package com.fortunehub.luckylog.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.tuple;
+
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.domain.fortune.PeriodValue;
+import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FortuneResultCodecTest {
+
+  @Test
+  @DisplayName("압축한 결과를 복원하면 원래 결과와 같다")
+  void decode_whenEncoded_thenRestoresResponses() {
+    // given
+    List<FortuneResponse> responses = List.of(
+        createFortuneResponse(FortuneType.LOVE, PeriodValue.JANUARY, "연애운 좋음\n새로운 만남"),
+        createFortuneResponse(FortuneType.HEALTH, PeriodValue.DECEMBER, "건강운 변화"),
+        createFortuneResponse(null, null, null)
+    );
+
+    // when
+    List<FortuneResponse> decoded = FortuneResultCodec.decode(FortuneResultCodec.encode(responses));
+
+    // then
+    assertThat(decoded)
+        .extracting(FortuneResponse::getFortune, FortuneResponse::getPeriodValue,
+            FortuneResponse::getResult)
+        .containsExactly(
+            tuple(FortuneType.LOVE, PeriodValue.JANUARY, "연애운 좋음\n새로운 만남"),
+            tuple(FortuneType.HEALTH, PeriodValue.DECEMBER, "건강운 변화"),
+            tuple(null, null, null)
+        );
+  }
+
+  @Test
+  @DisplayName("월별 결과처럼 반복되는 내용은 UTF-8 원문보다 작게 저장된다")
+  void encode_whenManyResponses_thenSmallerThanText() {
+    // given
+    List<FortuneResponse> responses = new ArrayList<>();
+    int textBytes = 0;
+    for (PeriodValue month : List.of(PeriodValue.values()).subList(0, 12)) {
+      String result = month.getDisplayName() + "에는 재물운이 상승하니 계획적인 소비가 필요합니다.";
+      responses.add(createFortuneResponse(FortuneType.MONEY, month, result));
+      textBytes += result.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    // when
+    byte[] encoded = FortuneResultCodec.encode(responses);
+
+    // then
+    assertThat(encoded.length).isLessThan(textBytes);
+    assertThat(FortuneResultCodec.decode(encoded)).hasSize(12);
+  }
+
+  private FortuneResponse createFortuneResponse(
+      FortuneType fortune, PeriodValue periodValue, String result) {
+    FortuneResponse response = new FortuneResponse();
+    response.setFortune(fortune);
+    response.setPeriodValue(periodValue);
+    response.setResult(result);
+    return response;
+  }
+}
@@ -0,0 +1,177 @@
+package com.fortunehub.luckylog.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fortunehub.luckylog.domain.fortune.CalendarType;
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.domain.fortune.GenderType;
+import com.fortunehub.luckylog.domain.fortune.PeriodType;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FortuneResultMappedStoreTest {
+
+  private static final long FILE_SIZE = 64 * 1024;
+  private static final int SLOT_COUNT = 64;
+  private static final int DATA_START = 32 + SLOT_COUNT * 16; // header + index
+  private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+  private static final Clock IN_RESULT_YEAR = Clock.fixed(
+      Instant.parse("2025-06-01T00:00:00Z"), ZONE);
+
+  @TempDir
+  private Path tempDir;
+
+  @Test
+  @DisplayName("저장한 값을 key로 조회하고, 같은 key로 다시 저장하면 새 값으로 바뀐다")
+  void put_thenGetReturnsLatestValue() {
+    // given
+    FortuneResultMappedStore store = open();
+
+    // when
+    store.put(key(1), bytes("first"));
+    store.put(key(2), bytes("second"));
+    store.put(key(1), bytes("updated"));
+
+    // then
+    assertThat(store.get(key(1)))
+        .hasValueSatisfying(value -> assertThat(value).isEqualTo(bytes("updated")));
+    assertThat(store.get(key(2)))
+        .hasValueSatisfying(value -> assertThat(value).isEqualTo(bytes("second")));
+    assertThat(store.get(key(3))).isEmpty();
+    assertThat(store.size()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("파일을 다시 열어도 저장된 값이 유지된다")
+  void open_whenReopened_thenKeepsValues() {
+    // given
+    FortuneResultMappedStore store = open();
+    store.put(key(1), bytes("persisted"));
+    store.close();
+
+    // when
+    FortuneResultMappedStore reopened = open();
+
+    // then
+    assertThat(reopened.get(key(1)))
+        .hasValueSatisfying(value -> assertThat(value).isEqualTo(bytes("persisted")));
+  }
+
+  @Test
+  @DisplayName("content-version이 바뀐 뒤 파일을 다시 열면 이전 값을 버린다")
+  void open_whenContentVersionChanged_thenDiscardsValues() {
+    // given
+    FortuneResultMappedStore store = open("v1");
+    store.put(key(1), bytes("old-prompt"));
+    store.close();
+
+    // when
+    FortuneResultMappedStore reopened = open("v2");
+
+    // then
+    assertThat(reopened.get(key(1))).isEmpty();
+    assertThat(reopened.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("저장 공간이 가득 차면 비우고 새 값을 저장한다")
+  void put_whenFull_thenResetsAndStores() {
+    // given
+    FortuneResultMappedStore store = open();
+    int maxEntries = (int) (SLOT_COUNT * 0.75);
+    for (int i = 0; i < maxEntries; i++) {
+      store.put(key(i), bytes("value-" + i));
+    }
+
+    // when
+    store.put(key(maxEntries), bytes("new-value"));
+
+    // then
+    assertThat(store.size()).isEqualTo(1);
+    assertThat(store.get(key(0))).isEmpty();
+    assertThat(store.get(key(maxEntries))).isPresent();
+  }
+
+  @Test
+  @DisplayName("레코드의 길이가 data 영역을 벗어나면 손상된 레코드로 보고 지운 뒤 다시 저장할 수 있다")
+  void get_whenRecordCorrupted_thenMissesAndClears() throws IOException {
+    // given
+    FortuneResultMappedStore store = open();
+    store.put(key(1), bytes("value"));
+    store.close();
+
+    try (RandomAccessFile file = new RandomAccessFile(
+        tempDir.resolve("cache.dat").toFile(), "rw")) {
+      file.seek(DATA_START); // 첫 레코드의 길이
+      file.writeInt(Integer.MAX_VALUE);
+    }
+
+    // when
+    FortuneResultMappedStore reopened = open();
+
+    // then
+    assertThat(reopened.get(key(1))).isEmpty();
+
+    reopened.put(key(1), bytes("stored-again"));
+    assertThat(reopened.get(key(1)))
+        .hasValueSatisfying(value -> assertThat(value).isEqualTo(bytes("stored-again")));
+    assertThat(reopened.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("결과 연도가 끝난 값은 조회되지 않는다")
+  void get_whenResultYearEnded_thenMisses() {
+    // given
+    FortuneResultMappedStore store = open();
+    store.put(key(1), bytes("value"));
+    store.close();
+
+    // when
+    FortuneResultMappedStore nextYear = FortuneResultMappedStore.open(
+        tempDir.resolve("cache.dat"), FILE_SIZE, SLOT_COUNT, "v1",
+        Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZONE)); // 2026-01-01 09:00 KST
+
+    // then
+    assertThat(nextYear.get(key(1))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("사용하지 않도록 설정하면 저장하지 않는다")
+  void disabled_thenStoresNothing() {
+    // given
+    FortuneResultMappedStore store = FortuneResultMappedStore.disabled();
+
+    // when
+    store.put(key(1), bytes("value"));
+
+    // then
+    assertThat(store.get(key(1))).isEmpty();
+  }
+
+  private FortuneResultMappedStore open() {
+    return open("v1");
+  }
+
+  private FortuneResultMappedStore open(String contentVersion) {
+    return FortuneResultMappedStore.open(
+        tempDir.resolve("cache.dat"), FILE_SIZE, SLOT_COUNT, contentVersion, IN_RESULT_YEAR);
+  }
+
+  private FortuneCacheKey key(int index) {
+    return FortuneCacheKey.of(GenderType.FEMALE, CalendarType.SOLAR, 1940 + index, 2, 16,
+        null, null, List.of(FortuneType.LOVE), PeriodType.MONTHLY, 2025);
+  }
+
+  private byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,105 @@
+package com.fortunehub.luckylog.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fortunehub.luckylog.domain.fortune.CalendarType;
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.domain.fortune.GenderType;
+import com.fortunehub.luckylog.domain.fortune.PeriodType;
+import com.fortunehub.luckylog.domain.fortune.PeriodValue;
+import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+class FortuneResultRedisCacheTest {
+
+  private static final FortuneCacheKey KEY = FortuneCacheKey.of(
+      GenderType.FEMALE, CalendarType.SOLAR, 1995, 2, 16,
+      null, null, List.of(FortuneType.LOVE), PeriodType.MONTHLY, 2025);
+  private static final Duration STALE_TTL = Duration.ofDays(30);
+  private static final Instant STORED_AT = Instant.parse("2025-01-01T00:00:00Z");
+  private static final Instant YEAR_END = Instant.parse("2025-12-31T15:00:00Z"); // 2026-01-01 00:00 KST
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private String storedJson;
+
+  @BeforeEach
+  void setUp() {
+    given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+    // 저장 시점의 값을 캡처해 조회 결과로 사용
+    createCache(STORED_AT).put(KEY, List.of(createFortuneResponse()));
+
+    ArgumentCaptor<String> jsonCaptor = ArgumentCaptor.forClass(String.class);
+    verify(valueOperations).set(eq("fortune:result:v1:" + KEY.toHex()), jsonCaptor.capture(),
+        eq(Duration.between(STORED_AT, YEAR_END).plus(STALE_TTL)));
+    storedJson = jsonCaptor.getValue();
+
+    given(valueOperations.get(anyString())).willReturn(storedJson);
+  }
+
+  @Test
+  @DisplayName("결과 연도 안에서는 저장된 지 오래된 결과도 일반 조회로 반환된다")
+  void get_whenWithinResultYear_thenReturnsResult() {
+    // given
+    FortuneResultRedisCache cache = createCache(STORED_AT.plus(Duration.ofDays(200)));
+
+    // when & then
+    assertThat(cache.get(KEY))
+        .hasValueSatisfying(responses -> assertThat(responses)
+            .extracting(FortuneResponse::getResult)
+            .containsExactly("연애운 좋음"));
+  }
+
+  @Test
+  @DisplayName("결과 연도가 끝난 결과는 일반 조회에서 제외되지만 stale 조회로는 반환된다")
+  void get_whenResultYearEnded_thenOnlyStaleReturnsResult() {
+    // given
+    FortuneResultRedisCache cache = createCache(YEAR_END.plus(Duration.ofDays(1)));
+
+    // when & then
+    assertThat(cache.get(KEY)).isEmpty();
+    assertThat(cache.getStale(KEY)).isPresent();
+  }
+
+  private FortuneResultRedisCache createCache(Instant now) {
+    return new FortuneResultRedisCache(
+        redisTemplate,
+        objectMapper,
+        STALE_TTL,
+        "v1",
+        Clock.fixed(now, ZoneId.of("Asia/Seoul"))
+    );
+  }
+
+  private FortuneResponse createFortuneResponse() {
+    FortuneResponse response = new FortuneResponse();
+    response.setFortune(FortuneType.LOVE);
+    response.setPeriodValue(PeriodValue.JANUARY);
+    response.setResult("연애운 좋음");
+    return response;
+  }
+}
@@ -0,0 +1,48 @@
+package com.fortunehub.luckylog.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fortunehub.luckylog.domain.fortune.CalendarType;
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.domain.fortune.GenderType;
+import com.fortunehub.luckylog.domain.fortune.PeriodType;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ResultYearExpiryTest {
+
+  private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+  private final ResultYearExpiry<List<String>> expiry = new ResultYearExpiry<>(
+      Clock.fixed(LocalDateTime.of(2025, 12, 31, 0, 0).atZone(ZONE).toInstant(), ZONE));
+
+  @Test
+  @DisplayName("결과 연도가 끝나는 시점까지 보관한다")
+  void expireAfterCreate_thenExpiresAtEndOfResultYear() {
+    // when
+    long nanos = expiry.expireAfterCreate(key(2025), List.of(), 0);
+
+    // then
+    assertThat(nanos).isEqualTo(Duration.ofDays(1).toNanos());
+  }
+
+  @Test
+  @DisplayName("이미 지난 연도의 결과는 바로 만료된다")
+  void expireAfterCreate_whenResultYearPassed_thenExpiresImmediately() {
+    // when
+    long nanos = expiry.expireAfterCreate(key(2024), List.of(), 0);
+
+    // then
+    assertThat(nanos).isZero();
+  }
+
+  private FortuneCacheKey key(int resultYear) {
+    return FortuneCacheKey.of(GenderType.FEMALE, CalendarType.SOLAR, 1995, 2, 16,
+        null, null, List.of(FortuneType.LOVE), PeriodType.MONTHLY, resultYear);
+  }
+}
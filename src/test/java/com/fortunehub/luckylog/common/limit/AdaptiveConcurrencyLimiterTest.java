@@ -0,0 +1,174 @@
+package com.fortunehub.luckylog.common.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+  private final AtomicLong ticker = new AtomicLong();
+
+  private SimpleMeterRegistry meterRegistry;
+  private AdaptiveConcurrencyLimiter limiter;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    limiter = new AdaptiveConcurrencyLimiter(
+        "test.limiter",
+        meterRegistry,
+        e -> e instanceof CustomException ce && ce.getErrorCode() == ErrorCode.GEMINI_OVERLOAD,
+        10,
+        2,
+        20,
+        0.5,
+        2.0,
+        100,
+        ticker::get
+    );
+  }
+
+  @Test
+  @DisplayName("과부하 오류가 발생하면 동시 호출 한도가 줄어든다")
+  void execute_whenOverloaded_thenDecreasesLimit() {
+    // when
+    assertThatThrownBy(() -> limiter.execute(RequestPriority.AUTHENTICATED_WEB, () -> {
+      throw new CustomException(ErrorCode.GEMINI_OVERLOAD);
+    })).isInstanceOf(CustomException.class);
+
+    // then
+    assertThat(limiter.getLimit()).isEqualTo(5.0);
+    assertThat(limiter.getInFlight()).isZero();
+  }
+
+  @Test
+  @DisplayName("한도가 최소값보다 작아지지 않는다")
+  void execute_whenOverloadedRepeatedly_thenKeepsMinLimit() {
+    // when
+    for (int i = 0; i < 5; i++) {
+      try {
+        limiter.execute(RequestPriority.AUTHENTICATED_WEB, () -> {
+          throw new CustomException(ErrorCode.GEMINI_OVERLOAD);
+        });
+      } catch (CustomException ignored) {
+        // 과부하 응답 반복
+      }
+    }
+
+    // then
+    assertThat(limiter.getLimit()).isEqualTo(2.0);
+  }
+
+  @Test
+  @DisplayName("최근 응답이 평소 지연의 허용 배수보다 느려지면 한도가 줄어든다")
+  void execute_whenLatencyRisesAboveBaseline_thenDecreasesLimit() {
+    // given: 평소 지연 1초
+    callTaking(Duration.ofSeconds(1), 50);
+
+    // when: 5초로 느려짐
+    callTaking(Duration.ofSeconds(5), 10);
+
+    // then
+    assertThat(limiter.getLimit()).isLessThan(10.0).isGreaterThanOrEqualTo(2.0);
+    assertThat(limiter.getInFlight()).isZero();
+  }
+
+  @Test
+  @DisplayName("응답이 오래 걸려도 평소와 같은 수준이면 한도를 줄이지 않는다")
+  void execute_whenLatencyStaysAtBaseline_thenKeepsLimit() {
+    // when: 분량이 많은 요청처럼 매번 30초가 걸림
+    callTaking(Duration.ofSeconds(30), 50);
+
+    // then
+    assertThat(limiter.getLimit()).isEqualTo(10.0);
+  }
+
+  @Test
+  @DisplayName("한도에 가까워지면 외부 API 요청부터 즉시 거절하고 로그인 사용자 요청은 허용한다")
+  void execute_whenNearLimit_thenShedsLowPriorityFirst() {
+    // given
+    AtomicReference<Throwable> externalResult = new AtomicReference<>();
+    AtomicReference<String> authenticatedResult = new AtomicReference<>();
+
+    // when: 동시 호출 6개 진행 중 (외부 API 허용량 10 * 0.6 = 6 도달)
+    occupy(6, () -> {
+      try {
+        limiter.execute(RequestPriority.EXTERNAL_API, () -> "external");
+      } catch (CustomException e) {
+        externalResult.set(e);
+      }
+      authenticatedResult.set(limiter.execute(RequestPriority.AUTHENTICATED_WEB, () -> "web"));
+    });
+
+    // then
+    assertThat(externalResult.get())
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(ErrorCode.GEMINI_CONCURRENCY_LIMITED.getMessage());
+    assertThat(authenticatedResult.get()).isEqualTo("web");
+    assertThat(meterRegistry.counter("test.limiter.rejected", "priority", "EXTERNAL_API").count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("추가 호출은 한도에 도달하면 거절 기록 없이 호출하지 않는다")
+  void tryExecute_whenAtLimit_thenSkipsWithoutRejection() {
+    // given
+    AtomicReference<Optional<String>> hedgeResult = new AtomicReference<>();
+    AtomicInteger calls = new AtomicInteger();
+
+    // when: 외부 API 허용량 6 도달
+    occupy(6, () -> hedgeResult.set(limiter.tryExecute(RequestPriority.EXTERNAL_API, () -> {
+      calls.incrementAndGet();
+      return Optional.of("hedged");
+    })));
+
+    // then
+    assertThat(hedgeResult.get()).isEmpty();
+    assertThat(calls).hasValue(0);
+    assertThat(meterRegistry.counter("test.limiter.rejected", "priority", "EXTERNAL_API").count())
+        .isZero();
+  }
+
+  @Test
+  @DisplayName("추가 호출이 실제로 호출하지 않으면 슬롯만 반납하고 한도는 그대로 둔다")
+  void tryExecute_whenNotCalled_thenReleasesSlotOnly() {
+    // when
+    Optional<String> result = limiter.tryExecute(
+        RequestPriority.AUTHENTICATED_WEB, Optional::empty);
+
+    // then
+    assertThat(result).isEmpty();
+    assertThat(limiter.getInFlight()).isZero();
+    assertThat(limiter.getLimit()).isEqualTo(10.0);
+  }
+
+  private void callTaking(Duration latency, int count) {
+    for (int i = 0; i < count; i++) {
+      limiter.execute(RequestPriority.AUTHENTICATED_WEB,
+          () -> ticker.addAndGet(latency.toNanos()));
+    }
+  }
+
+  // 호출이 끝나지 않은 상태를 중첩 호출로 재현
+  private void occupy(int count, Runnable action) {
+    if (count == 0) {
+      action.run();
+      return;
+    }
+    limiter.execute(RequestPriority.AUTHENTICATED_WEB, () -> {
+      occupy(count - 1, action);
+      return null;
+    });
+  }
+}
@@ -0,0 +1,101 @@
+package com.fortunehub.luckylog.common.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.fortunehub.luckylog.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class ClientRateLimiterTest {
+
+  private static final String CLIENT = "203.0.113.7";
+
+  private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicLong ticker = new AtomicLong();
+
+  @Test
+  @DisplayName("burst를 모두 쓰면 거절하고, 1개가 채워질 때까지 남은 시간을 Retry-After로 알려준다")
+  void check_whenBurstExhausted_thenRejectsWithRetryAfter() {
+    // given
+    ClientRateLimiter limiter = createLimiter("local"); // 분당 6개 → 10초에 1개
+
+    limiter.check(CLIENT);
+    limiter.check(CLIENT);
+    ticker.addAndGet(Duration.ofMillis(2_500).toNanos());
+
+    // when & then
+    assertThatThrownBy(() -> limiter.check(CLIENT))
+        .isInstanceOfSatisfying(RateLimitExceededException.class,
+            e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(8));
+    assertThat(meterRegistry.get("external.ratelimit.decisions")
+                            .tag("result", "rejected").counter().count()).isEqualTo(1);
+
+    ticker.addAndGet(Duration.ofSeconds(8).toNanos());
+    assertThatCode(() -> limiter.check(CLIENT)).doesNotThrowAnyException();
+  }
+
+  @Test
+  @DisplayName("client마다 별도의 bucket을 사용한다")
+  void check_thenLimitsEachClientSeparately() {
+    // given
+    ClientRateLimiter limiter = createLimiter("local");
+    limiter.check(CLIENT);
+    limiter.check(CLIENT);
+
+    // when & then
+    assertThatCode(() -> limiter.check("198.51.100.1")).doesNotThrowAnyException();
+    assertThat(meterRegistry.get("external.ratelimit.decisions")
+                            .tag("result", "allowed").counter().count()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("redis backend는 Redis가 알려준 대기 시간으로 Retry-After를 계산한다")
+  void check_whenRedisBackend_thenUsesSharedBucket() {
+    // given
+    ClientRateLimiter limiter = createLimiter("redis");
+    given(redisTemplate.execute(
+        any(RedisScript.class), eq(List.of("ratelimit:external:" + CLIENT)), any(Object[].class)))
+        .willReturn(1_200L);
+
+    // when & then
+    assertThatThrownBy(() -> limiter.check(CLIENT))
+        .isInstanceOfSatisfying(RateLimitExceededException.class,
+            e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(2));
+  }
+
+  @Test
+  @DisplayName("Redis 장애 시에는 노드별 bucket으로 판단한다")
+  void check_whenRedisFails_thenFallsBackToLocalBucket() {
+    // given
+    ClientRateLimiter limiter = createLimiter("redis");
+    given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+        .willThrow(new RedisConnectionFailureException("connection refused"));
+
+    limiter.check(CLIENT);
+    limiter.check(CLIENT);
+
+    // when & then
+    assertThatThrownBy(() -> limiter.check(CLIENT))
+        .isInstanceOf(RateLimitExceededException.class);
+  }
+
+  private ClientRateLimiter createLimiter(String backend) {
+    return new ClientRateLimiter(
+        redisTemplate, meterRegistry, true, 6, 2, backend, 1_000, ticker::get);
+  }
+}
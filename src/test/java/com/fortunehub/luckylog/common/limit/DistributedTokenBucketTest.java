@@ -0,0 +1,137 @@
+package com.fortunehub.luckylog.common.limit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class DistributedTokenBucketTest {
+
+  private static final String KEY = "gemini:quota:test-model";
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+
+  private SimpleMeterRegistry meterRegistry;
+  private DistributedTokenBucket bucket;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    // 분당 60,000 * 0.5 → ms당 0.5, 10초 동안 5,000까지 모아둠
+    bucket = createBucket(60_000);
+  }
+
+  @Test
+  @DisplayName("잔량이 채워질 때까지 Redis가 알려준 시간만큼 기다린 뒤 통과한다")
+  void acquire_whenReserved_thenWaitsUntilRefilled() {
+    // given
+    given(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), any(Object[].class)))
+        .willReturn(50L);
+
+    // when
+    long start = System.nanoTime();
+    bucket.acquire(1_000);
+
+    // then
+    assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(Duration.ofMillis(50).toNanos());
+    assertThat(meterRegistry.get("gemini.quota.wait").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("최대 잔량보다 큰 요청은 최대 잔량만큼만 차감한다")
+  void acquire_whenCostExceedsCapacity_thenCapsCost() {
+    // given
+    given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+        .willReturn(0L);
+
+    // when
+    bucket.acquire(20_000);
+
+    // then
+    ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+    verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), argsCaptor.capture());
+    assertThat(argsCaptor.getValue()).containsExactly("0.5", "5000", "5000", "1000");
+  }
+
+  @Test
+  @DisplayName("최대 대기 시간 안에 채워지지 않으면 기다리지 않고 거절한다")
+  void acquire_whenWaitExceedsMaxWait_thenRejects() {
+    // given
+    given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+        .willReturn(-1L);
+
+    // when & then
+    assertThatThrownBy(() -> bucket.acquire(1_000))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(ErrorCode.GEMINI_QUOTA_EXHAUSTED.getMessage());
+    assertThat(meterRegistry.get("gemini.quota.rejected").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("tryAcquire는 잔량이 부족하면 기다리지 않고 차감 없이 false를 반환한다")
+  void tryAcquire_whenNotEnoughTokens_thenReturnsFalseWithoutWaiting() {
+    // given
+    given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+        .willReturn(-1L);
+
+    // when
+    boolean acquired = bucket.tryAcquire(1_000);
+
+    // then
+    ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+    verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), argsCaptor.capture());
+    assertThat(argsCaptor.getValue()).containsExactly("0.5", "5000", "1000", "0");
+    assertThat(acquired).isFalse();
+    assertThat(meterRegistry.get("gemini.quota.skipped").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Redis 장애 시에는 제한 없이 통과한다")
+  void acquire_whenRedisFails_thenPasses() {
+    // given
+    given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+        .willThrow(new RedisConnectionFailureException("connection refused"));
+
+    // when & then
+    assertThatCode(() -> bucket.acquire(1_000)).doesNotThrowAnyException();
+  }
+
+  @Test
+  @DisplayName("분당 한도가 0이면 Redis를 호출하지 않는다")
+  void acquire_whenDisabled_thenSkipsRedis() {
+    // when
+    createBucket(0).acquire(1_000);
+
+    // then
+    verifyNoInteractions(redisTemplate);
+  }
+
+  private DistributedTokenBucket createBucket(long tokensPerMinute) {
+    return new DistributedTokenBucket(
+        "gemini.quota", KEY, redisTemplate, meterRegistry, tokensPerMinute, 0.5,
+        Duration.ofSeconds(10), Duration.ofSeconds(1));
+  }
+}
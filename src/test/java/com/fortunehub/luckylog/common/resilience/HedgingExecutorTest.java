@@ -0,0 +1,196 @@
+package com.fortunehub.luckylog.common.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HedgingExecutorTest {
+
+  private ExecutorService executor;
+  private SimpleMeterRegistry meterRegistry;
+  private CountDownLatch slowCallLatch;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newCachedThreadPool();
+    meterRegistry = new SimpleMeterRegistry();
+    slowCallLatch = new CountDownLatch(1);
+  }
+
+  @AfterEach
+  void tearDown() {
+    slowCallLatch.countDown();
+    executor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("p95 지연 시간 안에 응답이 없으면 헤징 요청을 보내고 먼저 도착한 결과를 사용한다")
+  void execute_whenPrimaryIsSlow_thenUsesHedgedResult() {
+    // given
+    HedgingExecutor hedgingExecutor = createHedgingExecutor(1.0);
+    hedgingExecutor.execute(() -> "warm-up"); // 지연 시간 표본 수집
+
+    AtomicInteger calls = new AtomicInteger();
+
+    // when
+    String result = hedgingExecutor.execute(() -> {
+      if (calls.incrementAndGet() == 1) {
+        awaitSlowCall();
+        return "primary";
+      }
+      return "hedged";
+    });
+
+    // then
+    assertThat(result).isEqualTo("hedged");
+    assertThat(meterRegistry.counter("test.hedge.fired").count()).isEqualTo(1.0);
+    assertThat(meterRegistry.counter("test.hedge.won").count()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("헤징 예산이 없으면 추가 요청 없이 원래 요청의 결과를 기다린다")
+  void execute_whenBudgetExhausted_thenWaitsForPrimary() {
+    // given
+    HedgingExecutor hedgingExecutor = createHedgingExecutor(0.0);
+    hedgingExecutor.execute(() -> "warm-up");
+
+    AtomicInteger calls = new AtomicInteger();
+
+    // when
+    String result = hedgingExecutor.execute(() -> {
+      calls.incrementAndGet();
+      sleep(100);
+      return "primary";
+    });
+
+    // then
+    assertThat(result).isEqualTo("primary");
+    assertThat(calls).hasValue(1);
+    assertThat(meterRegistry.counter("test.hedge.skipped").count()).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("헤징 요청이 허용되지 않으면(사용 한도 부족 등) 추가 요청 없이 원래 요청의 결과를 기다린다")
+  void execute_whenHedgeNotPermitted_thenWaitsForPrimary() {
+    // given
+    HedgingExecutor hedgingExecutor = createHedgingExecutor(1.0);
+    hedgingExecutor.execute(() -> "warm-up");
+
+    AtomicInteger calls = new AtomicInteger();
+    AtomicInteger permits = new AtomicInteger();
+
+    // when
+    String result = hedgingExecutor.execute(() -> {
+      calls.incrementAndGet();
+      sleep(100);
+      return "primary";
+    }, () -> {
+      permits.incrementAndGet();
+      return Optional.empty();
+    });
+
+    // then
+    assertThat(result).isEqualTo("primary");
+    assertThat(calls).hasValue(1);
+    assertThat(permits).hasValue(1);
+    assertThat(meterRegistry.counter("test.hedge.skipped").count()).isEqualTo(1.0);
+    assertThat(meterRegistry.counter("test.hedge.fired").count()).isZero();
+  }
+
+  @Test
+  @DisplayName("지연 시간 표본이 부족해 헤징하지 않으면 다른 스레드로 넘기지 않고 바로 호출한다")
+  void execute_whenNotEnoughSamples_thenCallsOnCallerThread() {
+    // given
+    HedgingExecutor hedgingExecutor = createHedgingExecutor(1.0);
+    Thread caller = Thread.currentThread();
+
+    // when
+    Thread calledOn = hedgingExecutor.execute(Thread::currentThread);
+
+    // then
+    assertThat(calledOn).isSameAs(caller);
+  }
+
+  @Test
+  @DisplayName("원래 요청이 실패해도 헤징 요청이 남아 있으면 그 결과를 사용한다")
+  void execute_whenPrimaryFailsAfterHedge_thenUsesHedgedResult() {
+    // given
+    HedgingExecutor hedgingExecutor = createHedgingExecutor(1.0);
+    hedgingExecutor.execute(() -> "warm-up");
+
+    // when
+    String result = hedgingExecutor.execute(() -> {
+      sleep(100);
+      throw new IllegalStateException("primary failed");
+    }, () -> {
+      sleep(200);
+      return Optional.of("hedged");
+    });
+
+    // then
+    assertThat(result).isEqualTo("hedged");
+  }
+
+  @Test
+  @DisplayName("결과를 기다리는 중 인터럽트되면 CustomException이 발생한다")
+  void execute_whenInterrupted_thenThrowsCustomException() {
+    // given
+    HedgingExecutor hedgingExecutor = createHedgingExecutor(0.0);
+    hedgingExecutor.execute(() -> "warm-up");
+    Thread.currentThread().interrupt();
+
+    // when & then
+    try {
+      assertThatThrownBy(() -> hedgingExecutor.execute(() -> {
+        awaitSlowCall();
+        return "primary";
+      }))
+          .isInstanceOf(CustomException.class)
+          .hasMessageContaining(ErrorCode.GEMINI_UNKNOWN_ERROR.getMessage());
+    } finally {
+      Thread.interrupted(); // 다른 테스트에 영향을 주지 않도록 인터럽트 상태 해제
+    }
+  }
+
+  private HedgingExecutor createHedgingExecutor(double maxHedgeRatio) {
+    return new HedgingExecutor(
+        "test.hedge",
+        executor,
+        meterRegistry,
+        maxHedgeRatio,
+        10,
+        1,
+        Duration.ofMillis(20)
+    );
+  }
+
+  private void awaitSlowCall() {
+    try {
+      slowCallLatch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
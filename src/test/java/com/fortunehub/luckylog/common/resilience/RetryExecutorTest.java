@@ -0,0 +1,73 @@
+package com.fortunehub.luckylog.common.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RetryExecutorTest {
+
+  private final RetryExecutor retryExecutor = new RetryExecutor(
+      "test.retry",
+      new SimpleMeterRegistry(),
+      e -> e instanceof CustomException ce && ce.getErrorCode() == ErrorCode.GEMINI_OVERLOAD,
+      3,
+      Duration.ofMillis(1),
+      Duration.ofMillis(5)
+  );
+
+  @Test
+  @DisplayName("재시도 대상 오류가 발생하면 성공할 때까지 재시도한다")
+  void execute_whenRetryableFailure_thenRetries() {
+    // given
+    AtomicInteger attempts = new AtomicInteger();
+
+    // when
+    String result = retryExecutor.execute(() -> {
+      if (attempts.incrementAndGet() < 3) {
+        throw new CustomException(ErrorCode.GEMINI_OVERLOAD);
+      }
+      return "success";
+    });
+
+    // then
+    assertThat(result).isEqualTo("success");
+    assertThat(attempts).hasValue(3);
+  }
+
+  @Test
+  @DisplayName("최대 시도 횟수를 넘기면 마지막 예외가 발생한다")
+  void execute_whenExceedsMaxAttempts_thenThrowsException() {
+    // given
+    AtomicInteger attempts = new AtomicInteger();
+
+    // when & then
+    assertThatThrownBy(() -> retryExecutor.execute(() -> {
+      attempts.incrementAndGet();
+      throw new CustomException(ErrorCode.GEMINI_OVERLOAD);
+    })).isInstanceOf(CustomException.class);
+
+    assertThat(attempts).hasValue(3);
+  }
+
+  @Test
+  @DisplayName("재시도 대상이 아닌 오류는 즉시 예외가 발생한다")
+  void execute_whenNonRetryableFailure_thenThrowsImmediately() {
+    // given
+    AtomicInteger attempts = new AtomicInteger();
+
+    // when & then
+    assertThatThrownBy(() -> retryExecutor.execute(() -> {
+      attempts.incrementAndGet();
+      throw new CustomException(ErrorCode.GEMINI_RESPONSE_PARSE_ERROR);
+    })).isInstanceOf(CustomException.class);
+
+    assertThat(attempts).hasValue(1);
+  }
+}
@@ -2,14 +2,21 @@ package com.fortunehub.luckylog.controller.api.fortune;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fortunehub.luckylog.common.limit.ClientRateLimiter;
+import com.fortunehub.luckylog.common.limit.RequestPriority;
 import com.fortunehub.luckylog.config.SecurityConfig;
 import com.fortunehub.luckylog.controller.web.fortune.form.BirthInfoForm;
 import com.fortunehub.luckylog.controller.web.fortune.form.FortuneOptionForm;
@@ -23,8 +30,15 @@ import com.fortunehub.luckylog.domain.fortune.PeriodValue;
 import com.fortunehub.luckylog.domain.fortune.TimeType;
 import com.fortunehub.luckylog.dto.request.fortune.GenerateFortuneRequest;
 import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import com.fortunehub.luckylog.exception.RateLimitExceededException;
+import com.fortunehub.luckylog.service.fortune.FortuneIdempotencyService;
 import com.fortunehub.luckylog.service.fortune.FortuneService;
+import com.fortunehub.luckylog.service.fortune.FortuneStreamService;
 import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -45,9 +59,26 @@ class ExternalFortuneControllerTest {
   @MockitoBean
   private FortuneService fortuneService;
 
+  @MockitoBean
+  private FortuneStreamService fortuneStreamService;
+
+  @MockitoBean
+  private ClientRateLimiter clientRateLimiter;
+
+  @MockitoBean
+  private FortuneIdempotencyService fortuneIdempotencyService;
+
   @Autowired
   private ObjectMapper objectMapper;
 
+  // Idempotency-Key 처리는 FortuneIdempotencyServiceTest에서 검증, 여기서는 생성 요청을 그대로 실행
+  @BeforeEach
+  void setUp() {
+    when(fortuneIdempotencyService.execute(any(), any(), any(), any()))
+        .thenAnswer(invocation ->
+            invocation.<Supplier<List<FortuneResponse>>>getArgument(3).get());
+  }
+
   @Test
   @DisplayName("정상적인 운세 생성 요청 시 운세가 생성되고 200 응답한다")
   void generateFortune_WhenValidRequest_ThenReturnsOk() throws Exception {
@@ -58,7 +89,8 @@ class ExternalFortuneControllerTest {
     when(fortuneService.generateFortune(
         any(BirthInfoForm.class),
         any(FortuneOptionForm.class),
-        anyInt()
+        anyInt(),
+        eq(RequestPriority.EXTERNAL_API)
     )).thenReturn(responses);
 
     // when & then
@@ -76,7 +108,8 @@ class ExternalFortuneControllerTest {
     verify(fortuneService).generateFortune(
         any(BirthInfoForm.class),
         any(FortuneOptionForm.class),
-        anyInt());
+        anyInt(),
+        eq(RequestPriority.EXTERNAL_API));
   }
 
   @Test
@@ -99,7 +132,29 @@ class ExternalFortuneControllerTest {
     verify(fortuneService, never()).generateFortune(
         any(BirthInfoForm.class),
         any(FortuneOptionForm.class),
-        anyInt());
+        anyInt(),
+        eq(RequestPriority.EXTERNAL_API));
+  }
+
+  @Test
+  @DisplayName("출생 연도가 올해 이후이면 400을 응답하고 운세를 생성하지 않는다")
+  void generateFortune_WhenBirthYearInFuture_ThenReturnsBadRequest() throws Exception {
+    // given
+    GenerateFortuneRequest request = createGenerateFortuneRequest();
+    request.getBirthInfo().setYear(5000);
+
+    // when & then
+    mockMvc.perform(post("/api/v2/external/fortunes")
+               .contentType(MediaType.APPLICATION_JSON)
+               .content(objectMapper.writeValueAsString(request)))
+           .andExpect(status().isBadRequest())
+           .andExpect(jsonPath("$.code").value("VALIDATION_FAILED"));
+
+    verify(fortuneService, never()).generateFortune(
+        any(BirthInfoForm.class),
+        any(FortuneOptionForm.class),
+        anyInt(),
+        eq(RequestPriority.EXTERNAL_API));
   }
 
   @Test
@@ -122,7 +177,101 @@ class ExternalFortuneControllerTest {
     verify(fortuneService, never()).generateFortune(
         any(BirthInfoForm.class),
         any(FortuneOptionForm.class),
-        anyInt());
+        anyInt(),
+        eq(RequestPriority.EXTERNAL_API));
+  }
+
+  @Test
+  @DisplayName("Idempotency-Key 헤더를 client 정보와 함께 전달한다")
+  void generateFortune_WhenIdempotencyKeyGiven_ThenPassesKey() throws Exception {
+    // given
+    GenerateFortuneRequest request = createGenerateFortuneRequest();
+
+    when(fortuneService.generateFortune(
+        any(BirthInfoForm.class),
+        any(FortuneOptionForm.class),
+        anyInt(),
+        eq(RequestPriority.EXTERNAL_API)
+    )).thenReturn(createFortuneResponses());
+
+    // when & then
+    mockMvc.perform(post("/api/v2/external/fortunes")
+               .header("Idempotency-Key", "order-1234")
+               .contentType(MediaType.APPLICATION_JSON)
+               .content(objectMapper.writeValueAsString(request)))
+           .andExpect(status().isOk())
+           .andExpect(jsonPath("$[0].fortune").value("love"));
+
+    verify(fortuneIdempotencyService).execute(
+        eq("127.0.0.1"), eq("order-1234"), any(GenerateFortuneRequest.class), any());
+  }
+
+  @Test
+  @DisplayName("client별 요청 한도를 넘으면 Retry-After와 함께 429를 응답하고 운세를 생성하지 않는다")
+  void generateFortune_WhenRateLimited_ThenReturnsTooManyRequests() throws Exception {
+    // given
+    GenerateFortuneRequest request = createGenerateFortuneRequest();
+
+    doThrow(new RateLimitExceededException(3)).when(clientRateLimiter).check(anyString());
+
+    // when & then
+    mockMvc.perform(post("/api/v2/external/fortunes")
+               .contentType(MediaType.APPLICATION_JSON)
+               .content(objectMapper.writeValueAsString(request)))
+           .andExpect(status().isTooManyRequests())
+           .andExpect(header().string("Retry-After", "3"))
+           .andExpect(jsonPath("$.code").value("EXTERNAL_API_RATE_LIMITED"))
+           .andExpect(jsonPath("$.timestamp").exists());
+
+    verify(fortuneService, never()).generateFortune(
+        any(BirthInfoForm.class),
+        any(FortuneOptionForm.class),
+        anyInt(),
+        eq(RequestPriority.EXTERNAL_API));
+  }
+
+  @Test
+  @DisplayName("스트리밍 요청이 client별 요청 한도를 넘으면 SSE 요청이어도 JSON 오류와 함께 429를 응답한다")
+  void streamFortune_WhenRateLimited_ThenReturnsTooManyRequests() throws Exception {
+    // given
+    GenerateFortuneRequest request = createGenerateFortuneRequest();
+
+    doThrow(new RateLimitExceededException(3)).when(clientRateLimiter).check(anyString());
+
+    // when & then
+    mockMvc.perform(post("/api/v2/external/fortunes/stream")
+               .accept(MediaType.TEXT_EVENT_STREAM)
+               .contentType(MediaType.APPLICATION_JSON)
+               .content(objectMapper.writeValueAsString(request)))
+           .andExpect(status().isTooManyRequests())
+           .andExpect(header().string("Retry-After", "3"))
+           .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+           .andExpect(jsonPath("$.code").value("EXTERNAL_API_RATE_LIMITED"));
+
+    verify(fortuneStreamService, never()).stream(any(), any(), anyInt(), any());
+  }
+
+  @Test
+  @DisplayName("스트리밍 작업 큐가 가득 차면 SSE 요청이어도 JSON 오류와 함께 503을 응답한다")
+  void streamFortune_WhenRejected_ThenReturnsServiceUnavailable() throws Exception {
+    // given
+    GenerateFortuneRequest request = createGenerateFortuneRequest();
+
+    when(fortuneStreamService.stream(
+        any(BirthInfoForm.class),
+        any(FortuneOptionForm.class),
+        anyInt(),
+        eq(RequestPriority.EXTERNAL_API)))
+        .thenThrow(new CustomException(ErrorCode.FORTUNE_JOB_REJECTED));
+
+    // when & then
+    mockMvc.perform(post("/api/v2/external/fortunes/stream")
+               .accept(MediaType.TEXT_EVENT_STREAM)
+               .contentType(MediaType.APPLICATION_JSON)
+               .content(objectMapper.writeValueAsString(request)))
+           .andExpect(status().isServiceUnavailable())
+           .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+           .andExpect(jsonPath("$.code").value("FORTUNE_JOB_REJECTED"));
   }
 
   @Test
@@ -134,7 +283,8 @@ class ExternalFortuneControllerTest {
     when(fortuneService.generateFortune(
         any(BirthInfoForm.class),
         any(FortuneOptionForm.class),
-        anyInt()))
+        anyInt(),
+        eq(RequestPriority.EXTERNAL_API)))
         .thenThrow(new RuntimeException("예상치 못한 오류 발생"));
 
     // when & then
@@ -149,7 +299,8 @@ class ExternalFortuneControllerTest {
     verify(fortuneService).generateFortune(
         any(BirthInfoForm.class),
         any(FortuneOptionForm.class),
-        anyInt());
+        anyInt(),
+        eq(RequestPriority.EXTERNAL_API));
   }
 
   private List<FortuneResponse> createFortuneResponses() {
@@ -0,0 +1,288 @@
+package com.fortunehub.luckylog.service.fortune;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.domain.fortune.PeriodValue;
+import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.util.DigestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("외부 API Idempotency-Key Service")
+class FortuneIdempotencyServiceTest {
+
+  private static final String CLIENT = "203.0.113.7";
+  private static final String KEY = "order-1234";
+  private static final Map<String, String> REQUEST = Map.of("birthDate", "1995-02-16");
+  private static final String KEY_HASH = DigestUtils.md5DigestAsHex(
+      (CLIENT + "\n" + KEY).getBytes(StandardCharsets.UTF_8));
+  private static final String RESULT_KEY = "fortune:idempotency:" + KEY_HASH;
+  private static final String IN_FLIGHT_KEY = "fortune:idempotency:in-flight:" + KEY_HASH;
+
+  @Mock
+  private StringRedisTemplate redisTemplate;
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicInteger generations = new AtomicInteger();
+  private FortuneIdempotencyService service;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    // 다른 노드에서 처리 중인 요청이 없는 상황으로 가정
+    lenient().when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+             .thenReturn(true);
+    service = createService(Duration.ofSeconds(5));
+  }
+
+  @Test
+  @DisplayName("처리 중인 요청과 같은 key로 재시도하면 다시 생성하지 않고 처음 요청의 결과를 기다린다")
+  void execute_whenRetriedInFlight_thenAttachesToFirstRequest() throws Exception {
+    // given
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<List<FortuneResponse>> first = CompletableFuture.supplyAsync(
+        () -> service.execute(CLIENT, KEY, REQUEST, () -> {
+          started.countDown();
+          await(release);
+          return generate();
+        }));
+    assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    CompletableFuture<List<FortuneResponse>> retry = CompletableFuture.supplyAsync(
+        () -> service.execute(CLIENT, KEY, REQUEST, this::generate));
+    Thread.sleep(100); // 재시도가 처음 요청의 결과를 기다리는 상태
+    release.countDown();
+
+    // then
+    assertThat(retry.get(1, TimeUnit.SECONDS)).isSameAs(first.get(1, TimeUnit.SECONDS));
+    assertThat(generations.get()).isEqualTo(1);
+    assertThat(meterRegistry.get("fortune.idempotency.requests")
+                            .tag("result", "attached").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("완료된 요청과 같은 key로 재시도하면 저장된 결과로 응답한다")
+  void execute_whenRetriedAfterCompletion_thenReplaysResult() {
+    // given
+    List<FortuneResponse> first = service.execute(CLIENT, KEY, REQUEST, this::generate);
+
+    // when
+    List<FortuneResponse> retry = service.execute(CLIENT, KEY, REQUEST, this::generate);
+
+    // then
+    assertThat(retry).isSameAs(first);
+    assertThat(generations.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("다른 노드에서 완료된 요청이면 Redis에 저장된 결과로 응답한다")
+  void execute_whenCompletedOnOtherNode_thenReplaysFromRedis() throws Exception {
+    // given
+    List<FortuneResponse> first = service.execute(CLIENT, KEY, REQUEST, this::generate);
+    FortuneIdempotencyService otherNode = createService(Duration.ofSeconds(5));
+    given(valueOperations.get(anyString())).willReturn(objectMapper.writeValueAsString(
+        new FortuneIdempotencyService.StoredResult(fingerprint(), first)));
+
+    // when
+    List<FortuneResponse> retry = otherNode.execute(CLIENT, KEY, REQUEST, this::generate);
+
+    // then
+    assertThat(retry).extracting(FortuneResponse::getResult).containsExactly("연애운 좋음");
+    assertThat(generations.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("다른 노드에서 처리 중이면 다시 생성하지 않고 Redis에 결과가 저장될 때까지 기다린다")
+  void execute_whenInFlightOnOtherNode_thenWaitsForStoredResult() throws Exception {
+    // given
+    given(valueOperations.setIfAbsent(eq(IN_FLIGHT_KEY), anyString(), any(Duration.class)))
+        .willReturn(false);
+    given(valueOperations.get(IN_FLIGHT_KEY)).willReturn(fingerprint() + ":other-node");
+    given(valueOperations.get(RESULT_KEY)).willReturn(null, objectMapper.writeValueAsString(
+        new FortuneIdempotencyService.StoredResult(fingerprint(), generateOnOtherNode())));
+
+    // when
+    List<FortuneResponse> retry = service.execute(CLIENT, KEY, REQUEST, this::generate);
+
+    // then
+    assertThat(retry).extracting(FortuneResponse::getResult).containsExactly("연애운 좋음");
+    assertThat(generations.get()).isZero();
+    assertThat(meterRegistry.get("fortune.idempotency.requests")
+                            .tag("result", "attached").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("다른 노드에서 처리 중인 요청이 최대 대기 시간 안에 끝나지 않으면 409로 응답한다")
+  void execute_whenInFlightOnOtherNodeTooLong_thenRejects() throws Exception {
+    // given
+    FortuneIdempotencyService shortWait = createService(Duration.ofMillis(50));
+    given(valueOperations.setIfAbsent(eq(IN_FLIGHT_KEY), anyString(), any(Duration.class)))
+        .willReturn(false);
+    given(valueOperations.get(IN_FLIGHT_KEY)).willReturn(fingerprint() + ":other-node");
+    given(valueOperations.get(RESULT_KEY)).willReturn(null);
+
+    // when & then
+    assertThatThrownBy(() -> shortWait.execute(CLIENT, KEY, REQUEST, this::generate))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS.getMessage());
+    assertThat(generations.get()).isZero();
+  }
+
+  @Test
+  @DisplayName("생성이 끝나면 결과를 저장하고 본인이 남긴 처리 중 표시만 지운다")
+  void execute_whenGenerated_thenStoresResultAndClearsOwnInFlight() throws Exception {
+    // when
+    service.execute(CLIENT, KEY, REQUEST, this::generate);
+
+    // then
+    ArgumentCaptor<String> markerCaptor = ArgumentCaptor.forClass(String.class);
+    verify(valueOperations).setIfAbsent(
+        eq(IN_FLIGHT_KEY), markerCaptor.capture(), any(Duration.class));
+    String marker = markerCaptor.getValue();
+    assertThat(marker).startsWith(fingerprint() + ":");
+
+    verify(valueOperations).set(eq(RESULT_KEY), anyString(), eq(Duration.ofHours(24)));
+    verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(IN_FLIGHT_KEY)), eq(marker));
+    verify(redisTemplate, never()).delete(anyString());
+  }
+
+  @Test
+  @DisplayName("생성이 길어지면 처리 중 표시의 만료 시간을 연장한다")
+  void execute_whenGenerationIsLong_thenRenewsInFlight() {
+    // given
+    FortuneIdempotencyService shortInFlight = createService(
+        Duration.ofSeconds(5), Duration.ofMillis(30)); // 10ms마다 연장
+
+    // when
+    shortInFlight.execute(CLIENT, KEY, REQUEST, () -> {
+      sleep(100);
+      return generate();
+    });
+
+    // then
+    verify(redisTemplate, atLeastOnce()).execute(
+        any(RedisScript.class), eq(List.of(IN_FLIGHT_KEY)), anyString(), eq("30"));
+  }
+
+  @Test
+  @DisplayName("같은 key로 다른 요청 본문을 보내면 422로 거절한다")
+  void execute_whenBodyDiffers_thenRejects() {
+    // given
+    service.execute(CLIENT, KEY, REQUEST, this::generate);
+
+    // when & then
+    assertThatThrownBy(() -> service.execute(
+        CLIENT, KEY, Map.of("birthDate", "2000-01-01"), this::generate))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(ErrorCode.IDEMPOTENCY_KEY_REUSED.getMessage());
+    assertThat(generations.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("생성에 실패한 요청은 보관하지 않아 같은 key로 다시 생성할 수 있다")
+  void execute_whenGenerationFails_thenAllowsRetry() {
+    // given
+    assertThatThrownBy(() -> service.execute(CLIENT, KEY, REQUEST, () -> {
+      throw new CustomException(ErrorCode.GEMINI_OVERLOAD);
+    })).isInstanceOf(CustomException.class);
+
+    // when
+    List<FortuneResponse> retry = service.execute(CLIENT, KEY, REQUEST, this::generate);
+
+    // then
+    assertThat(retry).hasSize(1);
+    assertThat(generations.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("key는 client별로 구분하고, key가 없으면 매번 생성한다")
+  void execute_whenOtherClientOrNoKey_thenGenerates() {
+    // when
+    service.execute(CLIENT, KEY, REQUEST, this::generate);
+    service.execute("198.51.100.1", KEY, REQUEST, this::generate);
+    service.execute(CLIENT, null, REQUEST, this::generate);
+    service.execute(CLIENT, null, REQUEST, this::generate);
+
+    // then
+    assertThat(generations.get()).isEqualTo(4);
+  }
+
+  private FortuneIdempotencyService createService(Duration maxWait) {
+    return createService(maxWait, Duration.ofMinutes(3));
+  }
+
+  private FortuneIdempotencyService createService(Duration maxWait, Duration inFlightTtl) {
+    return new FortuneIdempotencyService(
+        redisTemplate, objectMapper, meterRegistry,
+        Duration.ofHours(24), 100, maxWait, inFlightTtl, Duration.ofMillis(10));
+  }
+
+  private List<FortuneResponse> generate() {
+    generations.incrementAndGet();
+    return generateOnOtherNode();
+  }
+
+  private List<FortuneResponse> generateOnOtherNode() {
+    FortuneResponse response = new FortuneResponse();
+    response.setFortune(FortuneType.LOVE);
+    response.setPeriodValue(PeriodValue.JANUARY);
+    response.setResult("연애운 좋음");
+    return List.of(response);
+  }
+
+  private String fingerprint() throws Exception {
+    return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(REQUEST));
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(1, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
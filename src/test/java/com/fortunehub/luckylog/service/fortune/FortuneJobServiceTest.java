@@ -0,0 +1,235 @@
+package com.fortunehub.luckylog.service.fortune;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fortunehub.luckylog.common.limit.RequestPriority;
+import com.fortunehub.luckylog.controller.web.fortune.form.BirthInfoForm;
+import com.fortunehub.luckylog.controller.web.fortune.form.FortuneOptionForm;
+import com.fortunehub.luckylog.domain.fortune.FortuneJob;
+import com.fortunehub.luckylog.domain.fortune.FortuneJobStatus;
+import com.fortunehub.luckylog.domain.fortune.FortuneType;
+import com.fortunehub.luckylog.domain.fortune.PeriodValue;
+import com.fortunehub.luckylog.dto.response.fortune.FortuneResponse;
+import com.fortunehub.luckylog.exception.CustomException;
+import com.fortunehub.luckylog.exception.ErrorCode;
+import com.fortunehub.luckylog.repository.fortune.FortuneJobRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("운세 생성 작업 Service")
+class FortuneJobServiceTest {
+
+  private static final int TEST_YEAR = 2025;
+  private static final String SESSION_ID = "session-1";
+
+  @Mock
+  private FortuneService fortuneService;
+  @Mock
+  private FortuneJobRepository fortuneJobRepository;
+
+  @Test
+  @DisplayName("작업을 등록하면 즉시 jobId를 반환하고 생성 결과를 작업에 저장한다")
+  void submit_whenGenerationSucceeds_thenJobCompleted() {
+    // given
+    FortuneJobService service = createService(Runnable::run); // 동기 실행
+    FortuneResponse response = new FortuneResponse();
+    response.setFortune(FortuneType.LOVE);
+    response.setPeriodValue(PeriodValue.JANUARY);
+    response.setResult("연애운 좋음");
+
+    willAnswer(invocation -> {
+      invocation.<Consumer<FortuneResponse>>getArgument(4).accept(response);
+      return List.of(response);
+    }).given(fortuneService).generateFortune(
+        any(BirthInfoForm.class), any(FortuneOptionForm.class), anyInt(),
+        eq(RequestPriority.ANONYMOUS_WEB), any());
+
+    // when
+    String jobId = service.submit(SESSION_ID, new BirthInfoForm(), new FortuneOptionForm(),
+        TEST_YEAR, RequestPriority.ANONYMOUS_WEB);
+
+    // then
+    ArgumentCaptor<FortuneJob> jobCaptor = ArgumentCaptor.forClass(FortuneJob.class);
+    verify(fortuneJobRepository, times(2)).save(jobCaptor.capture());
+
+    FortuneJob saved = jobCaptor.getValue();
+    assertThat(saved.getId()).isEqualTo(jobId);
+    assertThat(saved.getStatus()).isEqualTo(FortuneJobStatus.COMPLETED);
+    assertThat(saved.getResponses()).containsExactly(response);
+  }
+
+  @Test
+  @DisplayName("작업 등록 시점에는 PENDING 상태로 저장된다")
+  void submit_whenQueued_thenJobPending() {
+    // given
+    FortuneJobService service = createService(task -> {
+      // 실행되지 않고 큐에 대기
+    });
+
+    // when
+    service.submit(SESSION_ID, new BirthInfoForm(), new FortuneOptionForm(),
+        TEST_YEAR, RequestPriority.ANONYMOUS_WEB);
+
+    // then
+    ArgumentCaptor<FortuneJob> jobCaptor = ArgumentCaptor.forClass(FortuneJob.class);
+    verify(fortuneJobRepository).save(jobCaptor.capture());
+    assertThat(jobCaptor.getValue().getStatus()).isEqualTo(FortuneJobStatus.PENDING);
+    verify(fortuneService, never()).generateFortune(any(), any(), anyInt(), any(), any());
+  }
+
+  @Test
+  @DisplayName("생성 중 예외가 발생하면 작업은 FAILED 상태가 된다")
+  void submit_whenGenerationFails_thenJobFailed() {
+    // given
+    FortuneJobService service = createService(Runnable::run);
+
+    willThrow(new CustomException(ErrorCode.GEMINI_OVERLOAD))
+        .given(fortuneService).generateFortune(
+            any(BirthInfoForm.class), any(FortuneOptionForm.class), anyInt(),
+            eq(RequestPriority.ANONYMOUS_WEB), any());
+
+    // when
+    service.submit(SESSION_ID, new BirthInfoForm(), new FortuneOptionForm(),
+        TEST_YEAR, RequestPriority.ANONYMOUS_WEB);
+
+    // then
+    ArgumentCaptor<FortuneJob> jobCaptor = ArgumentCaptor.forClass(FortuneJob.class);
+    verify(fortuneJobRepository, times(2)).save(jobCaptor.capture());
+
+    FortuneJob saved = jobCaptor.getValue();
+    assertThat(saved.getStatus()).isEqualTo(FortuneJobStatus.FAILED);
+    assertThat(saved.getErrorCode()).isEqualTo(ErrorCode.GEMINI_OVERLOAD);
+  }
+
+  @Test
+  @DisplayName("작업 큐가 가득 차면 즉시 예외가 발생한다")
+  void submit_whenExecutorRejects_thenThrowsException() {
+    // given
+    FortuneJobService service = createService(task -> {
+      throw new RejectedExecutionException("queue full");
+    });
+
+    // when & then
+    assertThatThrownBy(
+        () -> service.submit(SESSION_ID, new BirthInfoForm(), new FortuneOptionForm(),
+        TEST_YEAR, RequestPriority.ANONYMOUS_WEB))
+        .isInstanceOf(CustomException.class)
+        .hasMessageContaining(ErrorCode.FORTUNE_JOB_REJECTED.getMessage());
+
+    verify(fortuneService, never()).generateFortune(any(), any(), anyInt(), any(), any());
+  }
+
+  @Test
+  @DisplayName("작업 결과 저장에 실패해도 예외를 전파하지 않는다")
+  void submit_whenResultSaveFails_thenDoesNotPropagate() {
+    // given
+    FortuneJobService service = createService(Runnable::run);
+    willAnswer(invocation -> {
+      if (invocation.<FortuneJob>getArgument(0).getStatus() == FortuneJobStatus.COMPLETED) {
+        throw new IllegalStateException("redis down");
+      }
+      return null;
+    }).given(fortuneJobRepository).save(any(FortuneJob.class));
+
+    // when
+    String jobId = service.submit(SESSION_ID, new BirthInfoForm(), new FortuneOptionForm(),
+        TEST_YEAR, RequestPriority.ANONYMOUS_WEB);
+
+    // then
+    assertThat(jobId).isNotBlank();
+  }
+
+  @Test
+  @DisplayName("작업은 등록한 세션에서만 조회할 수 있다")
+  void findJob_whenOtherSession_thenReturnsEmpty() {
+    // given
+    FortuneJobService service = createService(Runnable::run);
+    FortuneJob job = FortuneJob.pending(SESSION_ID, new FortuneOptionForm(), TEST_YEAR);
+    given(fortuneJobRepository.findById(job.getId())).willReturn(Optional.of(job));
+
+    // when & then
+    assertThat(service.findJob(job.getId(), SESSION_ID)).contains(job);
+    assertThat(service.findJob(job.getId(), "session-2")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("생성 중 받은 결과는 작업에 저장하고, 완료 시 생성 결과 전체를 저장한다")
+  void submit_whenTypesLoaded_thenSavesPartialAndReturnedResult() {
+    // given
+    FortuneJobService service = new FortuneJobService(
+        fortuneService, fortuneJobRepository, Runnable::run, Duration.ZERO);
+    FortuneOptionForm option = new FortuneOptionForm();
+    option.setFortunes(List.of(FortuneType.LOVE, FortuneType.HEALTH));
+
+    List<FortuneJobStatus> savedStatuses = new ArrayList<>();
+    List<Integer> savedCounts = new ArrayList<>();
+    willAnswer(invocation -> {
+      FortuneJob job = invocation.getArgument(0);
+      savedStatuses.add(job.getStatus());
+      savedCounts.add(job.getResponses() == null ? 0 : job.getResponses().size());
+      return null;
+    }).given(fortuneJobRepository).save(any(FortuneJob.class));
+
+    willAnswer(invocation -> {
+      Consumer<FortuneResponse> onResponse = invocation.getArgument(4);
+      FortuneResponse love = createResponse(FortuneType.LOVE);
+      FortuneResponse health = createResponse(FortuneType.HEALTH);
+      onResponse.accept(health); // 캐시된 종류가 먼저 도착
+      onResponse.accept(love);
+      return List.of(love, health);
+    }).given(fortuneService).generateFortune(
+        any(BirthInfoForm.class), any(FortuneOptionForm.class), anyInt(),
+        eq(RequestPriority.ANONYMOUS_WEB), any());
+
+    // when
+    service.submit(SESSION_ID, new BirthInfoForm(), option, TEST_YEAR,
+        RequestPriority.ANONYMOUS_WEB);
+
+    // then
+    assertThat(savedStatuses).containsExactly(
+        FortuneJobStatus.PENDING, FortuneJobStatus.PENDING, FortuneJobStatus.PENDING,
+        FortuneJobStatus.COMPLETED);
+    assertThat(savedCounts).containsExactly(0, 1, 2, 2);
+
+    ArgumentCaptor<FortuneJob> jobCaptor = ArgumentCaptor.forClass(FortuneJob.class);
+    verify(fortuneJobRepository, times(4)).save(jobCaptor.capture());
+    assertThat(jobCaptor.getValue().getResponses())
+        .extracting(FortuneResponse::getFortune)
+        .containsExactly(FortuneType.LOVE, FortuneType.HEALTH);
+  }
+
+  private FortuneResponse createResponse(FortuneType fortune) {
+    FortuneResponse response = new FortuneResponse();
+    response.setFortune(fortune);
+    response.setPeriodValue(PeriodValue.YEAR);
+    response.setResult(fortune.getTooltip() + "운 좋음");
+    return response;
+  }
+
+  private FortuneJobService createService(Executor executor) {
+    return new FortuneJobService(
+        fortuneService, fortuneJobRepository, executor, Duration.ofMillis(500));
+  }
+}